@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.io;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures growing a {@link WriteBuffer} from empty to a message of a given size,
+ * with and without a {@link BufferPool}, and reading a message back with a {@link ReadBuffer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferBenchmark {
+    /** The size of each write while growing a buffer, typical of a marshalled field or string */
+    private static final int SLICE = 64;
+
+    @Param({"256", "16384", "1048576"})
+    int messageSize;
+
+    @Param({"true", "false"})
+    boolean pooled;
+
+    private BufferPool pool;
+    private final byte[] slice = new byte[SLICE];
+    private byte[] message;
+    private byte[] target;
+
+    @Setup
+    public void setup() {
+        pool = pooled ? new BufferPool() : null;
+        message = new byte[messageSize];
+        for (int i = 0; i < messageSize; i++) message[i] = (byte) i;
+        target = new byte[messageSize];
+    }
+
+    @Benchmark
+    public int growBySlices() {
+        WriteBuffer out = Buffer.createWriteBuffer(pool, 0);
+        for (int written = 0; written < messageSize; written += SLICE) {
+            out.ensureAvailable(SLICE);
+            out.writeBytes(slice);
+        }
+        int result = out.getPosition();
+        out.recycle();
+        return result;
+    }
+
+    @Benchmark
+    public int growByInts() {
+        WriteBuffer out = Buffer.createWriteBuffer(pool, 0);
+        for (int i = 0; i < messageSize; i += 4) {
+            out.ensureAvailable(4);
+            out.writeInt(i);
+        }
+        int result = out.getPosition();
+        out.recycle();
+        return result;
+    }
+
+    @Benchmark
+    public int readInts() {
+        ReadBuffer in = Buffer.createReadBuffer(message);
+        int sum = 0;
+        for (int i = 0; i < messageSize; i += 4) sum += in.readInt();
+        return sum;
+    }
+
+    @Benchmark
+    public byte[] readBytes() {
+        return Buffer.createReadBuffer(message).readBytes(target);
+    }
+}
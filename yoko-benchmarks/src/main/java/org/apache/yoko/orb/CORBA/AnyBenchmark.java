@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.StructMember;
+import org.omg.CORBA.TypeCode;
+import org.omg.CORBA.portable.OutputStream;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.omg.CORBA.TCKind.tk_double;
+import static org.omg.CORBA.TCKind.tk_long;
+import static org.omg.CORBA.TCKind.tk_string;
+
+/**
+ * Measures inserting values into and extracting them from an {@link AnyImpl},
+ * and copying, comparing and marshalling an Any that holds a struct,
+ * as DII, DSI, DynAny and event channel traffic do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnyBenchmark {
+    private ORB orb;
+    private TypeCode structType;
+    private Any structAny;
+    private Any otherStructAny;
+    private byte[] encodedStructAny;
+
+    @Setup
+    public void setup() {
+        orb = ORB.init((String[]) null, null);
+        structType = orb.create_struct_tc("IDL:bench/Reading:1.0", "Reading", new StructMember[]{
+                new StructMember("sensor", orb.get_primitive_tc(tk_string), null),
+                new StructMember("sequence", orb.get_primitive_tc(tk_long), null),
+                new StructMember("value", orb.get_primitive_tc(tk_double), null)});
+        structAny = createStructAny();
+        otherStructAny = createStructAny();
+        OutputStream out = orb.create_output_stream();
+        out.write_any(structAny);
+        encodedStructAny = ((YokoOutputStream) out).getBufferReader().copyRemainingBytes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        orb.destroy();
+    }
+
+    /** Insert a struct as generated helpers do, by reading its value from a stream */
+    private Any createStructAny() {
+        OutputStream out = orb.create_output_stream();
+        out.write_string("thermometer-1");
+        out.write_long(42);
+        out.write_double(21.5);
+        Any any = orb.create_any();
+        any.read_value(out.create_input_stream(), structType);
+        return any;
+    }
+
+    @Benchmark
+    public int insertExtractLong() {
+        Any any = orb.create_any();
+        any.insert_long(42);
+        return any.extract_long();
+    }
+
+    @Benchmark
+    public double insertExtractDouble() {
+        Any any = orb.create_any();
+        any.insert_double(21.5);
+        return any.extract_double();
+    }
+
+    @Benchmark
+    public String insertExtractString() {
+        Any any = orb.create_any();
+        any.insert_string("thermometer-1");
+        return any.extract_string();
+    }
+
+    @Benchmark
+    public Any insertStruct() {
+        return createStructAny();
+    }
+
+    @Benchmark
+    public double extractStruct() {
+        org.omg.CORBA.portable.InputStream in = structAny.create_input_stream();
+        in.read_string();
+        in.read_long();
+        return in.read_double();
+    }
+
+    @Benchmark
+    public Any copyStruct() {
+        return new AnyImpl(structAny);
+    }
+
+    @Benchmark
+    public boolean equalStruct() {
+        return structAny.equal(otherStructAny);
+    }
+
+    @Benchmark
+    public OutputStream writeStruct() {
+        OutputStream out = orb.create_output_stream();
+        out.write_any(structAny);
+        return out;
+    }
+
+    @Benchmark
+    public Any readStruct() {
+        return new YokoInputStream(encodedStructAny).read_any();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.apache.yoko.orb.OB.CodeSetInfo;
+import org.apache.yoko.orb.OB.CodecPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.yoko.orb.OCI.GiopVersion.GIOP1_2;
+
+/**
+ * Measures writing and reading CDR primitives, strings, wide strings and arrays
+ * with {@link YokoOutputStream} and {@link YokoInputStream}, for each kind of char codec:
+ * ISO Latin-1 (one byte per char, no conversion), UTF-8 (variable width),
+ * and another Latin code set (one byte per char, converted by table).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CdrBenchmark {
+    private static final String TEXT = "The quick brown fox jumps over the lazy dog. ";
+    private static final String WIDE_TEXT = "Gr\u00fc\u00dfe, \u039a\u03b1\u03bb\u03b7\u03bc\u03ad\u03c1\u03b1, \u041f\u0440\u0438\u0432\u0435\u0442! ";
+
+    @Param({"ISO_LATIN_1", "UTF_8", "ISO_8859_5"})
+    String charCodeSet;
+
+    @Param({"64", "4096"})
+    int size;
+
+    private CodecPair codecs;
+    private String string;
+    private String wstring;
+    private int[] longs;
+    private double[] doubles;
+    private byte[] octets;
+
+    private byte[] encodedPrimitives;
+    private byte[] encodedString;
+    private byte[] encodedWstring;
+    private byte[] encodedLongs;
+    private byte[] encodedDoubles;
+    private byte[] encodedOctets;
+
+    @Setup
+    public void setup() {
+        codecs = CodecPair.create(CodeSetInfo.valueOf(charCodeSet).id, CodeSetInfo.UTF_16.id);
+        string = repeat(TEXT, size);
+        wstring = repeat(WIDE_TEXT, size);
+        longs = new int[size];
+        doubles = new double[size];
+        octets = new byte[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = i * 31;
+            doubles[i] = i / 3.0;
+            octets[i] = (byte) i;
+        }
+        YokoOutputStream out = newOutputStream();
+        writePrimitives(out);
+        encodedPrimitives = bytesOf(out);
+        (out = newOutputStream()).write_string(string);
+        encodedString = bytesOf(out);
+        (out = newOutputStream()).write_wstring(wstring);
+        encodedWstring = bytesOf(out);
+        (out = newOutputStream()).write_long_array(longs, 0, size);
+        encodedLongs = bytesOf(out);
+        (out = newOutputStream()).write_double_array(doubles, 0, size);
+        encodedDoubles = bytesOf(out);
+        (out = newOutputStream()).write_octet_array(octets, 0, size);
+        encodedOctets = bytesOf(out);
+    }
+
+    private static String repeat(String s, int length) {
+        StringBuilder sb = new StringBuilder(length + s.length());
+        while (sb.length() < length) sb.append(s);
+        sb.setLength(length);
+        return sb.toString();
+    }
+
+    private YokoOutputStream newOutputStream() { return new YokoOutputStream(codecs, GIOP1_2); }
+
+    private YokoInputStream newInputStream(byte[] data) { return new YokoInputStream(data, false, codecs, GIOP1_2); }
+
+    private static byte[] bytesOf(YokoOutputStream out) {
+        return Arrays.copyOf(out.getBufferReader().copyRemainingBytes(), out.getPosition());
+    }
+
+    private static void writePrimitives(YokoOutputStream out) {
+        out.write_boolean(true);
+        out.write_octet((byte) 1);
+        out.write_short((short) 2);
+        out.write_long(3);
+        out.write_longlong(4L);
+        out.write_float(5.0f);
+        out.write_double(6.0);
+    }
+
+    @Benchmark
+    public YokoOutputStream writePrimitives() {
+        YokoOutputStream out = newOutputStream();
+        writePrimitives(out);
+        return out;
+    }
+
+    @Benchmark
+    public void readPrimitives(Blackhole bh) {
+        YokoInputStream in = newInputStream(encodedPrimitives);
+        bh.consume(in.read_boolean());
+        bh.consume(in.read_octet());
+        bh.consume(in.read_short());
+        bh.consume(in.read_long());
+        bh.consume(in.read_longlong());
+        bh.consume(in.read_float());
+        bh.consume(in.read_double());
+    }
+
+    @Benchmark
+    public YokoOutputStream writeString() {
+        YokoOutputStream out = newOutputStream();
+        out.write_string(string);
+        return out;
+    }
+
+    @Benchmark
+    public String readString() {
+        return newInputStream(encodedString).read_string();
+    }
+
+    @Benchmark
+    public YokoOutputStream writeWstring() {
+        YokoOutputStream out = newOutputStream();
+        out.write_wstring(wstring);
+        return out;
+    }
+
+    @Benchmark
+    public String readWstring() {
+        return newInputStream(encodedWstring).read_wstring();
+    }
+
+    @Benchmark
+    public YokoOutputStream writeLongArray() {
+        YokoOutputStream out = newOutputStream();
+        out.write_long_array(longs, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public int[] readLongArray() {
+        int[] result = new int[size];
+        newInputStream(encodedLongs).read_long_array(result, 0, size);
+        return result;
+    }
+
+    @Benchmark
+    public YokoOutputStream writeDoubleArray() {
+        YokoOutputStream out = newOutputStream();
+        out.write_double_array(doubles, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public double[] readDoubleArray() {
+        double[] result = new double[size];
+        newInputStream(encodedDoubles).read_double_array(result, 0, size);
+        return result;
+    }
+
+    @Benchmark
+    public YokoOutputStream writeOctetArray() {
+        YokoOutputStream out = newOutputStream();
+        out.write_octet_array(octets, 0, size);
+        return out;
+    }
+
+    @Benchmark
+    public byte[] readOctetArray() {
+        byte[] result = new byte[size];
+        newInputStream(encodedOctets).read_octet_array(result, 0, size);
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.apache.yoko.orb.OB.ORBInstance;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.StructMember;
+import org.omg.CORBA.TypeCode;
+import org.omg.CORBA.UnionMember;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.omg.CORBA.TCKind.tk_double;
+import static org.omg.CORBA.TCKind.tk_long;
+import static org.omg.CORBA.TCKind.tk_string;
+
+/**
+ * Measures comparing, compacting, marshalling and unmarshalling a complex TypeCode:
+ * a union of a struct, a sequence of aliases, and a recursive struct.
+ * Marshalling is measured with and without the ORB's TypeCode caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeCodeBenchmark {
+    @Param({"true", "false"})
+    boolean useTypeCodeCache;
+
+    private ORB orb;
+    private ORBInstance orbInstance;
+    private TypeCode typeCode;
+    private TypeCode equalTypeCode;
+    private TypeCode equivalentTypeCode;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        Properties props = new Properties();
+        props.put("yoko.orb.use_type_code_cache", Boolean.toString(useTypeCodeCache));
+        orb = ORB.init((String[]) null, props);
+        orbInstance = ((ORB_impl) orb)._OB_ORBInstance();
+        typeCode = createTypeCode(orb, false);
+        equalTypeCode = createTypeCode(orb, false);
+        equivalentTypeCode = createTypeCode(orb, true);
+        YokoOutputStream out = (YokoOutputStream) orb.create_output_stream();
+        out.write_TypeCode(typeCode);
+        encoded = out.getBufferReader().copyRemainingBytes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        orb.destroy();
+    }
+
+    /** Create a new TypeCode, optionally wrapping the members in aliases */
+    private static TypeCode createTypeCode(ORB orb, boolean aliased) {
+        TypeCode l = alias(orb, aliased, "Long", orb.get_primitive_tc(tk_long));
+        TypeCode d = alias(orb, aliased, "Double", orb.get_primitive_tc(tk_double));
+        TypeCode s = alias(orb, aliased, "String", orb.get_primitive_tc(tk_string));
+        TypeCode point = orb.create_struct_tc("IDL:bench/Point:1.0", "Point", new StructMember[]{
+                new StructMember("x", d, null),
+                new StructMember("y", d, null),
+                new StructMember("label", s, null)});
+        TypeCode node = orb.create_struct_tc("IDL:bench/Node:1.0", "Node", new StructMember[]{
+                new StructMember("value", l, null),
+                new StructMember("children", orb.create_sequence_tc(0, orb.create_recursive_tc("IDL:bench/Node:1.0")), null)});
+        Any[] labels = new Any[3];
+        for (int i = 0; i < labels.length; i++) (labels[i] = orb.create_any()).insert_long(i);
+        return orb.create_union_tc("IDL:bench/Shape:1.0", "Shape", orb.get_primitive_tc(tk_long), new UnionMember[]{
+                new UnionMember("point", labels[0], point, null),
+                new UnionMember("path", labels[1], orb.create_sequence_tc(0, point), null),
+                new UnionMember("tree", labels[2], node, null)});
+    }
+
+    private static TypeCode alias(ORB orb, boolean aliased, String name, TypeCode tc) {
+        return aliased ? orb.create_alias_tc("IDL:bench/" + name + ":1.0", name, tc) : tc;
+    }
+
+    @Benchmark
+    public boolean equal() {
+        return typeCode.equal(equalTypeCode);
+    }
+
+    @Benchmark
+    public boolean equivalent() {
+        return typeCode.equivalent(equivalentTypeCode);
+    }
+
+    @Benchmark
+    public TypeCode compact() {
+        return equivalentTypeCode.get_compact_typecode();
+    }
+
+    @Benchmark
+    public YokoOutputStream write() {
+        YokoOutputStream out = (YokoOutputStream) orb.create_output_stream();
+        out.write_TypeCode(typeCode);
+        return out;
+    }
+
+    @Benchmark
+    public TypeCode read() {
+        YokoInputStream in = new YokoInputStream(encoded);
+        in._OB_ORBInstance(orbInstance);
+        return in.read_TypeCode();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.OB.ObjectKeyData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Hashtable;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.yoko.orb.OB.ObjectKey.CreateObjectKey;
+import static org.apache.yoko.orb.OB.ObjectKey.ParseObjectKey;
+import static org.apache.yoko.orb.OB.ObjectKey.findObjectIdStart;
+import static org.apache.yoko.orb.OB.ObjectKey.findPoaPathStart;
+
+/**
+ * Compares finding the POA for an incoming object key by parsing the key and hashing the POA names,
+ * as {@link POAManager_impl#_OB_locatePOA} does, with looking up the key bytes in a {@link POAPathIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class POALookupBenchmark {
+    private static final String SERVER_ID = "_RootPOA";
+
+    @Param({"10", "1000"})
+    int poaCount;
+
+    @Param({"1", "4"})
+    int depth;
+
+    private final Hashtable<POANameHasher, String> poasByName = new Hashtable<>();
+    private final POAPathIndex<String> poasByPath = new POAPathIndex<>();
+    private byte[][] keys;
+    private int next;
+
+    @Setup
+    public void setup() {
+        keys = new byte[poaCount][];
+        for (int i = 0; i < poaCount; i++) {
+            String[] poaId = new String[depth];
+            for (int j = 0; j < depth; j++) poaId[j] = "poa-" + j + "-" + i;
+            String poa = String.join("/", poaId);
+            poasByName.put(new POANameHasher(poaId), poa);
+            poasByPath.add(POAPathIndex.encode(SERVER_ID, poaId), poa);
+            byte[] oid = ("object-" + i).getBytes();
+            keys[i] = CreateObjectKey(new ObjectKeyData(SERVER_ID, poaId, oid, false, 1234567890));
+        }
+    }
+
+    private byte[] nextKey() {
+        if (++next == keys.length) next = 0;
+        return keys[next];
+    }
+
+    @Benchmark
+    public String parseKeyAndHashNames() {
+        ObjectKeyData data = new ObjectKeyData();
+        if (!ParseObjectKey(nextKey(), data) || !SERVER_ID.equals(data.serverId)) return null;
+        return poasByName.get(new POANameHasher(data.poaId));
+    }
+
+    @Benchmark
+    public String lookUpKeyBytes() {
+        byte[] key = nextKey();
+        int pathStart = findPoaPathStart(key);
+        if (pathStart < 0) return null;
+        int oidStart = findObjectIdStart(key, pathStart);
+        if (oidStart < 0) return null;
+        return poasByPath.find(key, pathStart, oidStart);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures copying arguments for a collocated call.
+ * An immutable value is shared, a default-serialized bean is copied field by field,
+ * and the same bean with a <code>writeObject</code> method is copied by writing it out
+ * and reading it back in, which was how every value was copied before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopyBenchmark {
+    public static final class Amount implements Serializable {
+        final long units;
+        final String currency;
+        public Amount(long units, String currency) { this.units = units; this.currency = currency; }
+    }
+
+    public static class Order implements Serializable {
+        int id = 42;
+        long timestamp = 1234567890L;
+        double price = 99.5;
+        boolean urgent = true;
+        String customer = "customer";
+        Amount total = new Amount(100, "EUR");
+        int[] quantities = {1, 2, 3};
+    }
+
+    public static class CustomOrder extends Order {
+        private void writeObject(ObjectOutputStream out) throws IOException { out.defaultWriteObject(); }
+    }
+
+    private TypeRepository repo;
+    private final Amount amount = new Amount(100, "EUR");
+    private final Order order = new Order();
+    private final CustomOrder customOrder = new CustomOrder();
+
+    @Setup
+    public void setup() {
+        repo = TypeRepository.get();
+    }
+
+    @Benchmark
+    public Object shareImmutable() throws CopyRecursionException {
+        return new CopyState(repo).copy(amount);
+    }
+
+    @Benchmark
+    public Object copyFields() throws CopyRecursionException {
+        return new CopyState(repo).copy(order);
+    }
+
+    @Benchmark
+    public Object copyThroughStream() throws CopyRecursionException {
+        return new CopyState(repo).copy(customOrder);
+    }
+}
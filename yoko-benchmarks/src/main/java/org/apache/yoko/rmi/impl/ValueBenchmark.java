@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.apache.yoko.orb.CORBA.YokoOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.omg.CORBA.ORB;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures marshalling RMI value types with the ORB's ValueWriter and ValueReader:
+ * a single default-serialized bean, and a list of beans that share a value,
+ * which exercises custom marshalling, chunking and indirections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueBenchmark {
+    public static final class Amount implements Serializable {
+        final long units;
+        final String currency;
+        public Amount(long units, String currency) { this.units = units; this.currency = currency; }
+    }
+
+    public static class Order implements Serializable {
+        int id;
+        long timestamp = 1234567890L;
+        double price = 99.5;
+        boolean urgent = true;
+        String customer = "customer";
+        Amount total;
+        int[] quantities = {1, 2, 3};
+
+        Order(int id, Amount total) { this.id = id; this.total = total; }
+    }
+
+    @Param({"10", "100"})
+    int listSize;
+
+    private ORB orb;
+    private Order order;
+    private ArrayList<Order> orders;
+    private YokoOutputStream encodedOrder;
+    private YokoOutputStream encodedOrders;
+
+    @Setup
+    public void setup() {
+        orb = ORB.init((String[]) null, null);
+        Amount shared = new Amount(100, "EUR");
+        order = new Order(0, shared);
+        orders = new ArrayList<>();
+        for (int i = 0; i < listSize; i++) orders.add(new Order(i, shared));
+        encodedOrder = writeOrder();
+        encodedOrders = writeOrders();
+    }
+
+    @TearDown
+    public void tearDown() {
+        orb.destroy();
+    }
+
+    @Benchmark
+    public YokoOutputStream writeOrder() {
+        YokoOutputStream out = (YokoOutputStream) orb.create_output_stream();
+        out.write_value(order);
+        return out;
+    }
+
+    @Benchmark
+    public Serializable readOrder() {
+        return encodedOrder.create_input_stream().read_value();
+    }
+
+    @Benchmark
+    public YokoOutputStream writeOrders() {
+        YokoOutputStream out = (YokoOutputStream) orb.create_output_stream();
+        out.write_value(orders);
+        return out;
+    }
+
+    @Benchmark
+    public Serializable readOrders() {
+        return encodedOrders.create_input_stream().read_value();
+    }
+}
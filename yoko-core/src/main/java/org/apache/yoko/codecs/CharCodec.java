@@ -24,6 +24,8 @@ import org.apache.yoko.orb.OB.CodeSetInfo;
 import org.omg.CORBA.DATA_CONVERSION;
 
 import static org.apache.yoko.codecs.LatinCodec.getLatinCodec;
+import static org.apache.yoko.codecs.Util.readCharByChar;
+import static org.apache.yoko.codecs.Util.writeCharByChar;
 import static org.apache.yoko.util.MinorCodes.MinorUTF8Encoding;
 import static org.apache.yoko.util.MinorCodes.MinorUTF8Overflow;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE;
@@ -119,6 +121,25 @@ public interface CharCodec {
      */
     void writeChar(char c, WriteBuffer out);
 
+    /**
+     * Gives the number of octets needed to encode the specified string,
+     * or -1 if this can only be determined by encoding it.
+     */
+    default int octetCount(String s) { return isFixedWidth() ? s.length() * charSize() : -1; }
+
+    /**
+     * Read the chars encoded in the next <code>numOctets</code> octets.
+     * Implementations may decode the whole range at once rather than char by char.
+     * @throws IndexOutOfBoundsException if the buffer does not contain enough bytes
+     */
+    default String readString(ReadBuffer in, int numOctets) { return readCharByChar(this, in, numOctets); }
+
+    /**
+     * Encode every char in a string to a buffer.
+     * Implementations may encode the whole string at once rather than char by char.
+     */
+    default void writeString(String s, WriteBuffer out) { writeCharByChar(this, s, out); }
+
     /**
      * Check there is no unfinished character data.
      * This is only relevant for encodings that encode
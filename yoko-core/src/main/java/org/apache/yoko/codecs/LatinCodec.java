@@ -34,6 +34,9 @@ import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.IntStream.range;
 import static org.apache.yoko.codecs.Util.ASCII_REPLACEMENT_BYTE;
 import static org.apache.yoko.codecs.Util.UNICODE_REPLACEMENT_CHAR;
+import static org.apache.yoko.codecs.Util.isAscii;
+import static org.apache.yoko.codecs.Util.readCharByChar;
+import static org.apache.yoko.codecs.Util.writeCharByChar;
 import static org.apache.yoko.orb.OB.CodeSetInfo.ISO_8859_5;
 import static org.apache.yoko.orb.OB.CodeSetInfo.ISO_8859_6;
 import static org.apache.yoko.orb.OB.CodeSetInfo.ISO_8859_7;
@@ -116,6 +119,19 @@ class LatinCodec implements CharCodec {
         return decoderArray[in.readByteAsChar()];
     }
 
+    // All the ISO-8859 charsets agree with US-ASCII for the first 128 chars
+    @Override
+    public String readString(ReadBuffer in, int numOctets) {
+        String s = in.tryReadAscii(numOctets);
+        return null == s ? readCharByChar(this, in, numOctets) : s;
+    }
+
+    @Override
+    public void writeString(String s, WriteBuffer out) {
+        if (isAscii(s)) out.writeLatin1(s);
+        else writeCharByChar(this, s, out);
+    }
+
     @Override
     public String name() { return name; }
 
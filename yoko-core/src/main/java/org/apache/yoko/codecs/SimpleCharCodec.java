@@ -23,19 +23,36 @@ import org.apache.yoko.io.WriteBuffer;
 import org.apache.yoko.orb.OB.CodeSetInfo;
 
 import static org.apache.yoko.codecs.Util.expect7bit;
+import static org.apache.yoko.codecs.Util.isAscii;
+import static org.apache.yoko.codecs.Util.isLatin1;
+import static org.apache.yoko.codecs.Util.readCharByChar;
 import static org.apache.yoko.codecs.Util.require7bit;
 import static org.apache.yoko.codecs.Util.require8bit;
+import static org.apache.yoko.codecs.Util.writeCharByChar;
 
 enum SimpleCharCodec implements CharCodec {
     US_ASCII {
         public CodeSetInfo getCodeSetInfo() { return CodeSetInfo.ISO_646_IRV; }
         public char readChar(ReadBuffer in) { return expect7bit(in.readByteAsChar()); }
         public void writeChar(char c, WriteBuffer out) { out.writeByte(require7bit(c)); }
+        public String readString(ReadBuffer in, int numOctets) {
+            String s = in.tryReadAscii(numOctets);
+            return null == s ? readCharByChar(this, in, numOctets) : s;
+        }
+        public void writeString(String s, WriteBuffer out) {
+            if (isAscii(s)) out.writeLatin1(s);
+            else writeCharByChar(this, s, out);
+        }
     },
     ISO_LATIN_1 {
         public CodeSetInfo getCodeSetInfo() { return CodeSetInfo.ISO_LATIN_1; }
         public char readChar(ReadBuffer in) { return in.readByteAsChar(); } // no checking - a single-byte character can't be > 0xFF
         public void writeChar(char c, WriteBuffer out) { out.writeByte(require8bit(c)); }
+        public String readString(ReadBuffer in, int numOctets) { return in.readLatin1(numOctets); }
+        public void writeString(String s, WriteBuffer out) {
+            if (isLatin1(s)) out.writeLatin1(s);
+            else writeCharByChar(this, s, out);
+        }
     }
 }
 
@@ -30,6 +30,9 @@ import static java.lang.Character.toCodePoint;
 import static java.util.logging.Level.WARNING;
 import static org.apache.yoko.codecs.Util.ASCII_REPLACEMENT_BYTE;
 import static org.apache.yoko.codecs.Util.UNICODE_REPLACEMENT_CHAR;
+import static org.apache.yoko.codecs.Util.isAscii;
+import static org.apache.yoko.codecs.Util.readCharByChar;
+import static org.apache.yoko.codecs.Util.writeCharByChar;
 import static org.apache.yoko.logging.VerboseLogging.GIOP_IN_LOG;
 import static org.apache.yoko.logging.VerboseLogging.MARSHAL_OUT_LOG;
 import static org.apache.yoko.util.MinorCodes.MinorUTF8Encoding;
@@ -101,6 +104,13 @@ final class Utf8Codec implements CharCodec {
         }
     }
 
+    @Override
+    public String readString(ReadBuffer in, int numOctets) {
+        // any pending low surrogate must be returned first
+        String s = 0 == lowSurrogate ? in.tryReadAscii(numOctets) : null;
+        return null == s ? readCharByChar(this, in, numOctets) : s;
+    }
+
     /** Read remaining bytes and compute codepoint */
     private static int readCodePoint(int leadByte, ReadBuffer in) throws InternalException {
         switch (leadByte >> 3) {
@@ -133,6 +143,16 @@ final class Utf8Codec implements CharCodec {
         return getUtf8Len(c);
     }
 
+    @Override
+    public int octetCount(String s) { return isAscii(s) ? s.length() : -1; }
+
+    @Override
+    public void writeString(String s, WriteBuffer out) {
+        // a pending high surrogate must be combined with the next char
+        if (0 == highSurrogate && isAscii(s)) out.writeLatin1(s);
+        else writeCharByChar(this, s, out);
+    }
+
     public void writeChar(char c, WriteBuffer out) {
         try {
             final int codepoint;
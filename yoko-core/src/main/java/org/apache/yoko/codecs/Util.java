@@ -17,6 +17,9 @@
  */
 package org.apache.yoko.codecs;
 
+import org.apache.yoko.io.ReadBuffer;
+import org.apache.yoko.io.WriteBuffer;
+
 enum Util {
     ;
     /**
@@ -61,4 +64,27 @@ enum Util {
         default: return null;
         }
     }
+
+    /** Check whether every char in the string is 7-bit. */
+    static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) if (s.charAt(i) >= (1<<7)) return false;
+        return true;
+    }
+
+    /** Check whether every char in the string is 8-bit. */
+    static boolean isLatin1(String s) {
+        for (int i = 0; i < s.length(); i++) if (s.charAt(i) >= (1<<8)) return false;
+        return true;
+    }
+
+    static String readCharByChar(CharCodec codec, ReadBuffer in, int numOctets) {
+        final int end = in.getPosition() + numOctets;
+        final StringBuilder sb = new StringBuilder(numOctets);
+        while (in.getPosition() < end) sb.append(codec.readChar(in));
+        return sb.toString();
+    }
+
+    static void writeCharByChar(CharCodec codec, String s, WriteBuffer out) {
+        for (int i = 0; i < s.length(); i++) codec.writeChar(s.charAt(i), out);
+    }
 }
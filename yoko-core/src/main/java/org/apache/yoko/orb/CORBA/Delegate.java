@@ -410,7 +410,10 @@ public final class Delegate extends org.omg.CORBA_2_4.portable.Delegate {
         }
     }
 
-    public void releaseReply(org.omg.CORBA.Object self, org.omg.CORBA.portable.InputStream in) { }
+    public void releaseReply(org.omg.CORBA.Object self, org.omg.CORBA.portable.InputStream in) {
+        // the stub has finished reading the reply, so its buffer can be reused
+        if (in instanceof YokoInputStream) ((YokoInputStream) in).getBuffer().recycle();
+    }
 
     public Policy get_policy(org.omg.CORBA.Object self, int policy_type) {
         Policy policy = _OB_getPolicy(policy_type);
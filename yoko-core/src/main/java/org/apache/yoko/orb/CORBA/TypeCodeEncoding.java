@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.CORBA;
+
+import org.apache.yoko.orb.OB.CodeSetInfo;
+import org.apache.yoko.orb.OCI.GiopVersion;
+
+/**
+ * The marshalled form of a complete top-level TypeCode, for copying verbatim into an output stream.
+ * <p>
+ *     The bytes depend on the char codec (for strings and char labels), the wchar codec (for wchar labels),
+ *     the GIOP version,
+ *     and the position of the TypeCode relative to an eight-byte boundary,
+ *     so an encoding is only reused when all of these match.
+ *     Any indirections in the encoding point within it, so it can be copied to any matching position.
+ * </p>
+ * <p>
+ *     Encodings are immutable and are held in a short list on the {@link TypeCodeImpl} they describe,
+ *     so they are discarded along with it.
+ * </p>
+ */
+final class TypeCodeEncoding {
+    /** The most encodings to keep for a single TypeCode */
+    private static final int MAX_ENCODINGS = 4;
+
+    private final String charCodec;
+    private final CodeSetInfo wcharCodeSet;
+    private final GiopVersion giopVersion;
+    private final int offset;
+    private final TypeCodeEncoding next;
+    final byte[] bytes;
+
+    private TypeCodeEncoding(String charCodec, CodeSetInfo wcharCodeSet, GiopVersion giopVersion, int offset, byte[] bytes, TypeCodeEncoding next) {
+        this.charCodec = charCodec;
+        this.wcharCodeSet = wcharCodeSet;
+        this.giopVersion = giopVersion;
+        this.offset = offset;
+        this.bytes = bytes;
+        this.next = next;
+    }
+
+    /** Find the encoding of a TypeCode for the specified codecs, GIOP version and offset from an eight-byte boundary. */
+    static TypeCodeEncoding find(TypeCodeImpl tc, String charCodec, CodeSetInfo wcharCodeSet, GiopVersion giopVersion, int offset) {
+        for (TypeCodeEncoding e = tc.encodings_; e != null; e = e.next) {
+            if (e.offset == offset && e.giopVersion == giopVersion && e.wcharCodeSet == wcharCodeSet && e.charCodec.equals(charCodec)) return e;
+        }
+        return null;
+    }
+
+    /** Remember the encoding of a TypeCode, unless it already has as many encodings as it may keep. */
+    static TypeCodeEncoding add(TypeCodeImpl tc, String charCodec, CodeSetInfo wcharCodeSet, GiopVersion giopVersion, int offset, byte[] bytes) {
+        final TypeCodeEncoding head = tc.encodings_;
+        final TypeCodeEncoding e = new TypeCodeEncoding(charCodec, wcharCodeSet, giopVersion, offset, bytes, head);
+        int count = 0;
+        for (TypeCodeEncoding p = head; p != null; p = p.next) count++;
+        // a racing update may be lost, in which case the encoding will simply be recreated when next needed
+        if (count < MAX_ENCODINGS) tc.encodings_ = e;
+        return e;
+    }
+}
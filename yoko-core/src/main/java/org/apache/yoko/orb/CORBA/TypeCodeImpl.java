@@ -131,6 +131,9 @@ public final class TypeCodeImpl extends TypeCode {
 
     TypeCodeImpl recType_;
 
+    // The marshalled forms of this TypeCode, see TypeCodeEncoding
+    volatile TypeCodeEncoding encodings_;
+
     @Override
     public String toString() {
         return describe(new StringBuilder(), "", new HashSet<>()).toString();
@@ -292,6 +295,7 @@ public final class TypeCodeImpl extends TypeCode {
                 case _tk_longlong:
                 case _tk_ulonglong:
                 case _tk_char:
+                case _tk_wchar:
                 case _tk_boolean:
                     if (!v1.equals(v2)) return false;
                     break;
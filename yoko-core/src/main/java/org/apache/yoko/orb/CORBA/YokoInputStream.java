@@ -57,7 +57,6 @@ import java.util.Hashtable;
 
 import static java.security.AccessController.doPrivileged;
 import static java.util.logging.Level.FINE;
-import static java.util.stream.IntStream.range;
 import static org.apache.yoko.io.AlignmentBoundary.EIGHT_BYTE_BOUNDARY;
 import static org.apache.yoko.io.AlignmentBoundary.FOUR_BYTE_BOUNDARY;
 import static org.apache.yoko.io.AlignmentBoundary.TWO_BYTE_BOUNDARY;
@@ -178,11 +177,12 @@ final public class YokoInputStream extends InputStreamWithOffsets {
     // Private and protected members
     // ------------------------------------------------------------------
 
-    private TypeCodeImpl checkCache(String id, int startPos, int length) {
+    /** Look up a cached TypeCode, and skip the rest of its encapsulation if one is found. */
+    private TypeCodeImpl checkCache(int kind, String id, int startPos, int length) {
         TypeCodeImpl tc = null;
 
         if (!id.isEmpty()) {
-            tc = cache.get(id);
+            tc = cache.get(kind, id, length);
             if (tc != null) {
                 _OB_skip(length + startPos - readBuffer.getPosition());
             }
@@ -252,12 +252,12 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         tc = (TypeCodeImpl) createInterfaceTC(id, read_string());
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     history.put(oldPos, tc);
@@ -279,7 +279,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         //
                         // For potentially recursive types, we must
@@ -302,7 +302,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                         tc = p;
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     this.swapBytes = swap;
@@ -322,7 +322,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         //
                         // For potentially recursive types, we must construct
@@ -355,6 +355,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                             case _tk_ulonglong :
                             case _tk_boolean :
                             case _tk_char :
+                            case _tk_wchar :
                             case _tk_enum :
                                 break;
                             default :
@@ -389,7 +390,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                         tc = p;
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     this.swapBytes = swap;
@@ -409,7 +410,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         String name = read_string();
                         int num = read_ulong();
@@ -420,7 +421,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                         history.put(oldPos, tc);
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     this.swapBytes = swap;
@@ -475,14 +476,14 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         tc = (TypeCodeImpl) createAliasTC(id, read_string(), readTypeCodeImpl(history, false));
 
                         history.put(oldPos, tc);
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     this.swapBytes = swap;
@@ -502,7 +503,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         //
                         // For potentially recursive types, we must
@@ -531,7 +532,7 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                         tc = p;
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     this.swapBytes = swap;
@@ -551,13 +552,13 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         tc = (TypeCodeImpl) createValueBoxTC(id, read_string(), readTypeCodeImpl(history, false));
                         history.put(oldPos, tc);
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     this.swapBytes = swap;
@@ -579,13 +580,13 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     GIOP_IN_LOG.fine(() -> String.format("Abstract interface typecode encapsulation length=0x%x id=%s", length, id));
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         tc = (TypeCodeImpl) createAbstractInterfaceTC(id, read_string());
                         history.put(oldPos, tc);
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     this.swapBytes = swap;
@@ -605,12 +606,12 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         tc = (TypeCodeImpl) createNativeTC(id, read_string());
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     history.put(oldPos, tc);
@@ -631,13 +632,13 @@ final public class YokoInputStream extends InputStreamWithOffsets {
                     String id = read_string();
 
                     if (isTopLevel && cache != null)
-                        tc = checkCache(id, typePos, length); // may advance pos
+                        tc = checkCache(kind, id, typePos, length); // may advance pos
                     if (tc == null) {
                         tc = (TypeCodeImpl) createLocalInterfaceTC(id, read_string());
                         history.put(oldPos, tc);
 
                         if (!id.isEmpty() && cache != null)
-                            cache.put(id, tc);
+                            cache.put(kind, id, length, tc);
                     }
 
                     this.swapBytes = swap;
@@ -798,18 +799,15 @@ final public class YokoInputStream extends InputStreamWithOffsets {
         if (byteCount < 0) throw stringMarshallingError("string", byteCount, MinorReadStringOverflow);
         if (readBuffer.available() < byteCount) throw stringMarshallingError("string", byteCount, MinorReadStringOverflow);
 
-        // Java strings don't need null terminators, so our string length will be at most one less than the byte count
-        StringBuilder sb = new StringBuilder(byteCount - 1);
-
         final CharCodec codec = codecs.charCodec;
         GIOP_IN_LOG.finest(() -> String.format("Reading string value of length=0x%x using codec %s", byteCount, codec));
 
+        // Java strings don't need null terminators, so decode one byte less than the byte count
         final int endPosition = readBuffer.getPosition() + byteCount - 1;
+        final String result;
 
         try {
-            while (readBuffer.getPosition() < endPosition) {
-                sb.append(codec.readChar(readBuffer));
-            }
+            result = codec.readString(readBuffer, byteCount - 1);
         } catch (IndexOutOfBoundsException e) {
             throw newMarshalError(MinorReadStringOverflow, e);
         }
@@ -822,8 +820,8 @@ final public class YokoInputStream extends InputStreamWithOffsets {
         // as long as this is written explicitly in write_string() as well as here.
         // (i.e. do NOT use the codec to write the null terminator)
         if (readBuffer.readByte() != 0) throw newMarshalError(MinorReadStringNoTerminator);
-        GIOP_IN_LOG.fine(() -> String.format("Read string \"%s\", using %s codec end pos=0x%x", sb, codec, readBuffer.getPosition()));
-        return sb.toString();
+        GIOP_IN_LOG.fine(() -> String.format("Read string \"%s\", using %s codec end pos=0x%x", result, codec, readBuffer.getPosition()));
+        return result;
     }
 
     private MARSHAL stringMarshallingError(String stringDesc, int length, int minor) {
@@ -899,10 +897,14 @@ final public class YokoInputStream extends InputStreamWithOffsets {
     }
 
     public void read_boolean_array(boolean[] value, int offset, int length) {
-        if (length <= 0) return;
-        checkChunk();
-        if (readBuffer.available() < length) throw newMarshalError((MinorReadBooleanArrayOverflow));
-        for (int i = offset; i < offset + length; i++) value[i] = toBoolean(readBuffer.readByte());
+        while (length > 0) {
+            checkChunk();
+            final int count = elementsInChunk(length, 1);
+            if (readBuffer.available() < count) throw newMarshalError((MinorReadBooleanArrayOverflow));
+            for (int i = offset; i < offset + count; i++) value[i] = toBoolean(readBuffer.readByte());
+            offset += count;
+            length -= count;
+        }
     }
 
     public void read_char_array(char[] value, int offset, int length) {
@@ -914,24 +916,30 @@ final public class YokoInputStream extends InputStreamWithOffsets {
     }
 
     public void read_octet_array(byte[] value, int offset, int length) {
-        if (length <= 0) return;
-        checkChunk();
-        try {
-            readBuffer.readBytes(value, offset, length);
-        } catch (IndexOutOfBoundsException e) {
-            throw newMarshalError((MinorReadOctetArrayOverflow), e);
+        while (length > 0) {
+            checkChunk();
+            final int count = elementsInChunk(length, 1);
+            try {
+                readBuffer.readBytes(value, offset, count);
+            } catch (IndexOutOfBoundsException e) {
+                throw newMarshalError((MinorReadOctetArrayOverflow), e);
+            }
+            offset += count;
+            length -= count;
         }
     }
 
     public void read_short_array(short[] value, int offset, int length) {
-        if (length <= 0) return;
-        checkChunk();
-        readBuffer.align(TWO_BYTE_BOUNDARY);
-
-        if (readBuffer.available() < length * 2) throw newMarshalError(MinorReadShortArrayOverflow);
-        range(offset, offset + length).forEach(swapBytes ?
-                i -> value[i] = readBuffer.readShort_LE() :
-                i -> value[i] = readBuffer.readShort());
+        while (length > 0) {
+            checkChunk();
+            readBuffer.align(TWO_BYTE_BOUNDARY);
+            final int count = elementsInChunk(length, 2);
+            if (readBuffer.available() / 2 < count) throw newMarshalError(MinorReadShortArrayOverflow);
+            if (swapBytes) readBuffer.readShorts_LE(value, offset, count);
+            else readBuffer.readShorts(value, offset, count);
+            offset += count;
+            length -= count;
+        }
     }
 
     public void read_ushort_array(short[] value, int offset, int length) {
@@ -943,16 +951,16 @@ final public class YokoInputStream extends InputStreamWithOffsets {
     }
 
     public void read_long_array(int[] value, int offset, int length) {
-        if (length <= 0) return;
-        checkChunk();
-        readBuffer.align(FOUR_BYTE_BOUNDARY);
-
-        if (readBuffer.available() < length * 4)
-            throw newMarshalError(MinorReadLongArrayOverflow);
-
-        range(offset, offset + length).forEach( swapBytes ?
-                i -> value[i] = readBuffer.readInt_LE() :
-                i -> value[i] = readBuffer.readInt());
+        while (length > 0) {
+            checkChunk();
+            readBuffer.align(FOUR_BYTE_BOUNDARY);
+            final int count = elementsInChunk(length, 4);
+            if (readBuffer.available() / 4 < count) throw newMarshalError(MinorReadLongArrayOverflow);
+            if (swapBytes) readBuffer.readInts_LE(value, offset, count);
+            else readBuffer.readInts(value, offset, count);
+            offset += count;
+            length -= count;
+        }
     }
 
     private static MARSHAL newMarshalError(int minor) {
@@ -972,13 +980,16 @@ final public class YokoInputStream extends InputStreamWithOffsets {
     }
 
     public void read_longlong_array(long[] value, int offset, int length) {
-        if (length <= 0) return;
-        checkChunk();
-        readBuffer.align(EIGHT_BYTE_BOUNDARY);
-        if (readBuffer.available() < length * 8) throw newMarshalError(MinorReadLongLongArrayOverflow);
-        range(offset, offset + length).forEach( swapBytes ?
-                i -> value[i] = readBuffer.readLong_LE() :
-                i -> value[i] = readBuffer.readLong());
+        while (length > 0) {
+            checkChunk();
+            readBuffer.align(EIGHT_BYTE_BOUNDARY);
+            final int count = elementsInChunk(length, 8);
+            if (readBuffer.available() / 8 < count) throw newMarshalError(MinorReadLongLongArrayOverflow);
+            if (swapBytes) readBuffer.readLongs_LE(value, offset, count);
+            else readBuffer.readLongs(value, offset, count);
+            offset += count;
+            length -= count;
+        }
     }
 
     public void read_ulonglong_array(long[] value, int offset, int length) {
@@ -990,23 +1001,29 @@ final public class YokoInputStream extends InputStreamWithOffsets {
     }
 
     public void read_float_array(float[] value, int offset, int length) {
-        if (length <= 0) return;
-        checkChunk();
-        readBuffer.align(FOUR_BYTE_BOUNDARY);
-        if (readBuffer.available() < length * 4) throw newMarshalError(MinorReadFloatArrayOverflow);
-        range(offset, offset + length).forEach( swapBytes ?
-                i -> value[i] = readBuffer.readFloat_LE() :
-                i -> value[i] = readBuffer.readFloat());
+        while (length > 0) {
+            checkChunk();
+            readBuffer.align(FOUR_BYTE_BOUNDARY);
+            final int count = elementsInChunk(length, 4);
+            if (readBuffer.available() / 4 < count) throw newMarshalError(MinorReadFloatArrayOverflow);
+            if (swapBytes) readBuffer.readFloats_LE(value, offset, count);
+            else readBuffer.readFloats(value, offset, count);
+            offset += count;
+            length -= count;
+        }
     }
 
     public void read_double_array(double[] value, int offset, int length) {
-        if (length <= 0) return;
-        checkChunk();
-        readBuffer.align(EIGHT_BYTE_BOUNDARY);
-        if (readBuffer.available() < length * 8) throw newMarshalError(MinorReadDoubleArrayOverflow);
-        range(offset, offset + length).forEach( swapBytes ?
-                i -> value[i] = readBuffer.readDouble_LE() :
-                i -> value[i] = readBuffer.readDouble());
+        while (length > 0) {
+            checkChunk();
+            readBuffer.align(EIGHT_BYTE_BOUNDARY);
+            final int count = elementsInChunk(length, 8);
+            if (readBuffer.available() / 8 < count) throw newMarshalError(MinorReadDoubleArrayOverflow);
+            if (swapBytes) readBuffer.readDoubles_LE(value, offset, count);
+            else readBuffer.readDoubles(value, offset, count);
+            offset += count;
+            length -= count;
+        }
     }
 
     public org.omg.CORBA.Object read_Object() {
@@ -1293,8 +1310,8 @@ final public class YokoInputStream extends InputStreamWithOffsets {
     public void _OB_ORBInstance(ORBInstance orbInstance) {
         this.orbInstance = orbInstance;
 
-        if (this.orbInstance != null && this.orbInstance.useTypeCodeCache()) {
-            cache = TypeCodeCache.instance();
+        if (this.orbInstance != null) {
+            cache = this.orbInstance.getTypeCodeCache();
         }
     }
 
@@ -1373,6 +1390,17 @@ final public class YokoInputStream extends InputStreamWithOffsets {
         }
     }
 
+    /**
+     * Work out how many elements of an array can be read in one go.
+     * A sender may split a chunked value anywhere between primitive elements,
+     * so a bulk read must not run past the end of the current chunk.
+     * @return the number of elements, between 1 and <code>wanted</code>
+     */
+    private int elementsInChunk(int wanted, int elementSize) {
+        if (valueReader == null) return wanted;
+        return Math.max(1, Math.min(wanted, valueReader.remainingInChunk() / elementSize));
+    }
+
     @Override
     public void end_value() {
         valueReader().endValue();
@@ -24,6 +24,7 @@ import org.apache.yoko.io.Buffer;
 import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.io.SimplyCloseable;
 import org.apache.yoko.io.WriteBuffer;
+import org.apache.yoko.orb.OB.CodeSetInfo;
 import org.apache.yoko.orb.OB.CodecPair;
 import org.apache.yoko.orb.OB.ORBInstance;
 import org.apache.yoko.orb.OB.TypeCodeFactory;
@@ -501,13 +502,13 @@ public final class YokoOutputStream extends OutputStream implements ValueOutputS
     public void write_string(String value) {
         final CharCodec codec = codecs.charCodec;
         MARSHAL_OUT_LOG.finest(() -> String.format("Using codec %s to write string: \"%s\"", codec, value));
-        final char[] arr = value.toCharArray();
+        final int length = codec.octetCount(value);
 
-        if (codec.isFixedWidth()) {
-            int numOctets = arr.length * codec.charSize() + 1;
+        if (length >= 0) {
+            int numOctets = length + 1;
             write_ulong(numOctets); // writes the length
             addCapacity(numOctets);
-            for (char c: arr) codec.writeChar(c, writeBuffer);
+            codec.writeString(value, writeBuffer);
             // write null terminator
             writeBuffer.writeByte(0);
         } else {
@@ -516,8 +517,8 @@ public final class YokoOutputStream extends OutputStream implements ValueOutputS
             // any 4 byte UTF-8 sequence is a surrogate pair in Java.
             // Use a temporary buffer to count bytes needed and allocate them up front.
             // This keeps the data in a single chunk (not mandatory, but sensible).
-            final WriteBuffer tmpWriter = Buffer.createWriteBuffer(arr.length * 3 + 1);
-            for (char c : arr) codec.writeChar(c, tmpWriter);
+            final WriteBuffer tmpWriter = Buffer.createWriteBuffer(value.length() * 3 + 1);
+            codec.writeString(value, tmpWriter);
             // write the null terminator and compute the length, ignoring any unused space in the buffer
             int numOctets = tmpWriter.writeByte(0).trim().length();
             // write the length
@@ -598,13 +599,9 @@ public final class YokoOutputStream extends OutputStream implements ValueOutputS
     }
 
     public void write_short_array(short[] value, int offset, int length) {
-        if (length > 0) {
-            addCapacity(length * 2, TWO_BYTE_BOUNDARY);
-
-            for (int i = offset; i < offset + length; i++) {
-                writeBuffer.writeShort(value[i]);
-            }
-        }
+        if (length <= 0) return;
+        addCapacity(length * 2, TWO_BYTE_BOUNDARY);
+        writeBuffer.writeShorts(value, offset, length);
     }
 
     public void write_ushort_array(short[] value, int offset, int length) {
@@ -612,13 +609,9 @@ public final class YokoOutputStream extends OutputStream implements ValueOutputS
     }
 
     public void write_long_array(int[] value, int offset, int length) {
-        if (length > 0) {
-            addCapacity(length * 4, FOUR_BYTE_BOUNDARY);
-
-            for (int i = offset; i < offset + length; i++) {
-                writeBuffer.writeInt(value[i]);
-            }
-        }
+        if (length <= 0) return;
+        addCapacity(length * 4, FOUR_BYTE_BOUNDARY);
+        writeBuffer.writeInts(value, offset, length);
     }
 
     public void write_ulong_array(int[] value, int offset, int length) {
@@ -626,13 +619,9 @@ public final class YokoOutputStream extends OutputStream implements ValueOutputS
     }
 
     public void write_longlong_array(long[] value, int offset, int length) {
-        if (length > 0) {
-            addCapacity(length * 8, EIGHT_BYTE_BOUNDARY);
-
-            for (int i = offset; i < offset + length; i++) {
-                writeBuffer.writeLong(value[i]);
-            }
-        }
+        if (length <= 0) return;
+        addCapacity(length * 8, EIGHT_BYTE_BOUNDARY);
+        writeBuffer.writeLongs(value, offset, length);
     }
 
     public void write_ulonglong_array(long[] value, int offset, int length) {
@@ -640,27 +629,15 @@ public final class YokoOutputStream extends OutputStream implements ValueOutputS
     }
 
     public void write_float_array(float[] value, int offset, int length) {
-        if (length > 0) {
-            addCapacity(length * 4, FOUR_BYTE_BOUNDARY);
-
-            for (int i = offset; i < offset + length; i++) {
-                int v = Float.floatToIntBits(value[i]);
-
-                writeBuffer.writeInt(v);
-            }
-        }
+        if (length <= 0) return;
+        addCapacity(length * 4, FOUR_BYTE_BOUNDARY);
+        writeBuffer.writeFloats(value, offset, length);
     }
 
     public void write_double_array(double[] value, int offset, int length) {
-        if (length > 0) {
-            addCapacity(length * 8, EIGHT_BYTE_BOUNDARY);
-
-            for (int i = offset; i < offset + length; i++) {
-                long v = Double.doubleToLongBits(value[i]);
-
-                writeBuffer.writeLong(v);
-            }
-        }
+        if (length <= 0) return;
+        addCapacity(length * 8, EIGHT_BYTE_BOUNDARY);
+        writeBuffer.writeDoubles(value, offset, length);
     }
 
     public void write_Object(org.omg.CORBA.Object value) {
@@ -688,9 +665,60 @@ public final class YokoOutputStream extends OutputStream implements ValueOutputS
 
         if (t == null) throw new BAD_TYPECODE("TypeCode is nil");
 
+        if (t instanceof TypeCodeImpl && isEncodingCached((TypeCodeImpl) t)) {
+            writeEncodedTypeCode((TypeCodeImpl) t);
+            return;
+        }
+
         writeTypeCodeImpl(t, new HashMap<TypeCode, Integer>());
     }
 
+    /** Only TypeCodes with encapsulations are worth caching, and only if the ORB caches TypeCodes */
+    private boolean isEncodingCached(TypeCodeImpl tc) {
+        if (tc.recId_ != null || orbInstance == null || !orbInstance.useTypeCodeCache()) return false;
+        switch (tc.kind_.value()) {
+        case _tk_objref:
+        case _tk_local_interface:
+        case _tk_abstract_interface:
+        case _tk_native:
+        case _tk_struct:
+        case _tk_except:
+        case _tk_union:
+        case _tk_enum:
+        case _tk_sequence:
+        case _tk_array:
+        case _tk_alias:
+        case _tk_value_box:
+        case _tk_value:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private void writeEncodedTypeCode(TypeCodeImpl tc) {
+        // begin any pending chunk and align, just as writing the kind would
+        addCapacity(4, FOUR_BYTE_BOUNDARY);
+        final int offset = writeBuffer.getPosition() & 7;
+        final String charCodec = codecs.charCodec.name();
+        final CodeSetInfo wcharCodeSet = codecs.wcharCodec.getCodeSetInfo();
+        TypeCodeEncoding encoding = TypeCodeEncoding.find(tc, charCodec, wcharCodeSet, giopVersion, offset);
+        if (encoding == null) encoding = TypeCodeEncoding.add(tc, charCodec, wcharCodeSet, giopVersion, offset, encode(tc, offset));
+        MARSHAL_OUT_LOG.finest(() -> "Writing a cached encoding of a type code of type " + tc.kind_);
+        addCapacity(encoding.bytes.length);
+        writeBuffer.writeBytes(encoding.bytes);
+    }
+
+    /** Marshal a TypeCode in a separate stream, starting at the specified offset from an eight-byte boundary */
+    private byte[] encode(TypeCodeImpl tc, int offset) {
+        final YokoOutputStream out = new YokoOutputStream(codecs, giopVersion);
+        out.orbInstance = orbInstance;
+        if (offset != 0) out.write_ulong(0);
+        out.writeTypeCodeImpl(tc, new HashMap<TypeCode, Integer>());
+        final ReadBuffer encoded = out.writeBuffer.readFromStart().setPosition(offset);
+        return encoded.readBytes(new byte[out.writeBuffer.getPosition() - offset]);
+    }
+
     public void write_any(Any value) {
         MARSHAL_OUT_LOG.finest(() -> "Writing an ANY value of type " + value.type().kind());
         write_TypeCode(value.type());
@@ -50,6 +50,18 @@ public abstract class Client {
         Assert.ensure(count > 0);
     }
 
+    /**
+     * Start using this client, unless all its users have already released it.
+     *
+     * @return false iff the client is no longer in use and must not be reused
+     */
+    final boolean tryObtain() {
+        for (int count = users.get(); count > 0; count = users.get()) {
+            if (users.compareAndSet(count, count + 1)) return true;
+        }
+        return false;
+    }
+
     /**
      * Stop using this client on a particular thread.
      *
@@ -67,6 +79,11 @@ public abstract class Client {
 
     public abstract int getNewRequestID();
 
+    /** Get a new request ID for a downcall, which a client with several connections also binds to one of them */
+    int getNewRequestID(Downcall down) {
+        return getNewRequestID();
+    }
+
     /**
      * get a list of ServiceContexts that have to be sent on an AMI router request
      */
@@ -35,18 +35,25 @@ import org.omg.BiDirPolicy.BidirectionalPolicyHelper;
 import org.omg.CORBA.INITIALIZE;
 import org.omg.CORBA.INV_OBJREF;
 import org.omg.CORBA.Policy;
+import org.omg.CORBA.SystemException;
 import org.omg.IOP.IOR;
 import org.omg.PortableServer.POAManagerPackage.AdapterInactive;
 import org.omg.PortableServer.POAManagerPackage.State;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static java.util.Collections.synchronizedSet;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
 import static org.apache.yoko.logging.VerboseLogging.CONN_OUT_LOG;
 import static org.apache.yoko.orb.exceptions.Transients.NO_USABLE_PROFILE_IN_IOR;
 import static org.apache.yoko.util.MinorCodes.MinorORBDestroyed;
@@ -55,13 +62,20 @@ import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
 public final class ClientManager {
     static final Logger logger = CONN_OUT_LOG;
-    private boolean destroyed; // True if destroy() was called
+    private volatile boolean destroyed; // True if destroy() was called
 
-    private ORBInstance orbInstance;
+    private volatile ORBInstance orbInstance;
 
-    private Set<Client> allClients = synchronizedSet(new HashSet<Client>());
+    private final Set<Client> allClients = newKeySet();
 
-    private Set<Client> reusableClients = synchronizedSet(new HashSet<Client>());
+    /**
+     * Reusable clients, indexed by endpoint so that finding a client for a profile does not scan every client.
+     * Several clients can share a key (e.g. if they differ in transport security), so each key maps to a small list.
+     */
+    private final ConcurrentMap<ClientKey, List<GIOPClient>> reusableClients = new ConcurrentHashMap<>();
+
+    /** The key of each indexed client, for removal */
+    private final ConcurrentMap<Client, ClientKey> reusableClientKeys = new ConcurrentHashMap<>();
 
     //
     // The concurrency model with which new Clients are created
@@ -72,6 +86,73 @@ public final class ClientManager {
     // ClientManager private and protected member implementations
     // ----------------------------------------------------------------------
 
+    /** The endpoint details that determine whether a client can be reused */
+    private static final class ClientKey {
+        final String protocol;
+        final ConnectorInfo endpoint; // compares the host and port
+        final CodecPair codecs;
+        final boolean bidir;
+        final int hash;
+
+        ClientKey(ConnectorInfo endpoint, CodecPair codecs, boolean bidir) {
+            this.protocol = endpoint.id();
+            this.endpoint = endpoint;
+            this.codecs = codecs;
+            this.bidir = bidir;
+            this.hash = Objects.hash(protocol, endpoint, codecs, bidir);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ClientKey)) return false;
+            ClientKey that = (ClientKey) o;
+            return hash == that.hash && bidir == that.bidir && protocol.equals(that.protocol)
+                    && endpoint.equals(that.endpoint) && codecs.equals(that.codecs);
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+    }
+
+    /**
+     * Create the key for a client, or return null if the endpoint cannot be indexed,
+     * e.g. because the host name cannot be resolved.
+     */
+    private static ClientKey keyFor(Connector connector, CodecPair codecs, boolean bidir) {
+        try {
+            ConnectorInfo endpoint = connector.get_info();
+            return endpoint == null ? null : new ClientKey(endpoint, codecs, bidir);
+        } catch (SystemException e) {
+            logger.log(Level.FINE, e, () -> "Unable to index client for connector " + connector);
+            return null;
+        }
+    }
+
+    /** Find and obtain an indexed client, if one exists */
+    private GIOPClient findReusableClient(ClientKey key, Connector connector, CodecPair codecs) {
+        List<GIOPClient> candidates = reusableClients.get(key);
+        if (candidates == null) return null;
+        for (GIOPClient client : candidates) {
+            // a client with no users is about to be destroyed
+            if (client.matches(connector, codecs) && client.tryObtain()) return client;
+        }
+        return null;
+    }
+
+    /** Find or create an indexed client, returning it obtained */
+    private synchronized GIOPClient findOrCreateReusableClient(ORBInstance orbInstance, ClientKey key, Connector connector, CodecPair codecs, boolean enableBidir) {
+        if (destroyed) throw new INITIALIZE(describeInitialize(MinorORBDestroyed), MinorORBDestroyed, COMPLETED_NO);
+        // check again now that no other thread can be adding a client
+        GIOPClient client = findReusableClient(key, connector, codecs);
+        if (client != null) return client;
+        client = new GIOPClient(orbInstance, connector, concModel_, codecs, enableBidir);
+        client.obtain();
+        allClients.add(client);
+        reusableClients.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(client);
+        reusableClientKeys.put(client, key);
+        return client;
+    }
 
     // ----------------------------------------------------------------------
     // ClientManager package member implementations
@@ -101,6 +182,7 @@ public final class ClientManager {
         orbInstance = null;
         allClients.clear();
         reusableClients.clear();
+        reusableClientKeys.clear();
     }
 
     // ----------------------------------------------------------------------
@@ -119,7 +201,7 @@ public final class ClientManager {
     //
     // Get a list of ClientProfilePairs for an IOR and a list of policies
     //
-    public synchronized Vector<ClientProfilePair> getClientProfilePairs(IOR ior, Policy[] policies) {
+    public Vector<ClientProfilePair> getClientProfilePairs(IOR ior, Policy[] policies) {
         Assert.ensure(ior.type_id != null);
 
         //
@@ -133,7 +215,8 @@ public final class ClientManager {
         // The ORB destroys this object, so it's an initialization error
         // if this operation is called after ORB destruction
         //
-        if (destroyed) {
+        final ORBInstance orbInstance = this.orbInstance;
+        if (destroyed || orbInstance == null) {
             throw new INITIALIZE(describeInitialize(MinorORBDestroyed), MinorORBDestroyed, COMPLETED_NO);
         }
 
@@ -215,132 +298,129 @@ public final class ClientManager {
         }
 
         //
-        // If connection reuse is permitted, add all existing reusable
-        // clients which are usable for the given IOR and policies
+        // Find or create GIOPClients for all connectors we can get.
+        // If connection reuse is permitted, look up existing clients by endpoint.
+        // Reused and newly indexed clients are obtained while in use here,
+        // so that they cannot be destroyed before the pairs are returned.
         //
-        if (reuseConnections) {
-            for (Client reusableClient : reusableClients) {
-
-                //
-                // Skip any client whose protocol is not present in the
-                // protocol list
-                //
-                if (protocolPolicy != null) {
-                    ConnectorInfo info = reusableClient.connectorInfo();
-                    if (info != null && !protocolPolicy.contains(info.id())) {
-                        continue;
-                    }
-                }
-
-                for (ProfileInfo profileInfo : reusableClient.getUsableProfiles(ior, policies)) {
-                    pairs.addElement(new ClientProfilePair(reusableClient, profileInfo));
-                }
-            }
-        }
+        final List<Client> held = new ArrayList<>();
+        final Set<Client> added = new HashSet<>();
+        try {
+            ConFactoryRegistry conFactoryRegistry = orbInstance.getConFactoryRegistry();
+            ConFactory[] factories = conFactoryRegistry.get_factories();
+            for (ConFactory factory : factories) {
+                Connector[] connectors = factory.create_connectors(ior, policies);
+                for (Connector connector : connectors) {
+                    // Skip any connector whose protocol is not present in the protocol list
+                    if (protocolPolicy != null && !protocolPolicy.contains(connector.id())) continue;
+
+                    ProfileInfo[] profileInfos = connector.get_usable_profiles(ior, policies);
+
+                    // Find a client for each usable profile, and set the
+                    // concurrency model and code converters. Filter out
+                    // clients that are equivalent to clients we already have.
+                    for (ProfileInfo profileInfo: profileInfos) {
+                        CodecPair codecs = CodeSetUtil.getNegotiatedCodecs(orbInstance, profileInfo);
+
+                        final ClientKey key = reuseConnections ? keyFor(connector, codecs, enableBidir) : null;
+                        final Client client;
+                        if (key != null) {
+                            GIOPClient reusable = findReusableClient(key, connector, codecs);
+                            if (reusable == null) reusable = findOrCreateReusableClient(orbInstance, key, connector, codecs, enableBidir);
+                            held.add(reusable);
+                            if (!added.add(reusable)) continue;
+                            client = reusable;
+                        } else {
+                            Client newClient = new GIOPClient(orbInstance, connector, concModel_, codecs, enableBidir);
+
+                            boolean matched = false;
+                            for (ClientProfilePair pair : pairs) {
+                                if (pair.client.matches(newClient)) {
+                                    matched = true;
+                                    break;
+                                }
+                            }
 
-        //
-        // Finally, create new GIOPClients for all connectors we can get
-        //
-        ConFactoryRegistry conFactoryRegistry = orbInstance.getConFactoryRegistry();
-        ConFactory[] factories = conFactoryRegistry.get_factories();
-        for (ConFactory factory : factories) {
-            Connector[] connectors = factory.create_connectors(ior, policies);
-            for (Connector connector : connectors) {
-                // Skip any connector whose protocol is not present in the protocol list
-                if (protocolPolicy != null && !protocolPolicy.contains(connector.id())) continue;
-
-                ProfileInfo[] profileInfos = connector.get_usable_profiles(ior, policies);
-
-                // Create a new GIOPClient for each usable profile, and set
-                // the concurrency model and code converters. Filter out
-                // clients that are equivalent to other clients we already
-                // have.
-                for (ProfileInfo profileInfo: profileInfos) {
-                    CodecPair codecs = CodeSetUtil.getNegotiatedCodecs(orbInstance, profileInfo);
-
-                    Client newClient = new GIOPClient(orbInstance, connector, concModel_, codecs, enableBidir);
-
-                    if (!pairs.isEmpty()) {
-                        boolean matched = false;
-
-                        for (ClientProfilePair pair : pairs) {
-                            if (pair.client.matches(newClient)) {
-                                matched = true;
-                                break;
+                            if (matched) {
+                                newClient.destroy();
+                                continue;
                             }
-                        }
 
-                        if (matched) {
-                            newClient.destroy();
-                            continue;
+                            allClients.add(newClient);
+                            added.add(newClient);
+                            client = newClient;
                         }
-                    }
-
-                    allClients.add(newClient);
 
-                    //
-                    // Add client/profile pairs
-                    //
-                    for (ProfileInfo clientProfileInfo : newClient.getUsableProfiles(ior, policies)) {
-                        pairs.addElement(new ClientProfilePair(newClient, clientProfileInfo));
+                        //
+                        // Add client/profile pairs
+                        //
+                        for (ProfileInfo clientProfileInfo : client.getUsableProfiles(ior, policies)) {
+                            pairs.addElement(new ClientProfilePair(client, clientProfileInfo));
+                        }
                     }
-
-                    // If no private clients have been requested, also add the
-                    // client to the list of existing reusable clients
-                    if (reuseConnections) reusableClients.add(newClient);
                 }
             }
-        }
-
-        //
-        // If there is a protocol policy, then the client/profile pairs
-        // have already been filtered. Now we need to sort the pairs in
-        // the order specified by the policy. Note that clients which
-        // do not have a ConnectorInfo are assumed to be local, and will
-        // be ordered before the other clients.
-        //
-        if (!pairs.isEmpty() && protocolPolicy != null) {
-            String[] protocols = protocolPolicy.value();
-
-            Vector<ClientProfilePair> newPairs = new Vector<>();
 
             //
-            // First, add any pairs whose clients do not have ConnectorInfo
+            // If there is a protocol policy, then the client/profile pairs
+            // have already been filtered. Now we need to sort the pairs in
+            // the order specified by the policy. Note that clients which
+            // do not have a ConnectorInfo are assumed to be local, and will
+            // be ordered before the other clients.
             //
-            for (ClientProfilePair pair : pairs) {
-                if (pair.client.connectorInfo() == null) {
-                    newPairs.addElement(pair);
-                }
-            }
+            if (!pairs.isEmpty() && protocolPolicy != null) {
+                String[] protocols = protocolPolicy.value();
 
-            //
-            // Next, add the pairs in the order specified by the policy
-            //
-            for (String protocol : protocols) {
+                Vector<ClientProfilePair> newPairs = new Vector<>();
+
+                //
+                // First, add any pairs whose clients do not have ConnectorInfo
+                //
                 for (ClientProfilePair pair : pairs) {
-                    ConnectorInfo info = pair.client.connectorInfo();
-                    if (info != null && protocol.equals(info.id())) {
+                    if (pair.client.connectorInfo() == null) {
                         newPairs.addElement(pair);
                     }
                 }
+
+                //
+                // Next, add the pairs in the order specified by the policy
+                //
+                for (String protocol : protocols) {
+                    for (ClientProfilePair pair : pairs) {
+                        ConnectorInfo info = pair.client.connectorInfo();
+                        if (info != null && protocol.equals(info.id())) {
+                            newPairs.addElement(pair);
+                        }
+                    }
+                }
+
+                pairs = newPairs;
             }
 
-            pairs = newPairs;
-        }
+            //
+            // If we still don't have any client/profile pairs, throw a
+            // TRANSIENT exception
+            //
+            if (pairs.isEmpty()) throw NO_USABLE_PROFILE_IN_IOR.create();
 
-        //
-        // If we still don't have any client/profile pairs, throw a
-        // TRANSIENT exception
-        //
-        if (pairs.isEmpty()) throw NO_USABLE_PROFILE_IN_IOR.create();
 
+            //
+            // Increment the usage count on all clients
+            //
+            for (ClientProfilePair pair : pairs) pair.client.obtain();
 
-        //
-        // Increment the usage count on all clients
-        //
-        for (ClientProfilePair pair : pairs) pair.client.obtain();
+            return pairs;
+        } finally {
+            // let go of the clients obtained during the lookup
+            for (Client client : held) {
+                if (client.release()) releaseUnusedClient(client);
+            }
+        }
+    }
 
-        return pairs;
+    private synchronized void releaseUnusedClient(Client client) {
+        if (destroyed) return;
+        destroyClient(client);
     }
 
     public synchronized void releaseClient(Client client) {
@@ -359,7 +439,13 @@ public final class ClientManager {
     }
 
     private void destroyClient(Client client) {
-        reusableClients.remove(client);
+        ClientKey key = reusableClientKeys.remove(client);
+        if (key != null) {
+            reusableClients.computeIfPresent(key, (k, list) -> {
+                list.remove(client);
+                return list.isEmpty() ? null : list;
+            });
+        }
         allClients.remove(client);
         client.destroy();
     }
@@ -31,6 +31,7 @@ import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 abstract class Connection {
@@ -116,12 +117,18 @@ abstract class Connection {
         int CLOSING_LOGGED = 64;
     }
 
-    private State state;
-    private int flags = 0;
+    /**
+     * The current state, which can be read without locking.
+     * Transitions are made while holding the monitor, so a block synchronized on the connection
+     * sees a state that does not change until the block exits.
+     */
+    private volatile State state;
+    /** Flags are only ever set, never cleared, so they are updated with a lock-free bitwise OR */
+    private final AtomicInteger flags = new AtomicInteger();
 
     Connection(State initialState) { this.state = initialState; }
 
-    synchronized State getState() { return state; }
+    final State getState() { return state; }
 
     boolean setState(State newState) {
         synchronized (this) {
@@ -131,22 +138,26 @@ abstract class Connection {
             }
             state = newState;
         }
-        state.applyTo(this);
+        newState.applyTo(this);
         return true;
     }
 
-    final synchronized boolean isRequestSent() { return (flags & Flag.REQUEST_SENT) != 0; }
-    final synchronized boolean isDestroyed() { return (flags & Flag.DESTROYED) != 0; }
-    final synchronized boolean isReplySent() { return (flags & Flag.REPLY_SENT) != 0; }
-    final synchronized boolean isOutbound() { return (flags & Flag.OUTBOUND) != 0; }
-    final synchronized boolean isClientEnabled() { return (flags & Flag.CLIENT_ENABLED) != 0; }
-    final synchronized boolean isServerEnabled() { return (flags & Flag.SERVER_ENABLED) != 0; }
-    final synchronized void markRequestSent() { flags |= Flag.REQUEST_SENT; }
-    final synchronized void markDestroyed() { flags |= Flag.DESTROYED; }
-    final synchronized void markOutbound() { flags |= Flag.OUTBOUND; }
-    final synchronized void markClientEnabled() { flags |= Flag.CLIENT_ENABLED; }
-    final synchronized void markServerEnabled() { flags |= Flag.SERVER_ENABLED; }
-    final synchronized boolean markClosingLogged() { try { return (flags & CLOSING_LOGGED) == 0; } finally { flags |= CLOSING_LOGGED; } }
+    private boolean isSet(int flag) { return (flags.get() & flag) != 0; }
+    /** @return true if the flag was not already set */
+    private boolean set(int flag) { return (flags.getAndAccumulate(flag, (f, b) -> f | b) & flag) == 0; }
+
+    final boolean isRequestSent() { return isSet(Flag.REQUEST_SENT); }
+    final boolean isDestroyed() { return isSet(Flag.DESTROYED); }
+    final boolean isReplySent() { return isSet(Flag.REPLY_SENT); }
+    final boolean isOutbound() { return isSet(Flag.OUTBOUND); }
+    final boolean isClientEnabled() { return isSet(Flag.CLIENT_ENABLED); }
+    final boolean isServerEnabled() { return isSet(Flag.SERVER_ENABLED); }
+    final void markRequestSent() { set(Flag.REQUEST_SENT); }
+    final void markDestroyed() { set(Flag.DESTROYED); }
+    final void markOutbound() { set(Flag.OUTBOUND); }
+    final void markClientEnabled() { set(Flag.CLIENT_ENABLED); }
+    final void markServerEnabled() { set(Flag.SERVER_ENABLED); }
+    final boolean markClosingLogged() { return set(CLOSING_LOGGED); }
 
     /** callback method when the ACM signals a timeout */
     abstract void ACM_callback();
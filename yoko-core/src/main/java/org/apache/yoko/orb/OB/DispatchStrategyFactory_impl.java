@@ -27,9 +27,11 @@ import org.omg.CORBA.TRANSIENT;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Vector;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.Logger;
 
 import static java.lang.Integer.parseInt;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.logging.Logger.getLogger;
 import static org.apache.yoko.logging.VerboseLogging.INIT_LOG;
 import static org.apache.yoko.util.Assert.fail;
@@ -65,20 +67,10 @@ final class DispatchSameThread_impl extends LocalObject implements DispatchStrat
 // ----------------------------------------------------------------------
 
 final class DispatchThreadPerRequest_impl extends LocalObject implements DispatchStrategy {
-    static final class Dispatcher extends Thread {
-        private final DispatchRequest request_;
+    private final ThreadFactory threadFactory;
 
-        Dispatcher(DispatchRequest request) {
-            super("Yoko:ThreadPerRequest:Dispatcher");
-            request_ = request;
-        }
-
-        public void run() {
-            request_.invoke();
-        }
-    }
-
-    DispatchThreadPerRequest_impl() {
+    DispatchThreadPerRequest_impl(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
     }
 
     // ------------------------------------------------------------------
@@ -94,7 +86,7 @@ final class DispatchThreadPerRequest_impl extends LocalObject implements Dispatc
 
     public void dispatch(DispatchRequest request) {
         try {
-            Thread t = new Dispatcher(request);
+            Thread t = threadFactory.newThread(request::invoke);
             t.start();
         } catch (OutOfMemoryError e) {
             throw new TRANSIENT();
@@ -201,7 +193,7 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
         //
         // Allocate a new ThreadPool
         //
-        pools_.setElementAt(new ThreadPool(i, nthreads), i);
+        pools_.setElementAt(newThreadPool(i, nthreads), i);
 
         return i;
     }
@@ -267,7 +259,8 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
         if (destroy_) {
             throw new INITIALIZE(describeInitialize(MinorORBDestroyed), MinorORBDestroyed, COMPLETED_NO);
         }
-        return new DispatchThreadPerRequest_impl();
+        final String name = "Yoko:ThreadPerRequest:Dispatcher";
+        return new DispatchThreadPerRequest_impl(orbInstance_ == null ? r -> new Thread(r, name) : orbInstance_.createTaskThreadFactory(name));
     }
 
     public synchronized DispatchStrategy create_default_dispatch_strategy() {
@@ -343,6 +336,53 @@ public final class DispatchStrategyFactory_impl extends LocalObject implements D
 
     public DispatchStrategyFactory_impl() {}
 
+    /**
+     * Create a pool of at most <code>nthreads</code> threads, configured by the ORB properties:
+     * <ul>
+     *     <li><code>yoko.orb.oa.thread_pool.min</code> - the number of threads to keep when idle (default: all of them)</li>
+     *     <li><code>yoko.orb.oa.thread_pool.keep_alive</code> - seconds before an idle thread above the minimum exits (default: 60)</li>
+     *     <li><code>yoko.orb.oa.thread_pool.queue_size</code> - the maximum number of waiting requests (default: 0, i.e. unbounded)</li>
+     *     <li><code>yoko.orb.oa.thread_pool.rejection</code> - <code>transient</code> (the default) to fail requests that do not fit
+     *     in the queue with a <code>TRANSIENT</code>, or <code>caller_runs</code> to dispatch them on the receiving thread</li>
+     * </ul>
+     */
+    private ThreadPool newThreadPool(int id, int nthreads) {
+        final Properties props = orbInstance_ == null ? new Properties() : orbInstance_.getProperties();
+        final int min = Math.min(nthreads, intProperty(props, "yoko.orb.oa.thread_pool.min", nthreads));
+        final int keepAlive = intProperty(props, "yoko.orb.oa.thread_pool.keep_alive", 60);
+        final int queueSize = intProperty(props, "yoko.orb.oa.thread_pool.queue_size", 0);
+        final String rejection = props.getProperty("yoko.orb.oa.thread_pool.rejection", "transient");
+        final ThreadPool.RejectionPolicy policy;
+        switch (rejection) {
+            case "transient": policy = ThreadPool.RejectionPolicy.TRANSIENT; break;
+            case "caller_runs": policy = ThreadPool.RejectionPolicy.CALLER_RUNS; break;
+            default:
+                INIT_LOG.warning(() -> "yoko.orb.oa.thread_pool.rejection: Unknown value `" + rejection + "'");
+                policy = ThreadPool.RejectionPolicy.TRANSIENT;
+        }
+        logger.fine(() -> String.format("Creating thread pool %d with %d to %d threads, queue size %d", id, min, nthreads, queueSize));
+        return new ThreadPool(id, min, nthreads, keepAlive, SECONDS, queueSize, policy);
+    }
+
+    private static int intProperty(Properties props, String key, int defaultValue) {
+        final String value = props.getProperty(key);
+        if (value == null) return defaultValue;
+        try {
+            final int result = parseInt(value);
+            if (result >= 0) return result;
+        } catch (NumberFormatException ignored) {}
+        INIT_LOG.warning(() -> key + ": invalid value `" + value + "'");
+        return defaultValue;
+    }
+
+    /** Get the current load on a thread pool created by this factory */
+    public synchronized ThreadPoolMetrics getThreadPoolMetrics(int id) throws InvalidThreadPool {
+        if (id < 0 || id >= pools_.size() || pools_.elementAt(id) == null) {
+            throw new InvalidThreadPool();
+        }
+        return pools_.elementAt(id);
+    }
+
     public synchronized void _OB_setORBInstance(ORBInstance orbInstance) {
         orbInstance_ = orbInstance;
     }
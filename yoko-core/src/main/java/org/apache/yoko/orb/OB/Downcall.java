@@ -62,6 +62,9 @@ public class Downcall {
     /** The downcall emitter */
     private DowncallEmitter emitter_;
 
+    /** The connection chosen for this downcall by a client with a connection pool, if any */
+    GIOPConnection pooledConnection;
+
     /** Information about the IOR profile */
     protected ProfileInfo profileInfo_;
 
@@ -191,7 +194,7 @@ public class Downcall {
         // Get the next request ID
         //
         client.prepareForDowncall(policies);
-        reqId_ = client_.getNewRequestID();
+        reqId_ = client_.getNewRequestID(this);
         
         REQ_OUT_LOG.fine(() -> "Downcall created for operation " + op + " with id " + reqId_);
     }
@@ -73,6 +73,8 @@ final class GIOPClient extends Client {
     private GIOPConnection connection_;
     /** The connection cache reference to release on destroy().  */
     private Reference<GIOPConnection> connectionRef;
+    /** The pool of further outbound connections, created with the first pooled downcall */
+    private OutboundConnectionPool pool;
 
     /** Codesets SC */
     private ServiceContext codeSetSC;
@@ -134,11 +136,12 @@ final class GIOPClient extends Client {
     }
 
     private synchronized void reuseOrCreateOutboundConnection(boolean create, final int timeout) {
-        Cache<ConnectorInfo, GIOPConnection> connCache = orbInstance.getOutboundConnectionCache();
+        Cache<OutboundConnectionKey, GIOPConnection> connCache = orbInstance.getOutboundConnectionCache();
+        OutboundConnectionKey key = new OutboundConnectionKey(connector.get_info(), 0);
         if (create) {
-            connectionRef = connCache.getOrCreate(connector.get_info(), () -> createOutboundConnection(timeout));
+            connectionRef = connCache.getOrCreate(key, () -> createOutboundConnection(key, timeout));
         } else {
-            connectionRef = connCache.get(connector.get_info());
+            connectionRef = connCache.get(key);
         }
         connCache.clean();
         connection_ = connectionRef.get();
@@ -166,7 +169,7 @@ final class GIOPClient extends Client {
         CONN_OUT_LOG.fine(() -> "reusing established bidir connection\n" + connection_.transport());
     }
 
-    private GIOPConnectionThreaded createOutboundConnection(int t) {
+    private GIOPConnectionThreaded createOutboundConnection(OutboundConnectionKey key, int t) {
         // Trace connection attempt
         if (CONN_OUT_LOG.isLoggable(FINE)) {
             String timeout = t >= 0 ? t + "ms" : "none";
@@ -202,7 +205,7 @@ final class GIOPClient extends Client {
         // Create new worker
         //
         Assert.ensure(concurrencyModel == Threaded);
-        return new GIOPConnectionThreaded(orbInstance, transport, this);
+        return new GIOPConnectionThreaded(orbInstance, transport, key);
     }
 
     // initialize internal service contexts
@@ -250,6 +253,7 @@ final class GIOPClient extends Client {
         if (destroyCalled) return;
         try (Reference<?> closeMe = connectionRef) {
             destroyCalled = true;
+            if (pool != null) pool.destroy();
         }
     }
 
@@ -258,6 +262,27 @@ final class GIOPClient extends Client {
         return connection_.getNewRequestId();
     }
 
+    /** Get a new request ID from the connection chosen to carry the downcall */
+    @Override
+    int getNewRequestID(Downcall down) {
+        if (!orbInstance.getClientPoolSettings().pooling()) return getNewRequestID();
+        final int timeout = down.policies().connectTimeout;
+        final GIOPConnection primary = getWorker(true, timeout);
+        final OutboundConnectionPool pool = getPool();
+        if (pool == null) return primary.getNewRequestId();
+        down.pooledConnection = pool.select(primary, key -> createOutboundConnection(key, timeout));
+        return down.pooledConnection.getNewRequestId();
+    }
+
+    /** Get the connection pool, or null if this client uses a single connection */
+    private synchronized OutboundConnectionPool getPool() {
+        // reused bidir connections are not cached, so they are not pooled either
+        if (pool == null && connectionRef != null && !bidirWorker) {
+            pool = new OutboundConnectionPool(orbInstance.getClientPoolSettings(), orbInstance.getOutboundConnectionCache(), connector.get_info());
+        }
+        return pool;
+    }
+
     // get a list of ServiceContexts that have to be sent on an AMI router request
     public ServiceContexts getAMIRouterContexts() {
         // initialize the service contexts if they haven't already been
@@ -302,6 +327,8 @@ final class GIOPClient extends Client {
         try {
             // Get the worker, creating a new one if there is none available
             connection = getWorker(true, down.policies().connectTimeout);
+            // Use the pooled connection this downcall's request ID came from, if any
+            if (down.pooledConnection != null) connection = down.pooledConnection;
         } catch (SystemException ex) {
             Assert.ensure(ex.completed == COMPLETED_NO);
             down.setFailureException(ex);
@@ -339,7 +366,7 @@ final class GIOPClient extends Client {
             }
 
             ProfileInfo profileInfo = down.profileInfo();
-            out.value = new YokoOutputStream(Buffer.createWriteBuffer(12).padAll(), codecs(), GiopVersion.get(profileInfo.major, profileInfo.minor));
+            out.value = new YokoOutputStream(Buffer.createWriteBuffer(orbInstance.getBufferPool(), 12).padAll(), codecs(), GiopVersion.get(profileInfo.major, profileInfo.minor));
 
             // Create GIOP outgoing message
             GIOPOutgoingMessage outgoing = new GIOPOutgoingMessage(orbInstance, out.value, profileInfo);
@@ -363,7 +390,12 @@ final class GIOPClient extends Client {
         if (!!!(other instanceof GIOPClient)) return false;
         GIOPClient that = (GIOPClient) other;
 
-        return this.connector.equal(that.connector) && this.codecs().equals(that.codecs());
+        return matches(that.connector, that.codecs());
+    }
+
+    /** Checks whether this client would be equal to a client created with the given connector and codecs */
+    boolean matches(Connector connector, CodecPair codecs) {
+        return this.connector.equal(connector) && this.codecs().equals(codecs);
     }
 
     /** Force connection establishment */
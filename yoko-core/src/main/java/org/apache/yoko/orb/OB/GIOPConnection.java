@@ -24,7 +24,6 @@ import org.apache.yoko.orb.CORBA.YokoOutputStream;
 import org.apache.yoko.orb.IOP.ServiceContexts;
 import org.apache.yoko.orb.OBPortableServer.POAManagerFactory;
 import org.apache.yoko.orb.OBPortableServer.POAManager_impl;
-import org.apache.yoko.orb.OCI.ConnectorInfo;
 import org.apache.yoko.orb.OCI.GiopVersion;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.orb.OCI.SendReceiveMode;
@@ -57,13 +56,15 @@ import org.omg.PortableServer.POAManager;
 import org.omg.SendingContext.CodeBase;
 
 import java.util.Properties;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static java.lang.Integer.parseInt;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.logging.Level.FINE;
 import static org.apache.yoko.logging.VerboseLogging.CONN_IN_LOG;
 import static org.apache.yoko.logging.VerboseLogging.CONN_LOG;
@@ -125,7 +126,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
     Transport transport_ = null;
 
     /** Client parent (null if server-side only) */
-    private final ConnectorInfo outboundConnectionKey;
+    private final OutboundConnectionKey outboundConnectionKey;
 
     /** Object-adapter interface (null if client-side only) */
     private OAInterface oaInterface_ = null;
@@ -147,12 +148,13 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
 
     private int idleTimeout_ = 0;
 
-    /** timer used for ACM management */
-    Timer acmTimer_ = null;
+    /** pending ACM idle timeout, scheduled on the ORB's timer */
+    private ScheduledFuture<?> acmTimer_ = null;
 
-    private CodeBase serverRuntime_;
+    /** incremented whenever the idle monitor is turned on or off, so a stale timeout can be ignored */
+    private int acmGeneration_ = 0;
 
-    TimerTask acmTask_ = null;
+    private volatile CodeBase serverRuntime_;
 
     // check if its compliant for this connection to send a
     // CloseConnection message to its peer
@@ -281,7 +283,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
     }
 
     /** process a request message */
-    private synchronized Upcall processRequest(GIOPIncomingMessage msg) {
+    private Upcall processRequest(GIOPIncomingMessage msg) {
         if (isServerEnabled() == false) {
             processException(ERROR, new COMM_FAILURE(describeCommFailure(MinorWrongMessage), MinorWrongMessage, COMPLETED_MAYBE), false);
             return null;
@@ -341,7 +343,11 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         assignSendingContextRuntime(in, contexts);
 
         // New upcall will be started
-        if (response.value) upcallsInProgress_++;
+        // (re-check the state under the lock, as gracefulShutdown() waits for upcalls in progress)
+        if (response.value) synchronized (this) {
+            if (getState() != ACTIVE) return null;
+            upcallsInProgress_++;
+        }
 
         REQ_IN_LOG.fine(() -> "Processing request reqId=" + reqId + " op=" + op.value);
 
@@ -351,7 +357,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
     }
 
     /** process a reply message */
-    private synchronized void processReply(GIOPIncomingMessage msg) {
+    private void processReply(GIOPIncomingMessage msg) {
         if (isClientEnabled() == false) {
             processException(ERROR, new COMM_FAILURE(describeCommFailure(MinorWrongMessage), MinorWrongMessage, COMPLETED_MAYBE), false);
             return;
@@ -449,12 +455,11 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
     }
 
     /** process a LocateRequest message */
-    private synchronized void processLocateRequest(GIOPIncomingMessage msg) {
+    private void processLocateRequest(GIOPIncomingMessage msg) {
         if (!isServerEnabled()) {
             processException(ERROR, new COMM_FAILURE(describeCommFailure(MinorWrongMessage), MinorWrongMessage, COMPLETED_MAYBE), false);
             return;
         }
-        Assert.ensure(getState() == ACTIVE);
 
         // Make sure the transport can send a reply
         if (transport_.mode() == SendReceiveMode.ReceiveOnly) {
@@ -501,7 +506,11 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
                 out.setPosition(pos);
 
                 // A locate request is treated just like an upcall
-                upcallsInProgress_++;
+                // (re-check the state under the lock, as gracefulShutdown() waits for upcalls in progress)
+                synchronized (this) {
+                    if (getState() != ACTIVE) return;
+                    upcallsInProgress_++;
+                }
 
                 // Send the locate reply
                 sendUpcallReply(out.getBufferReader());
@@ -512,7 +521,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
     }
 
     /** process a LocateReply message */
-    private synchronized void processLocateReply(GIOPIncomingMessage msg) {
+    private void processLocateReply(GIOPIncomingMessage msg) {
         if (isClientEnabled() == false) {
             processException(CLOSED, new COMM_FAILURE(describeCommFailure(MinorWrongMessage), MinorWrongMessage, COMPLETED_MAYBE), false);
             return;
@@ -664,41 +673,57 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         }
     }
 
+    ExecutorService getExecutor() {
+        if (this.isOutbound())
+            return orbInstance_.getClientExecutor();
+        else
+            return orbInstance_.getServerExecutor();
+    }
+
     /** turn on ACM idle connection monitoring */
     synchronized void ACM_enableIdleMonitor() {
         if (idleTimeout_ > 0) {
-            acmTimer_ = new Timer(true);
-            acmTask_ = new TimerTask() {
-                public void run() {
-                    ACM_callback();
-                }
-            };
-
-            acmTimer_.schedule(acmTask_, idleTimeout_ * 1000);
+            ACM_disableIdleMonitor();
+            final int generation = acmGeneration_;
+            try {
+                acmTimer_ = orbInstance_.getTimer().schedule(() -> ACM_timeout(generation), idleTimeout_, SECONDS);
+            } catch (RejectedExecutionException e) {
+                // the ORB is being destroyed, and this connection with it
+            }
         }
     }
 
     /** turn off ACM idle connection monitoring */
     synchronized void ACM_disableIdleMonitor() {
+        acmGeneration_++;
         if (acmTimer_ != null) {
-            acmTimer_.cancel();
+            acmTimer_.cancel(false);
             acmTimer_ = null;
         }
+    }
 
-        if (acmTask_ != null) {
-            acmTask_.cancel();
-            acmTask_ = null;
+    /** Runs on the ORB's shared timer thread, so only hands the timeout over to this connection's executor. */
+    private void ACM_timeout(int generation) {
+        try {
+            getExecutor().submit(() -> ACM_expire(generation));
+        } catch (RejectedExecutionException e) {
+            // the ORB is being destroyed, and this connection with it
         }
     }
 
+    /** Act on an idle timeout, unless the idle monitor has been turned off or restarted since it was scheduled. */
+    private synchronized void ACM_expire(int generation) {
+        if (generation == acmGeneration_) ACM_callback();
+    }
+
     /** client-side constructor */
-    GIOPConnection(ORBInstance orbInstance, Transport transport, GIOPClient client) {
+    GIOPConnection(ORBInstance orbInstance, Transport transport, OutboundConnectionKey key) {
         super(ACTIVE);
         // set member properties
         nextRequestId = new AtomicInteger(0xA);
         orbInstance_ = orbInstance;
         transport_ = transport;
-        outboundConnectionKey = client.connectorInfo();
+        outboundConnectionKey = key;
         markOutbound();
         markClientEnabled();
 
@@ -755,6 +780,11 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         return nextRequestId.getAndAdd(2);
     }
 
+    /** the number of requests queued on this connection or awaiting replies */
+    int outstandingRequests() {
+        return messageQueue_.outstanding();
+    }
+
     /** start populating the reply data */
     public void upcallBeginReply(Upcall upcall, ServiceContexts contexts) {
         upcall.createOutputStream(12);
@@ -802,6 +832,8 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
         }
 
         sendUpcallReply(out.getBufferReader());
+        // the request has been completely processed, so its buffer can be reused
+        upcall.input().getBuffer().recycle();
     }
 
     /** start populating the reply with a user exception */
@@ -934,7 +966,7 @@ abstract class GIOPConnection extends Connection implements DowncallEmitter, Upc
     public boolean replySent() { return isReplySent(); }
 
     /** check if this connection was already destroyed */
-    synchronized boolean destroyed() { return isDestroyed(); }
+    boolean destroyed() { return isDestroyed(); }
 
     /** destroy this connection */
     void destroy() { setState(CLOSING); }
@@ -20,6 +20,7 @@ package org.apache.yoko.orb.OB;
 import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.io.WriteBuffer;
 import org.apache.yoko.orb.CORBA.YokoOutputStream;
+import org.apache.yoko.orb.OCI.AsyncTransport;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.orb.OCI.Transport;
 import org.apache.yoko.rmi.util.ObjectUtil;
@@ -31,9 +32,12 @@ import org.omg.CORBA.SystemException;
 import org.omg.CORBA.TRANSIENT;
 import org.omg.GIOP.MsgType_1_1;
 
-import java.util.concurrent.ExecutorService;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -62,6 +66,8 @@ import static org.apache.yoko.util.MinorCodes.describeImpLimit;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 
 final class GIOPConnectionThreaded extends GIOPConnection {
+    /** The most queued messages to hand to the transport at once */
+    private static final int MAX_SEND_BATCH = 64;
 
     private final class Shutdown implements Runnable {
 
@@ -90,35 +96,134 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         }
     }
 
+    /**
+     * Receives complete messages from an {@link AsyncTransport} instead of a dedicated receiver thread.
+     * Messages are processed in order on the transport's thread; upcalls are dispatched to the executor.
+     */
+    private final class AsyncReceiver implements AsyncTransport.MessageHandler {
+        private final AsyncTransport transport = (AsyncTransport) transport_;
+        private final GIOPIncomingMessage inMsg = new GIOPIncomingMessage(orbInstance_);
+        // a message that arrived while the connection was paused
+        private WriteBuffer pending;
+
+        void start() {
+            final WriteBuffer message;
+            synchronized (this) {
+                message = pending;
+                pending = null;
+            }
+            if (message != null && !deliver(message)) return;
+            transport.startReceiving(this);
+        }
+
+        void pause() { transport.suspendReceiving(); }
+
+        public WriteBuffer newMessageBuffer() { return createWriteBuffer(orbInstance_.getBufferPool(), AsyncTransport.HEADER_SIZE); }
+
+        public int headerReceived(ReadBuffer header) {
+            try {
+                inMsg.extractHeader(header);
+                CONN_IN_LOG.finer(() -> "Header received for message of size " + inMsg.size());
+                return inMsg.size();
+            } catch (SystemException ex) {
+                processException(ERROR, ex, false);
+                return -1;
+            }
+        }
+
+        public boolean messageReceived(WriteBuffer message) {
+            logIncomingGiopMessage(message);
+            synchronized (this) {
+                if (gate.isClosed()) {
+                    pending = message;
+                    return false;
+                }
+            }
+            return deliver(message);
+        }
+
+        public void receiveFailed(SystemException ex) {
+            processException(CLOSED, ex, false);
+        }
+
+        private boolean deliver(WriteBuffer message) {
+            // see execReceive() for why reading continues while CLOSING
+            if (getState().forbids(READ)) return false;
+
+            final Upcall upcall;
+            try {
+                if (!inMsg.consumeBuffer(message)) return true;
+                upcall = processMessage(inMsg);
+            } catch (SystemException ex) {
+                processException(ERROR, ex, false);
+                return false;
+            }
+
+            if (upcall == null) return true;
+            CONN_IN_LOG.finer(() -> "Dispatching message using upcall " + upcall.getClass().getName());
+            try {
+                getExecutor().submit(upcall::invoke);
+            } catch (RejectedExecutionException ree) {
+                CONN_IN_LOG.log(WARNING, ree, () -> "Could not submit upcall");
+                processException(CLOSED, new IMP_LIMIT(describeImpLimit(MinorThreadLimit), MinorThreadLimit, COMPLETED_NO), false);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /** Uses a {@link ReentrantLock} rather than a monitor so that waiting does not pin a virtual thread's carrier. */
     private static final class ThreadGate {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition opened = lock.newCondition();
         private boolean closed = true;
 
+        boolean isClosed() {
+            lock.lock();
+            try {
+                return closed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
         /** Admit the current thread once open */
-        synchronized void admit() {
-            while (closed) {
-                try {
-                    wait();
-                } catch (InterruptedException ignored) {}
+        void admit() {
+            lock.lock();
+            try {
+                while (closed) opened.awaitUninterruptibly();
+            } finally {
+                lock.unlock();
             }
         }
 
-        synchronized void open() {
-            if (closed) {
-                this.closed = false;
-                notifyAll();
+        void open() {
+            lock.lock();
+            try {
+                if (closed) {
+                    this.closed = false;
+                    opened.signalAll();
+                }
+            } finally {
+                lock.unlock();
             }
         }
 
-        synchronized void close() {
-            this.closed = true;
+        void close() {
+            lock.lock();
+            try {
+                this.closed = true;
+            } finally {
+                lock.unlock();
+            }
         }
     }
 
-    private static final class SendMutex{}
-
     private final ThreadGate gate = new ThreadGate();
-    private final SendMutex sendMutex = new SendMutex();
+    // held while sending - a lock rather than a monitor, so blocking I/O does not pin a virtual thread's carrier
+    private final ReentrantLock sendLock = new ReentrantLock();
     private final ReentrantReadWriteLock receiverLock = new ReentrantReadWriteLock(true);
+    private final AsyncReceiver asyncReceiver = transport_ instanceof AsyncTransport ? new AsyncReceiver() : null;
     private boolean shuttingDown;
 
     // add a new receiver thread
@@ -151,10 +256,13 @@ final class GIOPConnectionThreaded extends GIOPConnection {
                     outgoing.writeMessageHeader(MsgType_1_1.MessageError, false, 0);
                     out.setPosition(0);
 
-                    synchronized (sendMutex) {
+                    sendLock.lock();
+                    try {
                         final ReadBuffer readBuffer = out.getBufferReader();
                         transport_.send(readBuffer, true);
                         Assert.ensure(readBuffer.isComplete());
+                    } finally {
+                        sendLock.unlock();
                     }
                 }
             } catch (SystemException ex) {
@@ -227,8 +335,8 @@ final class GIOPConnectionThreaded extends GIOPConnection {
     }
 
     // client-side constructor
-    GIOPConnectionThreaded(ORBInstance orbInstance, Transport transport, GIOPClient client) {
-        super(orbInstance, transport, client);
+    GIOPConnectionThreaded(ORBInstance orbInstance, Transport transport, OutboundConnectionKey key) {
+        super(orbInstance, transport, key);
         orbInstance.getClientPhaser().register();
         start();
     }
@@ -239,28 +347,25 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         orbInstance.getServerPhaser().register();
     }
 
-    private ExecutorService getExecutor() {
-        if (this.isOutbound())
-            return orbInstance_.getClientExecutor();
-        else
-            return orbInstance_.getServerExecutor();
-    }
-
     // called from the shutdown thread to initiate shutdown
     private void execShutdown() {
         if (canSendCloseConnection() && transport_.mode() != ReceiveOnly) {
             try {
-                synchronized (this) {
-                    while (messageQueue_.hasUnsent()) {
-                        // It's possible the CloseConnection message got sent via another means.
-                        ReadBuffer readBuffer = messageQueue_.getFirstUnsentBuffer();
-                        if (readBuffer != null) {
-                            synchronized (sendMutex) {
-                                transport_.send(readBuffer, true);
-                            }
-
-                            messageQueue_.moveFirstUnsentToPending();
-                        }
+                while (true) {
+                    // Take each message off the queue while locked, but send it unlocked (as in refresh()),
+                    // so a blocking send does not hold this connection's monitor.
+                    // It's possible the CloseConnection message got sent via another means.
+                    final ReadBuffer readBuffer;
+                    synchronized (this) {
+                        if (!messageQueue_.hasUnsent()) break;
+                        readBuffer = messageQueue_.getFirstUnsentBuffer();
+                        messageQueue_.moveFirstUnsentToPending();
+                    }
+                    sendLock.lock();
+                    try {
+                        transport_.send(readBuffer, true);
+                    } finally {
+                        sendLock.unlock();
                     }
                 }
             } catch (SystemException ex) {
@@ -270,10 +375,13 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         }
 
         // shutdown the transport
-        // synchronization on sendMutex_ is needed to avoid a deadlock in some oracle and ibm jdks between send and shutdown
+        // holding the send lock is needed to avoid a deadlock in some oracle and ibm jdks between send and shutdown
         // https://bugs.openjdk.java.net/browse/JDK-8013809 deadlock in SSLSocketImpl between between write and close
-        synchronized (sendMutex) {
+        sendLock.lock();
+        try {
             transport_.shutdown();
+        } finally {
+            sendLock.unlock();
         }
 
         // Shutdown the receiver threads. There may not be a receiver
@@ -304,7 +412,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
 
         while (true) {
             // Setup the incoming message buffer
-            WriteBuffer writer = createWriteBuffer(12);
+            WriteBuffer writer = createWriteBuffer(orbInstance_.getBufferPool(), 12);
 
             // Receive header, blocking, detect connection loss
             try {
@@ -349,7 +457,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
             // the Transport to make sure that no messages can get
             // lost upon close, and to make sure that CloseConnection
             // messages from the peer are processed.
-            synchronized (this) { if (getState().forbids(READ)) break; }
+            if (getState().forbids(READ)) break;
 
             // the upcall to invoke
             Upcall upcall = null;
@@ -393,15 +501,7 @@ final class GIOPConnectionThreaded extends GIOPConnection {
 
     // ACM callback method on ACM signal
     synchronized void ACM_callback() {
-        if (acmTimer_ != null) {
-            acmTimer_.cancel();
-            acmTimer_ = null;
-        }
-
-        if (acmTask_ != null) {
-            acmTask_.cancel();
-            acmTask_ = null;
-        }
+        ACM_disableIdleMonitor();
 
         // don't shutdown if there are unsent messages or if there are
         // upcalls in progress
@@ -467,7 +567,8 @@ final class GIOPConnectionThreaded extends GIOPConnection {
 
                 // Send the message
                 try {
-                    synchronized (sendMutex) {
+                    sendLock.lock();
+                    try {
                         if (t <= 0) {
                             // Send buffer, blocking
                             transport_.send(readBuffer, true);
@@ -479,6 +580,8 @@ final class GIOPConnectionThreaded extends GIOPConnection {
                             // Timeout?
                             if (!readBuffer.isComplete()) throw new NO_RESPONSE();
                         }
+                    } finally {
+                        sendLock.unlock();
                     }
                 } catch (SystemException ex) {
                     processException(CLOSED, ex, false);
@@ -493,29 +596,31 @@ final class GIOPConnectionThreaded extends GIOPConnection {
                 }
             }
         } else { // Non blocking
-            synchronized (this) {
-                for (;;) {
+            for (;;) {
+                // Take each message off the queue while locked, but send it unlocked (as in refresh()),
+                // so a send that blocks does not hold this connection's monitor.
+                final ReadBuffer readBuffer;
+                synchronized (this) {
                     if (!down.unsent()) break;
                     ensure(messageQueue_.hasUnsent());
-                    ReadBuffer readBuffer = messageQueue_.getFirstUnsentBuffer();
+                    readBuffer = messageQueue_.getFirstUnsentBuffer();
+                    messageQueue_.moveFirstUnsentToPending();
+                }
 
-                    // send this buffer, non-blocking
+                try {
+                    sendLock.lock();
                     try {
-                        synchronized (sendMutex) {
-                            transport_.send(readBuffer, false);
-                        }
-                    } catch (SystemException ex) {
-                        processException(CLOSED, ex, false);
-                        return true;
+                        transport_.send(readBuffer, false);
+                        // A partly written message must be completed before any other message is written,
+                        // so if the send would have blocked, finish it with a blocking send.
+                        if (!readBuffer.isComplete()) transport_.send(readBuffer, true);
+                        ensure(readBuffer.isComplete());
+                    } finally {
+                        sendLock.unlock();
                     }
-
-                    // if the buffer isn't full, it hasn't been sent because
-                    // the call would have blocked.
-                    if (!readBuffer.isComplete())
-                        return false;
-
-                    // now move to the pending pile
-                    Downcall dummy = messageQueue_.moveFirstUnsentToPending();
+                } catch (SystemException ex) {
+                    processException(CLOSED, ex, false);
+                    return true;
                 }
             }
         }
@@ -582,6 +687,11 @@ final class GIOPConnectionThreaded extends GIOPConnection {
 
         // check if we need to add a receiver thread
         if (transport_.mode() != SendOnly) {
+            // an asynchronous transport needs no receiver thread
+            if (asyncReceiver != null) {
+                asyncReceiver.start();
+                return;
+            }
             try {
                 // If the write lock is obtainable there are no receivers outstanding.
                 // We can then add a receiver, which implicitly obtains a read lock.
@@ -618,39 +728,53 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         if (transport_.mode() == ReceiveOnly)
             return;
 
-        // now send off any queued messages
+        // now send off any queued messages, a batch at a time
         while (true) {
-            ReadBuffer readBuffer;
-            Downcall dummy;
+            final List<ReadBuffer> buffers = new ArrayList<>();
+            final List<Downcall> downcalls = new ArrayList<>();
 
             try {
                 synchronized (this) {
-                    // stop when no messages left
-                    if (!messageQueue_.hasUnsent())
-                        break;
-
-                    readBuffer = messageQueue_.getFirstUnsentBuffer();
-                    readBuffer.rewindToStart();
-                    dummy = messageQueue_.moveFirstUnsentToPending();
+                    while (messageQueue_.hasUnsent() && buffers.size() < MAX_SEND_BATCH) {
+                        ReadBuffer readBuffer = messageQueue_.getFirstUnsentBuffer();
+                        readBuffer.rewindToStart();
+                        buffers.add(readBuffer);
+                        downcalls.add(messageQueue_.moveFirstUnsentToPending());
+                    }
                 }
 
+                // stop when no messages left
+                if (buffers.isEmpty()) break;
+
                 // make sure no two threads are sending at once
-                synchronized (sendMutex) {
-                    transport_.send(readBuffer, true);
+                sendLock.lock();
+                try {
+                    if (buffers.size() == 1) transport_.send(buffers.get(0), true);
+                    else transport_.send_gather(buffers.toArray(new ReadBuffer[0]));
+                } finally {
+                    sendLock.unlock();
                 }
 
-                // check if the buffer has been read to the end
-                // Some of the OCI plugins (bidir for example) will
-                // simply return instead of throwing an exception if the
-                // send fails
-                if (!readBuffer.isComplete()) throw new COMM_FAILURE(describeCommFailure(MinorSend), MinorSend, COMPLETED_NO);
-
-                // mark the message sent flag
-                if (!msgSentMarked && (dummy != null)) {
-                    if (dummy.responseExpected() && dummy.operation().equals("_locate")) {
-                        synchronized (this) {
-                            msgSentMarked = true;
-                            markRequestSent();
+                for (int i = 0; i < buffers.size(); i++) {
+                    final ReadBuffer readBuffer = buffers.get(i);
+                    final Downcall dummy = downcalls.get(i);
+
+                    // check if the buffer has been read to the end
+                    // Some of the OCI plugins (bidir for example) will
+                    // simply return instead of throwing an exception if the
+                    // send fails
+                    if (!readBuffer.isComplete()) throw new COMM_FAILURE(describeCommFailure(MinorSend), MinorSend, COMPLETED_NO);
+
+                    // a message without a downcall (e.g. a reply) belongs to this connection, so its buffer can be reused
+                    if (dummy == null) readBuffer.recycle();
+
+                    // mark the message sent flag
+                    if (!msgSentMarked && (dummy != null)) {
+                        if (dummy.responseExpected() && dummy.operation().equals("_locate")) {
+                            synchronized (this) {
+                                msgSentMarked = true;
+                                markRequestSent();
+                            }
                         }
                     }
                 }
@@ -661,7 +785,10 @@ final class GIOPConnectionThreaded extends GIOPConnection {
         }
     }
 
-    void pause() { gate.close(); }
+    void pause() {
+        gate.close();
+        if (asyncReceiver != null) asyncReceiver.pause();
+    }
 
     @Override
     public String toString() { return label + ": state = " + this.getState(); }
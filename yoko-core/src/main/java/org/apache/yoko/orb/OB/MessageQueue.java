@@ -24,6 +24,8 @@ import org.apache.yoko.util.Assert;
 import org.omg.CORBA.SystemException;
 
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static org.apache.yoko.util.Assert.ensure;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE;
@@ -35,8 +37,9 @@ public class MessageQueue {
     // Unsent requests
     private final Vector<UnsentMessage> unsent_ = new Vector<>();
 
-    // Requests that have been sent but are waiting for replies.
-    private final Vector<Downcall> pending_ = new Vector<>();
+    // Requests that have been sent but are waiting for replies, by request id.
+    // Replies are matched without holding the connection lock, so this map is concurrent.
+    private final ConcurrentMap<Integer, Downcall> pending_ = new ConcurrentHashMap<>();
 
     // Add new unsent buffer
     public void add(ORBInstance orbInstance, ReadBuffer readBuffer) {
@@ -92,7 +95,7 @@ public class MessageQueue {
         if (down != null) {
             if (down.responseExpected()) {
                 down.setPending();
-                pending_.addElement(down);
+                pending_.put(down.requestId(), down);
             } else {
                 down.setNoException(null);
             }
@@ -102,14 +105,7 @@ public class MessageQueue {
 
     // Find and remove a pending downcall
     public Downcall findAndRemovePending(int reqId) {
-        for (int i = 0; i < pending_.size(); i++) {
-            Downcall d = pending_.elementAt(i);
-            if (d.requestId() == reqId) {
-                pending_.removeElementAt(i);
-                return d;
-            }
-        }
-        return null;
+        return pending_.remove(reqId);
     }
 
     // Change the state of the queue due to an exception. Sets the
@@ -124,10 +120,9 @@ public class MessageQueue {
 
         SystemException except = Util.copy(ex);
         except.completed = notCompleted ? COMPLETED_NO : COMPLETED_MAYBE;
-        while (!pending_.isEmpty()) {
-            Downcall down = pending_.firstElement();
-            down.setFailureException(except);
-            pending_.removeElementAt(0);
+        // a reply may be matched concurrently, so only fail the downcalls this thread removes
+        for (Downcall down : pending_.values()) {
+            if (pending_.remove(down.requestId(), down)) down.setFailureException(except);
         }
     }
 
@@ -135,4 +130,9 @@ public class MessageQueue {
     public boolean hasUnsent() {
         return !unsent_.isEmpty();
     }
+
+    /** The number of requests that are either waiting to be sent or waiting for a reply */
+    public int outstanding() {
+        return unsent_.size() + pending_.size();
+    }
 }
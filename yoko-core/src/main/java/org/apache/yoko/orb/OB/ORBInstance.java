@@ -17,12 +17,13 @@
  */
 package org.apache.yoko.orb.OB;
 
+import org.apache.yoko.io.BufferPool;
 import org.apache.yoko.orb.OBPortableServer.POAManagerFactory;
 import org.apache.yoko.orb.OCI.AccFactoryRegistry;
 import org.apache.yoko.orb.OCI.ConFactoryRegistry;
-import org.apache.yoko.orb.OCI.ConnectorInfo;
 import org.apache.yoko.util.Assert;
 import org.apache.yoko.util.Cache;
+import org.apache.yoko.util.concurrent.VirtualThreads;
 import org.apache.yoko.util.concurrent.WeakCountedCache;
 import org.omg.CORBA.INTERNAL;
 import org.omg.CORBA.ORB;
@@ -33,14 +34,20 @@ import org.omg.IOP.CodecFactory;
 
 import static java.lang.Integer.parseInt;
 import static java.util.concurrent.Executors.newCachedThreadPool;
+import static org.apache.yoko.logging.VerboseLogging.INIT_LOG;
 
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class ORBInstance {
-    private final Cache<ConnectorInfo, GIOPConnection> outboundConnectionCache = new WeakCountedCache<>(GIOPConnection::destroy, 0, 100);
+    private final Cache<OutboundConnectionKey, GIOPConnection> outboundConnectionCache = new WeakCountedCache<>(GIOPConnection::destroy, 0, 100);
 
     private final ORB orb;
 
@@ -68,12 +75,16 @@ public final class ORBInstance {
     private final ExecutorService serverExecutor;
     private final Phaser serverPhaser = new Phaser(1);
     private final ExecutorService clientExecutor;
+    private final ScheduledThreadPoolExecutor timer = createTimer();
     private final Phaser clientPhaser = new Phaser(1);
     private ConFactoryRegistry conFactoryRegistry;
     private AccFactoryRegistry accFactoryRegistry;
     private UnknownExceptionStrategy unknownExceptionStrategy;
     private final URLRegistry urlRegistry;
-    private final boolean useTypeCodeCache;
+    private final TypeCodeCache typeCodeCache;
+    private final OutboundConnectionPool.Settings clientPoolSettings;
+    private final boolean useVirtualThreads;
+    private final BufferPool bufferPool;
     private OrbAsyncHandler asyncHandler;
     private final AtomicBoolean destroyCalled = new AtomicBoolean(); // True if destroy() was called
 
@@ -118,26 +129,20 @@ public final class ORBInstance {
         nativeWcharCodeSet = nativeWcs;
         defaultWcharCodeSet = defaultWcs;
 
+        // Use virtual threads? Only if requested and supported by the JVM.
+        useVirtualThreads = "true".equals(properties.getProperty("yoko.orb.virtual_threads")) && checkVirtualThreadSupport();
+
+        // Pool message buffers? Only if requested.
+        bufferPool = createBufferPool(properties);
+
         // Create the server and client executors
         // TODO why are these separate?
-        clientExecutor = newCachedThreadPool(
-                r -> {
-                    Thread result = new Thread(r);
-                    result.setDaemon(true);
-                    return result;
-                }
-        );
-        serverExecutor = newCachedThreadPool(
-                r -> {
-                    Thread result = new Thread(r);
-                    result.setDaemon(true);
-                    return result;
-                }
-        );
+        clientExecutor = createExecutor("Yoko:Client:");
+        serverExecutor = createExecutor("Yoko:Server:");
 
         // Use the TypeCode cache?
-        String tcc = this.properties.getProperty("yoko.orb.use_type_code_cache");
-        useTypeCodeCache = tcc == null || !tcc.equals("false");
+        typeCodeCache = createTypeCodeCache(properties);
+        clientPoolSettings = OutboundConnectionPool.Settings.fromProperties(properties);
 
         // get the number of AMI worker threads
         String amiWorkersStr = this.properties.getProperty("yoko.orb.ami_workers");
@@ -146,6 +151,63 @@ public final class ORBInstance {
         asyncHandler = new OrbAsyncHandler(amiWorkers);
     }
 
+    private static boolean checkVirtualThreadSupport() {
+        if (VirtualThreads.isSupported()) return true;
+        INIT_LOG.warning("yoko.orb.virtual_threads: virtual threads are not supported by this JVM - using platform threads");
+        return false;
+    }
+
+    private static BufferPool createBufferPool(Properties properties) {
+        if (!"true".equals(properties.getProperty("yoko.orb.buffer_pool"))) return null;
+        String maxSize = properties.getProperty("yoko.orb.buffer_pool.max_size");
+        return maxSize == null ? new BufferPool() : new BufferPool(parseInt(maxSize));
+    }
+
+    private static TypeCodeCache createTypeCodeCache(Properties properties) {
+        if ("false".equals(properties.getProperty("yoko.orb.use_type_code_cache"))) return null;
+        String maxSize = properties.getProperty("yoko.orb.type_code_cache.max_size");
+        return maxSize == null ? new TypeCodeCache() : new TypeCodeCache(parseInt(maxSize));
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        final AtomicInteger count = new AtomicInteger();
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "Yoko:Timer:" + count.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        // cancelled timeouts are the common case, so do not leave them queued until they expire
+        timer.setRemoveOnCancelPolicy(true);
+        timer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return timer;
+    }
+
+    private ExecutorService createExecutor(String prefix) {
+        if (useVirtualThreads) {
+            Optional<ExecutorService> executor = VirtualThreads.newThreadPerTaskExecutor(prefix);
+            if (executor.isPresent()) return executor.get();
+        }
+        return newCachedThreadPool(
+                r -> {
+                    Thread result = new Thread(r);
+                    result.setDaemon(true);
+                    return result;
+                }
+        );
+    }
+
+    /**
+     * Create a factory for threads that each run a single task, e.g. a request dispatcher.
+     * These are virtual threads if the ORB is configured to use them.
+     */
+    public ThreadFactory createTaskThreadFactory(String name) {
+        if (useVirtualThreads) {
+            Optional<ThreadFactory> factory = VirtualThreads.newThreadFactory(name + ":");
+            if (factory.isPresent()) return factory.get();
+        }
+        return r -> new Thread(r, name);
+    }
+
     public void destroy() {
         boolean firstCallToDestroy = destroyCalled.compareAndSet(false, true);
         Assert.ensure(firstCallToDestroy); // May only be destroyed once
@@ -203,6 +265,7 @@ public final class ORBInstance {
         unknownExceptionStrategy = null;
         asyncHandler.shutdown();
         asyncHandler = null;
+        timer.shutdownNow();
     }
 
     public ORB getORB() {
@@ -293,6 +356,19 @@ public final class ORBInstance {
         return clientExecutor;
     }
 
+    /**
+     * The timer shared by everything in this ORB that needs to act after a delay, e.g. connection idle timeouts.
+     * Scheduled tasks must be short, and should be cancelled when they are no longer needed.
+     */
+    public ScheduledExecutorService getTimer() {
+        return timer;
+    }
+
+    /** The number of tasks scheduled on the {@link #getTimer() timer} that have neither run nor been cancelled */
+    public int getOutstandingTimers() {
+        return timer.getQueue().size();
+    }
+
     public Phaser getClientPhaser() {
         return clientPhaser;
     }
@@ -332,12 +408,27 @@ public final class ORBInstance {
     }
 
     public boolean useTypeCodeCache() {
-        return useTypeCodeCache;
+        return typeCodeCache != null;
+    }
+
+    /** The cache for unmarshalled TypeCodes, or <code>null</code> if TypeCodes are not cached */
+    public TypeCodeCache getTypeCodeCache() {
+        return typeCodeCache;
+    }
+
+    /** The settings for pools of outbound connections to the same endpoint */
+    OutboundConnectionPool.Settings getClientPoolSettings() {
+        return clientPoolSettings;
+    }
+
+    /** The pool for message buffers, or <code>null</code> if buffers are not pooled */
+    public BufferPool getBufferPool() {
+        return bufferPool;
     }
 
     public OrbAsyncHandler getAsyncHandler() {
         return asyncHandler;
     }
 
-    public Cache<ConnectorInfo, GIOPConnection> getOutboundConnectionCache() {return outboundConnectionCache;}
+    public Cache<OutboundConnectionKey, GIOPConnection> getOutboundConnectionCache() {return outboundConnectionCache;}
 }
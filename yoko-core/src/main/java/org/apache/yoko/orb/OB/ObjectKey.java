@@ -247,4 +247,88 @@ public final class ObjectKey {
             return false;
         }
     }
+
+    //
+    // The following methods examine an object key in place, without
+    // allocating, so that the request path need not parse the whole key.
+    //
+
+    //
+    // Return the offset of the server id in the object key, i.e. the
+    // start of the POA path, or -1 if the key is not in Yoko format.
+    //
+    public static int findPoaPathStart(byte[] key) {
+        if (key.length <= 4 || key[0] != (byte) 0xab || key[1] != (byte) 0xac || key[2] != (byte) 0xab)
+            return -1;
+        if (key[3] == '0')
+            return 4;
+        if (key[3] != '1')
+            return -1;
+        int data = 4;
+        while (data < key.length && key[data] != '\0')
+            data++;
+        if (data >= key.length || parseCreateTime(key, data) == INVALID_TIME)
+            return -1;
+        return data + 1;
+    }
+
+    //
+    // Return the offset of the object id in the object key, i.e. the
+    // position after the pair of '\0' bytes that ends the POA path,
+    // or -1 if the POA path is malformed or there is no object id.
+    //
+    public static int findObjectIdStart(byte[] key, int poaPathStart) {
+        int end = key.length;
+        int data = poaPathStart;
+        while (data < end) {
+            while (data < end && key[data] != '\0')
+                data++;
+            if (++data >= end)
+                return -1;
+            if (key[data] == '\0')
+                return ++data < end ? data : -1;
+        }
+        return -1;
+    }
+
+    //
+    // Is this (Yoko format) key for a persistent POA?
+    //
+    public static boolean isPersistent(byte[] key) {
+        return key[3] == '0';
+    }
+
+    //
+    // Return the creation time in a transient (Yoko format) key
+    //
+    public static int getCreateTime(byte[] key) {
+        int end = 4;
+        while (key[end] != '\0')
+            end++;
+        return (int) parseCreateTime(key, end);
+    }
+
+    private static final long INVALID_TIME = Long.MIN_VALUE;
+
+    private static long parseCreateTime(byte[] key, int end) {
+        int data = 4;
+        boolean negative = data < end && key[data] == '-';
+        if (negative)
+            data++;
+        if (data == end)
+            return INVALID_TIME;
+        long value = 0;
+        for (; data < end; data++) {
+            int digit = key[data] - '0';
+            if (digit < 0 || digit > 9)
+                return INVALID_TIME;
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L)
+                return INVALID_TIME;
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE)
+            return INVALID_TIME;
+        return value;
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.OCI.ConnectorInfo;
+
+import java.util.Objects;
+
+/**
+ * Identifies a cached outbound connection.
+ * A client with a connection pool can have several connections open to the same endpoint,
+ * so each one is distinguished by its slot in the pool.
+ */
+public final class OutboundConnectionKey {
+    private final ConnectorInfo connectorInfo;
+    private final int slot;
+
+    OutboundConnectionKey(ConnectorInfo connectorInfo, int slot) {
+        this.connectorInfo = Objects.requireNonNull(connectorInfo);
+        this.slot = slot;
+    }
+
+    public ConnectorInfo connectorInfo() { return connectorInfo; }
+
+    public int slot() { return slot; }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof OutboundConnectionKey)) return false;
+        OutboundConnectionKey that = (OutboundConnectionKey) other;
+        return this.slot == that.slot && this.connectorInfo.equals(that.connectorInfo);
+    }
+
+    @Override
+    public int hashCode() { return 31 * connectorInfo.hashCode() + slot; }
+
+    @Override
+    public String toString() { return slot == 0 ? connectorInfo.toString() : connectorInfo + " #" + slot; }
+}
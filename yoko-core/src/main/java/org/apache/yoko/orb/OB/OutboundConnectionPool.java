@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.OCI.ConnectorInfo;
+import org.apache.yoko.util.Cache;
+import org.apache.yoko.util.Reference;
+import org.omg.CORBA.SystemException;
+
+import java.util.Properties;
+import java.util.function.Function;
+
+import static java.lang.Integer.parseInt;
+import static org.apache.yoko.logging.VerboseLogging.CONN_OUT_LOG;
+import static org.apache.yoko.logging.VerboseLogging.logged;
+import static org.apache.yoko.orb.OB.Connection.State.ACTIVE;
+
+/**
+ * The outbound connections over which a {@link GIOPClient} spreads its downcalls.
+ * <p>
+ *     The client's own connection is always a member of the pool, in slot 0.
+ *     More connections to the same endpoint are opened, up to the maximum size,
+ *     while the pool is smaller than its minimum size
+ *     or while even the least loaded connection has at least the threshold number of outstanding requests.
+ * </p>
+ * <p>
+ *     A new connection is opened outside the pool's monitor by the downcall that asked for it.
+ *     Meanwhile, other downcalls use the connections already open, and only wait if there are none.
+ * </p>
+ * <p>
+ *     Each connection is shared through the ORB's outbound connection cache, just like the client's own.
+ *     A connection that stops being active, e.g. because active connection management closed it when idle,
+ *     drops out of the pool and its cache reference is released.
+ * </p>
+ */
+final class OutboundConnectionPool {
+    enum Selection {LEAST_OUTSTANDING, ROUND_ROBIN}
+
+    /** The pool configuration for an ORB */
+    static final class Settings {
+        /** A pool of one connection, i.e. no pooling */
+        static final Settings SINGLE = new Settings(1, 1, 1, Selection.LEAST_OUTSTANDING);
+
+        final int minSize;
+        final int maxSize;
+        final int threshold;
+        final Selection selection;
+
+        private Settings(int minSize, int maxSize, int threshold, Selection selection) {
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.threshold = threshold;
+            this.selection = selection;
+        }
+
+        /** Read the settings from ORB properties, which have already been validated */
+        static Settings fromProperties(Properties properties) {
+            int maxSize = parseInt(properties.getProperty("yoko.orb.client_pool.max_size", "1"));
+            if (maxSize <= 1) return SINGLE;
+            int minSize = Math.min(maxSize, parseInt(properties.getProperty("yoko.orb.client_pool.min_size", "1")));
+            int threshold = parseInt(properties.getProperty("yoko.orb.client_pool.threshold", "4"));
+            String selection = properties.getProperty("yoko.orb.client_pool.selection", "least_outstanding");
+            return new Settings(minSize, maxSize, threshold, "round_robin".equals(selection) ? Selection.ROUND_ROBIN : Selection.LEAST_OUTSTANDING);
+        }
+
+        boolean pooling() { return maxSize > 1; }
+
+        @Override
+        public String toString() {
+            return String.format("Settings{minSize=%d, maxSize=%d, threshold=%d, selection=%s}", minSize, maxSize, threshold, selection);
+        }
+    }
+
+    private final Settings settings;
+    private final Cache<OutboundConnectionKey, GIOPConnection> cache;
+    private final ConnectorInfo connectorInfo;
+    /** The cache references for the extra connections, indexed by slot (slot 0 belongs to the client) */
+    private final Reference<GIOPConnection>[] members;
+    /** The slots for which a connection is being opened */
+    private final boolean[] opening;
+    private int turn;
+    private boolean destroyed;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    OutboundConnectionPool(Settings settings, Cache<OutboundConnectionKey, GIOPConnection> cache, ConnectorInfo connectorInfo) {
+        this.settings = settings;
+        this.cache = cache;
+        this.connectorInfo = connectorInfo;
+        this.members = new Reference[settings.maxSize];
+        this.opening = new boolean[settings.maxSize];
+    }
+
+    /**
+     * Choose the connection for the next downcall, opening a new one if the pool needs to grow.
+     * The client's own connection is skipped if it is no longer active, provided another connection is usable.
+     * @param primary the client's own connection
+     * @param factory creates a new connection for a key, or throws a {@link SystemException}
+     */
+    GIOPConnection select(GIOPConnection primary, Function<OutboundConnectionKey, GIOPConnection> factory) {
+        final int slot;
+        synchronized (this) {
+            for (;;) {
+                GIOPConnection chosen = choose(primary, true);
+                if (chosen != null) return chosen;
+                final int free = reserveSlot();
+                if (free > 0) {
+                    slot = free;
+                    break;
+                }
+                chosen = choose(primary, false);
+                if (chosen != null) return chosen;
+                // nothing is usable yet, but other downcalls may be opening connections
+                if (!awaitOpening()) return primary;
+            }
+        }
+        final GIOPConnection added = open(slot, factory);
+        if (added != null) return added;
+        synchronized (this) {
+            final GIOPConnection chosen = choose(primary, false);
+            // if nothing else is usable, the client's own connection will report its failure
+            return chosen == null ? primary : chosen;
+        }
+    }
+
+    /**
+     * Pick the connection for a downcall from those already open.
+     * @param grow whether to return <code>null</code> if the caller should open a new connection instead
+     * @return the chosen connection, or <code>null</code> if there is none or the caller should grow the pool
+     */
+    private GIOPConnection choose(GIOPConnection primary, boolean grow) {
+        final int start = turn;
+        turn = (turn + 1) % members.length;
+        GIOPConnection inTurn = null, least = null;
+        int leastLoad = Integer.MAX_VALUE, size = 0;
+        // start at a different slot each time so that ties are shared out
+        for (int i = 0; i < members.length; i++) {
+            final int slot = (start + i) % members.length;
+            // a connection being opened counts towards the size, so that concurrent downcalls do not all grow the pool
+            if (opening[slot]) size++;
+            final GIOPConnection conn = slot == 0 ? (primary.getState() == ACTIVE ? primary : null) : member(slot);
+            if (conn == null) continue;
+            size++;
+            if (inTurn == null) inTurn = conn;
+            final int load = conn.outstandingRequests();
+            if (load < leastLoad) {
+                least = conn;
+                leastLoad = load;
+            }
+        }
+        if (grow && !destroyed && size < settings.maxSize && (size < settings.minSize || leastLoad >= settings.threshold)) return null;
+        if (least == null) return null;
+        return settings.selection == Selection.ROUND_ROBIN ? inTurn : least;
+    }
+
+    /** @return a free slot, now marked as opening, or 0 if there is none */
+    private int reserveSlot() {
+        if (destroyed) return 0;
+        for (int slot = 1; slot < members.length; slot++) {
+            if (members[slot] != null || opening[slot]) continue;
+            opening[slot] = true;
+            return slot;
+        }
+        return 0;
+    }
+
+    /** Wait for another downcall to finish opening a connection, returning <code>false</code> if there is none to wait for */
+    private boolean awaitOpening() {
+        boolean any = false;
+        for (boolean b : opening) any |= b;
+        if (!any) return false;
+        try {
+            wait();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** Get the active connection in a slot, releasing it if it is no longer active */
+    private GIOPConnection member(int slot) {
+        final Reference<GIOPConnection> ref = members[slot];
+        if (ref == null) return null;
+        final GIOPConnection conn = ref.get();
+        if (conn.getState() == ACTIVE) return conn;
+        CONN_OUT_LOG.fine(() -> "dropping inactive connection " + new OutboundConnectionKey(connectorInfo, slot) + " from the pool");
+        members[slot] = null;
+        ref.close();
+        return null;
+    }
+
+    /** Open a connection for a reserved slot, without holding the pool's monitor */
+    private GIOPConnection open(int slot, Function<OutboundConnectionKey, GIOPConnection> factory) {
+        final OutboundConnectionKey key = new OutboundConnectionKey(connectorInfo, slot);
+        Reference<GIOPConnection> ref = null;
+        try {
+            ref = cache.getOrCreate(key, () -> factory.apply(key));
+        } catch (SystemException e) {
+            // make do with the connections already open
+            logged(CONN_OUT_LOG, e, "could not add connection " + key + " to the pool");
+        } finally {
+            cache.clean();
+        }
+        synchronized (this) {
+            opening[slot] = false;
+            notifyAll();
+            if (ref == null) return null;
+            if (destroyed) {
+                ref.close();
+                return null;
+            }
+            members[slot] = ref;
+        }
+        CONN_OUT_LOG.fine(() -> "added connection " + key + " to the pool");
+        return ref.get();
+    }
+
+    /** Release all the extra connections */
+    synchronized void destroy() {
+        destroyed = true;
+        for (int slot = 1; slot < members.length; slot++) {
+            try (Reference<?> closeMe = members[slot]) {
+                members[slot] = null;
+            }
+        }
+    }
+}
@@ -73,8 +73,10 @@ final public class PIManager {
     private final List<ClientRequestInterceptor> clientRequestInterceptors = newSynchronizedList();
     private final List<ServerRequestInterceptor> serverRequestInterceptors = newSynchronizedList();
     private final List<IORInterceptor> iorInterceptors = newSynchronizedList();
+    /** The request interceptor chains, which are fixed once all the ORB initializers have been invoked */
+    private volatile ClientRequestInterceptor[] clientChain = {};
+    private volatile ServerRequestInterceptor[] serverChain = {};
     private int numberOfStateSlots;
-    private boolean allOrbInitializersHaveBeenInvoked;
 
     private int nextID() {
         return nextInterceptorId.getAndIncrement();
@@ -84,7 +86,6 @@ final public class PIManager {
         this.orb = orb;
         current = null;
         numberOfStateSlots = 0;
-        allOrbInitializersHaveBeenInvoked = false;
     }
 
     void destroy() {
@@ -164,12 +165,15 @@ final public class PIManager {
             }
         }
 
-        allOrbInitializersHaveBeenInvoked = true;
+        // No more interceptors can be registered, so requests can use fixed chains
+        // instead of iterating over the synchronized lists
+        clientChain = clientRequestInterceptors.toArray(new ClientRequestInterceptor[0]);
+        serverChain = serverRequestInterceptors.toArray(new ServerRequestInterceptor[0]);
     }
 
     ClientRequestInfo clientSendRequest(PIDowncall downcall) throws LocationForward {
         ClientRequestInfo_impl info = new ClientRequestInfo_impl(orb, orbInstance, current, downcall);
-        info._OB_request(clientRequestInterceptors);
+        info._OB_request(clientChain);
         return info;
     }
 
@@ -246,7 +250,7 @@ final public class PIManager {
     // Call the receive_request_service_contexts interception point
     void serverReceiveRequestServiceContexts(ServerRequestInfo info) throws LocationForward {
         ServerRequestInfo_impl impl = (ServerRequestInfo_impl) info;
-        impl._OB_requestServiceContext(serverRequestInterceptors);
+        impl._OB_requestServiceContext(serverChain);
     }
 
     // Call the receive_request interception point
@@ -304,11 +308,11 @@ final public class PIManager {
     }
 
     public boolean haveClientInterceptors() {
-        return allOrbInitializersHaveBeenInvoked && !clientRequestInterceptors.isEmpty();
+        return clientChain.length != 0;
     }
 
     public boolean haveServerInterceptors() {
-        return allOrbInitializersHaveBeenInvoked && !serverRequestInterceptors.isEmpty();
+        return serverChain.length != 0;
     }
 
     enum Interceptors {
@@ -24,11 +24,14 @@ import org.apache.yoko.orb.OCI.Version;
 import org.omg.CORBA.StringSeqHolder;
 import org.omg.CORBA.SystemException;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import static java.security.AccessController.doPrivileged;
 import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
 import static org.apache.yoko.logging.VerboseLogging.INIT_LOG;
 import static org.apache.yoko.osgi.ProviderLocator.loadClass;
 import static org.apache.yoko.util.InstanceFactory.createNoArgsInstance;
@@ -43,10 +46,22 @@ public final class PluginManager {
     }
 
     public void destroy() {
+        pluginMap.values().stream()
+                .filter(Closeable.class::isInstance)
+                .map(Closeable.class::cast)
+                .forEach(PluginManager::close);
         pluginMap.clear();
         orb = null;
     }
 
+    private static void close(Closeable plugin) {
+        try {
+            plugin.close();
+        } catch (IOException ex) {
+            INIT_LOG.log(WARNING, ex, () -> "unable to close OCI plug-in " + plugin);
+        }
+    }
+
     public Plugin initPlugin(String name, StringSeqHolder args) {
         return pluginMap.computeIfAbsent(name, n -> createPlugin(n, args));
     }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * An unsynchronized open-addressing map from keys to the stream positions at which they were written.
+ * Positions are stored unboxed, and keys are compared with the supplied functions,
+ * so a repository ID list can be looked up by its array without wrapping it.
+ * <p>
+ *     Positions must not be negative.
+ * </p>
+ */
+final class PositionIndex<K> {
+    static final int ABSENT = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final ToIntFunction<? super K> hasher;
+    private final BiPredicate<? super K, ? super K> matcher;
+    private Object[] keys;
+    private int[] positions;
+    private int size;
+
+    static PositionIndex<String> forStrings() { return new PositionIndex<>(String::hashCode, String::equals); }
+
+    static PositionIndex<String[]> forStringArrays() { return new PositionIndex<>(Arrays::hashCode, Arrays::equals); }
+
+    PositionIndex(ToIntFunction<? super K> hasher, BiPredicate<? super K, ? super K> matcher) {
+        this.hasher = hasher;
+        this.matcher = matcher;
+        this.keys = new Object[DEFAULT_CAPACITY];
+        this.positions = new int[DEFAULT_CAPACITY];
+    }
+
+    private int hash(K key) {
+        final int h = hasher.applyAsInt(key) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /** @return the position recorded for the key, or {@link #ABSENT} */
+    @SuppressWarnings("unchecked")
+    int get(K key) {
+        final int mask = keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            final Object k = keys[i];
+            if (k == null) return ABSENT;
+            if (k == key || matcher.test((K) k, key)) return positions[i];
+        }
+    }
+
+    /** Record the position of a key, unless the key already has a position */
+    @SuppressWarnings("unchecked")
+    void putIfAbsent(K key, int pos) {
+        if (pos < 0) throw new IllegalArgumentException("negative position " + pos);
+        final int mask = keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            final Object k = keys[i];
+            if (k == null) {
+                keys[i] = key;
+                positions[i] = pos;
+                if (++size * 4 > keys.length * 3) grow();
+                return;
+            }
+            if (k == key || matcher.test((K) k, key)) return;
+        }
+    }
+
+    int size() { return size; }
+
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        final Object[] oldKeys = keys;
+        final int[] oldPositions = positions;
+        keys = new Object[oldKeys.length << 1];
+        positions = new int[oldPositions.length << 1];
+        final int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == null) continue;
+            int i = hash((K) oldKeys[j]) & mask;
+            while (keys[i] != null) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            positions[i] = oldPositions[j];
+        }
+    }
+}
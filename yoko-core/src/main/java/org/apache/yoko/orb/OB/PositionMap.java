@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+/**
+ * An unsynchronized open-addressing map from stream positions to values.
+ * Positions are stored unboxed, and there are no entry objects, so recording and resolving
+ * an indirection allocates nothing unless the table has to grow.
+ * <p>
+ *     Values must not be <code>null</code>.
+ * </p>
+ */
+final class PositionMap<V> {
+    /** The initial number of slots, which must be a power of two */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    private static int hash(int pos) {
+        final int h = pos * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(int pos) {
+        final int mask = keys.length - 1;
+        for (int i = hash(pos) & mask; ; i = (i + 1) & mask) {
+            final Object v = values[i];
+            if (v == null || keys[i] == pos) return (V) v;
+        }
+    }
+
+    /** @return the previous value for the position, or <code>null</code> if there was none */
+    @SuppressWarnings("unchecked")
+    V put(int pos, V value) {
+        if (value == null) throw new NullPointerException("value");
+        final int mask = keys.length - 1;
+        for (int i = hash(pos) & mask; ; i = (i + 1) & mask) {
+            final Object v = values[i];
+            if (v == null) {
+                keys[i] = pos;
+                values[i] = value;
+                if (++size * 4 > keys.length * 3) grow();
+                return null;
+            }
+            if (keys[i] == pos) {
+                values[i] = value;
+                return (V) v;
+            }
+        }
+    }
+
+    int size() { return size; }
+
+    private void grow() {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new Object[oldValues.length << 1];
+        final int mask = keys.length - 1;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] == null) continue;
+            int i = hash(oldKeys[j]) & mask;
+            while (values[i] != null) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+}
@@ -17,106 +17,224 @@
  */
 package org.apache.yoko.orb.OB;
 
-import java.util.Vector;
-
 import org.omg.CORBA.OBJ_ADAPTER;
 
-final class ThreadPool {
-    private boolean destroy_ = false; // True if destroy was called
-
-    private Vector requests_ = new Vector();
-
-    private ThreadGroup group_; // Thread group for the threads in the pool
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.yoko.logging.VerboseLogging.REQ_IN_LOG;
+import static org.apache.yoko.orb.exceptions.Transients.THREAD_POOL_FULL;
+
+/**
+ * A pool of dispatcher threads fed from a lock-free queue.
+ * <p>
+ * The pool keeps at least <code>min</code> threads and starts more, up to <code>max</code>,
+ * whenever a request arrives and no thread is idle. Threads above the minimum exit once they
+ * have been idle for the keep-alive time. If the queue is bounded, requests that do not fit
+ * are handled according to the {@link RejectionPolicy}.
+ */
+final class ThreadPool implements ThreadPoolMetrics {
+    enum RejectionPolicy {
+        /** Fail the request with a <code>TRANSIENT</code> so the client can retry it. */
+        TRANSIENT,
+        /** Dispatch the request on the thread that submitted it. */
+        CALLER_RUNS
+    }
 
-    //
-    // ThreadPoolDispatcher
-    //
-    private class Dispatcher extends Thread {
-        private ThreadPool threadPool_;
+    private static final class Task {
+        final DispatchRequest request;
+        final long enqueued = System.nanoTime();
+        Task(DispatchRequest request) { this.request = request; }
+    }
 
-        Dispatcher(ThreadGroup group, ThreadPool threadPool, int id, int n) {
-            super(group, "Yoko:ThreadPool-" + id + ":Dispatcher-" + n);
-            threadPool_ = threadPool;
+    private final class Dispatcher extends Thread {
+        Dispatcher(int n) {
+            super("Yoko:ThreadPool-" + id + ":Dispatcher-" + n);
         }
 
         public void run() {
-            while (true) {
-                DispatchRequest req = threadPool_.get();
+            try {
+                for (Task task = next(); task != null; task = next()) {
+                    recordWait(task);
+                    task.request.invoke();
+                }
+            } finally {
+                dispatchers.remove(this);
+            }
+        }
 
-                //
-                // ThreadPool has terminated
-                //
-                if (req == null)
-                    return;
+        /** @return the next task, or null if this thread should exit */
+        private Task next() {
+            while (!destroyed) {
+                final Task task = queue.poll();
+                if (task != null) {
+                    queueDepth.decrementAndGet();
+                    return task;
+                }
+                // advertise as idle, then check again so a concurrent add() cannot be missed
+                idle.push(this);
+                if (!queue.isEmpty() || destroyed) {
+                    idle.remove(this);
+                    continue;
+                }
+                final boolean mayRetire = threadCount.get() > min;
+                final long start = System.nanoTime();
+                if (mayRetire) LockSupport.parkNanos(this, keepAliveNanos);
+                else LockSupport.park(this);
+                // an add() that removed this thread from the idle stack has queued work for it
+                if (!idle.remove(this)) continue;
+                if (mayRetire && System.nanoTime() - start >= keepAliveNanos && retire()) {
+                    // an add() that found no idle thread while this one was retiring may have been unable to start one,
+                    // so carry on if there is still work and the thread can be reinstated
+                    if (queue.isEmpty() || destroyed || !reserveThread()) return null;
+                }
+            }
+            return null;
+        }
 
-                req.invoke();
+        /** Reduce the thread count, unless that would drop it below the minimum */
+        private boolean retire() {
+            for (int n = threadCount.get(); n > min; n = threadCount.get()) {
+                if (threadCount.compareAndSet(n, n - 1)) return true;
             }
+            return false;
         }
     }
 
-    public ThreadPool(int id, int n) {
-        //
-        // Create a new thread group. Place each of the threads in the
-        // pool in this new group.
-        //
-        group_ = new ThreadGroup("ThreadPool-" + id);
-
-        //
-        // Start all each of the threads in the pool
-        //
-        for (int i = 0; i < n; i++) {
-            Thread t = new Dispatcher(group_, this, id, i);
-            t.start();
+    private final int id;
+    private final int min;
+    private final int max;
+    private final long keepAliveNanos;
+    private final int capacity;
+    private final RejectionPolicy rejectionPolicy;
+
+    private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedDeque<Dispatcher> idle = new ConcurrentLinkedDeque<>();
+    private final Set<Dispatcher> dispatchers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final AtomicInteger threadsCreated = new AtomicInteger();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    private volatile boolean destroyed;
+
+    /** Create a pool with a fixed number of threads and an unbounded queue */
+    ThreadPool(int id, int n) {
+        this(id, n, n, 0, NANOSECONDS, 0, RejectionPolicy.TRANSIENT);
+    }
+
+    /**
+     * @param capacity the maximum number of queued requests, or zero for an unbounded queue
+     */
+    ThreadPool(int id, int min, int max, long keepAlive, TimeUnit unit, int capacity, RejectionPolicy rejectionPolicy) {
+        if (min < 0 || max < 1 || min > max || capacity < 0) throw new IllegalArgumentException(String.format(
+                "Invalid thread pool settings: min=%d max=%d capacity=%d", min, max, capacity));
+        this.id = id;
+        this.min = min;
+        this.max = max;
+        this.keepAliveNanos = unit.toNanos(keepAlive);
+        this.capacity = capacity;
+        this.rejectionPolicy = rejectionPolicy;
+        for (int i = 0; i < min; i++) {
+            threadCount.incrementAndGet();
+            startDispatcher();
         }
     }
 
+    private void startDispatcher() {
+        final Dispatcher d = new Dispatcher(threadsCreated.getAndIncrement());
+        dispatchers.add(d);
+        d.start();
+    }
 
-    void destroy() {
-        synchronized (this) {
-            if (destroy_)
-                return;
-            destroy_ = true;
-            notifyAll();
+    /** Increase the thread count if it is below the maximum */
+    private boolean reserveThread() {
+        for (int n = threadCount.get(); n < max; n = threadCount.get()) {
+            if (threadCount.compareAndSet(n, n + 1)) return true;
         }
+        return false;
+    }
+
+    void destroy() {
+        if (destroyed) return;
+        destroyed = true;
+        dispatchers.forEach(LockSupport::unpark);
 
-        //
         // Wait for all the threads in the pool to end
-        //
-        synchronized (group_) {
-            while (group_.activeCount() > 0) {
+        for (Dispatcher d : dispatchers) {
+            if (d == Thread.currentThread()) continue;
+            boolean interrupted = false;
+            while (d.isAlive()) {
                 try {
-                    group_.wait();
+                    d.join();
                 } catch (InterruptedException ex) {
+                    interrupted = true;
                 }
             }
+            if (interrupted) Thread.currentThread().interrupt();
         }
+        queue.clear();
+        queueDepth.set(0);
     }
 
-    synchronized void add(DispatchRequest request) {
-        //
-        // If the thread pool has been destroyed then this is an
-        // OBJ_ADAPTER error
-        //
-        if (destroy_)
-            throw new OBJ_ADAPTER("Thread pool is destroyed");
+    void add(DispatchRequest request) {
+        // If the thread pool has been destroyed then this is an OBJ_ADAPTER error
+        if (destroyed) throw new OBJ_ADAPTER("Thread pool is destroyed");
 
-        requests_.addElement(request);
-        notify();
+        if (queueDepth.incrementAndGet() > capacity && capacity > 0) {
+            queueDepth.decrementAndGet();
+            reject(request);
+            return;
+        }
+        queue.add(new Task(request));
+
+        final Dispatcher d = idle.poll();
+        if (d != null) LockSupport.unpark(d);
+        else if (reserveThread()) startDispatcher();
     }
 
-    private synchronized DispatchRequest get() {
-        while (!destroy_ && requests_.isEmpty()) {
-            try {
-                wait();
-            } catch (InterruptedException ex) {
-            }
+    private void reject(DispatchRequest request) {
+        rejected.increment();
+        switch (rejectionPolicy) {
+            case CALLER_RUNS:
+                REQ_IN_LOG.fine(() -> "Thread pool " + id + " queue is full - dispatching on the calling thread");
+                dispatched.increment();
+                request.invoke();
+                return;
+            case TRANSIENT:
+            default:
+                REQ_IN_LOG.fine(() -> "Thread pool " + id + " queue is full - rejecting request");
+                throw THREAD_POOL_FULL.create();
         }
+    }
 
-        DispatchRequest result = null;
-        if (!destroy_) {
-            result = (DispatchRequest) requests_.firstElement();
-            requests_.removeElementAt(0);
-        }
-        return result;
+    private void recordWait(Task task) {
+        final long wait = System.nanoTime() - task.enqueued;
+        dispatched.increment();
+        totalWaitNanos.add(wait);
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
     }
+
+    // ------------------------------------------------------------------
+    // ThreadPoolMetrics
+    // ------------------------------------------------------------------
+
+    public int queueDepth() { return queueDepth.get(); }
+    public int threadCount() { return threadCount.get(); }
+    public int idleThreadCount() { return idle.size(); }
+    public long dispatchedCount() { return dispatched.sum(); }
+    public long rejectedCount() { return rejected.sum(); }
+    public long totalWaitTime(TimeUnit unit) { return unit.convert(totalWaitNanos.sum(), NANOSECONDS); }
+    public long maxWaitTime(TimeUnit unit) { return unit.convert(maxWaitNanos.get(), NANOSECONDS); }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot view of the load on a dispatch thread pool.
+ *
+ * @see DispatchStrategyFactory_impl#getThreadPoolMetrics(int)
+ */
+public interface ThreadPoolMetrics {
+    /** @return the number of requests waiting for a dispatcher thread */
+    int queueDepth();
+    /** @return the number of dispatcher threads, busy or idle */
+    int threadCount();
+    /** @return the number of dispatcher threads waiting for a request */
+    int idleThreadCount();
+    /** @return the number of requests dispatched so far */
+    long dispatchedCount();
+    /** @return the number of requests that did not fit in the queue */
+    long rejectedCount();
+    /** @return the total time requests have spent in the queue */
+    long totalWaitTime(TimeUnit unit);
+    /** @return the longest time a request has spent in the queue */
+    long maxWaitTime(TimeUnit unit);
+}
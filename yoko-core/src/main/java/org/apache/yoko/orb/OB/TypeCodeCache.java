@@ -17,43 +17,155 @@
  */
 package org.apache.yoko.orb.OB;
 
-import java.util.Hashtable;
-
 import org.apache.yoko.orb.CORBA.TypeCodeImpl;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache of unmarshalled top-level TypeCodes.
+ * <p>
+ *     Entries are keyed by the TypeCode kind, its repository ID, and the length of its encapsulation,
+ *     so a cached TypeCode is only reused for an encapsulation that matches it in all three.
+ *     Lookups take no locks. The cache holds at most a configured number of entries,
+ *     and evicts the least recently used quarter of them when it overflows.
+ * </p>
+ */
 public final class TypeCodeCache {
-    private Hashtable cache_; // The type code cache hashtable
+    public static final int DEFAULT_MAX_SIZE = 1024;
 
-    private static TypeCodeCache instance_ = null; // Singleton instance
+    private static final class Key {
+        final int kind;
+        final String id;
+        final int length;
 
-    private static final Object instanceMutex_ = new Object();
+        Key(int kind, String id, int length) {
+            this.kind = kind;
+            this.id = id;
+            this.length = length;
+        }
 
-    // ----------------------------------------------------------------------
-    // ORBInstance public member implementation
-    // ----------------------------------------------------------------------
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return kind == that.kind && length == that.length && id.equals(that.id);
+        }
 
-    TypeCodeCache() {
-        cache_ = new Hashtable(63);
+        @Override
+        public int hashCode() { return Objects.hash(kind, id, length); }
     }
 
-    static public TypeCodeCache instance() {
-        synchronized (instanceMutex_) {
-            if (instance_ == null) {
-                instance_ = new TypeCodeCache();
-            }
+    private static final class Entry {
+        final TypeCodeImpl tc;
+        volatile int lastUsed;
+
+        Entry(TypeCodeImpl tc, int lastUsed) {
+            this.tc = tc;
+            this.lastUsed = lastUsed;
         }
-        return instance_;
     }
 
-    synchronized public TypeCodeImpl get(String id) {
-        return (TypeCodeImpl) cache_.get(id);
+    private final int maxSize;
+    private final ConcurrentHashMap<Key, Entry> cache = new ConcurrentHashMap<>();
+    /** Advanced on every insertion, so recency is measured in cache misses rather than in time */
+    private final AtomicInteger clock = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TypeCodeCache() { this(DEFAULT_MAX_SIZE); }
+
+    /** @param maxSize the maximum number of TypeCodes to keep */
+    public TypeCodeCache(int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("TypeCode cache size must be at least 1");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Find a cached TypeCode.
+     * @param kind the kind of the TypeCode
+     * @param id the repository ID of the TypeCode, which must not be empty
+     * @param length the length of the TypeCode's encapsulation
+     * @return the cached TypeCode, or <code>null</code> if there is no match
+     */
+    public TypeCodeImpl get(int kind, String id, int length) {
+        Entry e = cache.get(new Key(kind, id, length));
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        int now = clock.get();
+        if (e.lastUsed != now) e.lastUsed = now;
+        return e.tc;
+    }
+
+    /**
+     * Cache a TypeCode, unless one is already cached for the same kind, repository ID, and encapsulation length.
+     * @param kind the kind of the TypeCode
+     * @param id the repository ID of the TypeCode, which must not be empty
+     * @param length the length of the TypeCode's encapsulation
+     * @param tc the TypeCode
+     */
+    public void put(int kind, String id, int length, TypeCodeImpl tc) {
+        if (cache.putIfAbsent(new Key(kind, id, length), new Entry(tc, clock.incrementAndGet())) != null) return;
+        if (cache.size() > maxSize) evict();
+    }
+
+    private void evict() {
+        // if another thread is already evicting, it will check again for overflow when it has finished
+        do {
+            if (!evictionLock.tryLock()) return;
+            try {
+                evictLeastRecentlyUsed();
+            } finally {
+                evictionLock.unlock();
+            }
+        } while (cache.size() > maxSize);
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final int size = cache.size();
+        if (size <= maxSize) return;
+        // find the usage time below which a quarter of the entries (and at least the overflow) were last used
+        final int[] times = new int[size];
+        int n = 0;
+        for (Entry e : cache.values()) {
+            if (n == times.length) break;
+            times[n++] = e.lastUsed;
+        }
+        Arrays.sort(times, 0, n);
+        final int toRemove = Math.min(n, Math.max(size - maxSize, size / 4));
+        if (toRemove == 0) return;
+        final int threshold = times[toRemove - 1];
+        int removed = 0;
+        for (Map.Entry<Key, Entry> me : cache.entrySet()) {
+            if (removed == toRemove) break;
+            if (me.getValue().lastUsed <= threshold && cache.remove(me.getKey(), me.getValue())) removed++;
+        }
+        evictions.add(removed);
     }
 
-    synchronized public void put(String id,
-            TypeCodeImpl tc) {
-        if (cache_.containsKey(id))
-            return;
+    /** The number of lookups that found a cached TypeCode */
+    public long getHits() { return hits.sum(); }
+    /** The number of lookups that found no cached TypeCode */
+    public long getMisses() { return misses.sum(); }
+    /** The number of TypeCodes removed to keep the cache within its maximum size */
+    public long getEvictions() { return evictions.sum(); }
+    /** The number of TypeCodes currently cached */
+    public int size() { return cache.size(); }
 
-        cache_.put(id, tc);
+    @Override
+    public String toString() {
+        return String.format("TypeCodeCache{maxSize=%d, size=%d, hits=%d, misses=%d, evictions=%d}",
+                maxSize, size(), getHits(), getMisses(), getEvictions());
     }
 }
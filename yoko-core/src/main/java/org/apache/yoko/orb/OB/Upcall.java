@@ -158,7 +158,7 @@ public class Upcall {
 
     public void createOutputStream(int offset) {
         final GiopVersion giopVersion = GiopVersion.get(profileInfo_.major, profileInfo_.minor);
-        out_ = new YokoOutputStream(createWriteBuffer(offset).padAll(), in_.getCodecs(), giopVersion);
+        out_ = new YokoOutputStream(createWriteBuffer(orbInstance_.getBufferPool(), offset).padAll(), in_.getCodecs(), giopVersion);
     }
 
     public YokoInputStream preUnmarshal() {
@@ -46,7 +46,6 @@ import javax.rmi.CORBA.Util;
 import javax.rmi.CORBA.ValueHandler;
 import java.io.Serializable;
 import java.lang.reflect.Array;
-import java.util.Hashtable;
 import java.util.Map;
 import java.util.Optional;
 
@@ -141,9 +140,11 @@ public final class ValueReader {
 
     private final Map<Integer, Serializable> instanceTable_;
 
-    private final Map<Integer, Header> headerTable_;
+    /** Headers of the values read so far, by position (created on first use) */
+    private PositionMap<Header> headerTable_;
 
-    private Map<Integer, Integer> positionTable_;
+    /** Translation of value positions when remarshalling (created on first use) */
+    private PositionMap<Integer> positionTable_;
 
     private final ChunkState chunkState_ = new ChunkState();
 
@@ -536,6 +537,7 @@ public final class ValueReader {
         //
         // Add entry to header table
         //
+        if (headerTable_ == null) headerTable_ = new PositionMap<>();
         headerTable_.put(h.headerPos, h);
     }
 
@@ -742,7 +744,7 @@ public final class ValueReader {
             // If it's not null and it's not in our history, then
             // there's no hope
             //
-            final Header nest = headerTable_.get(posObj);
+            final Header nest = headerTable_ == null ? null : headerTable_.get(pos);
 
             if (nest == null) {
                 throw new MARSHAL(describeMarshal(MinorNoValueFactory) + ": cannot instantiate value for indirection",
@@ -908,7 +910,6 @@ public final class ValueReader {
         buf_ = in.getBuffer();
         orbInstance_ = in._OB_ORBInstance();
         instanceTable_ = in.getOffsetMap();
-        headerTable_ = new Hashtable<>(131);
     }
 
     private Serializable readRMIValue(Header h, String repid) { return readRMIValue(h, repid, null); }
@@ -1077,10 +1078,10 @@ public final class ValueReader {
         // be reset.
         //
         //
-        // Create a new Hashtable for each top-level call to remarshalValue
+        // Create the position table on the first call to remarshalValue
         //
         if (positionTable_ == null) {
-            positionTable_ = new Hashtable<>(131);
+            positionTable_ = new PositionMap<>();
         }
 
         final TypeCode origTC = _OB_getOrigType(tc);
@@ -1120,7 +1121,7 @@ public final class ValueReader {
             // to a valuetype that we were unable to create and we therefore
             // raise MARSHAL.
             //
-            @SuppressWarnings("UnnecessaryBoxing") final Integer newPos = positionTable_.get(oldPos);
+            final Integer newPos = positionTable_.get(oldPos);
             if (newPos != null) {
                 out.write_long(h.tag);
                 offs = newPos - out.getPosition();
@@ -1539,6 +1540,15 @@ public final class ValueReader {
         skipChunk();
     }
 
+    /**
+     * @return the number of bytes left in the current chunk,
+     *         or {@link Integer#MAX_VALUE} if no chunk is being read
+     */
+    public int remainingInChunk() {
+        if (!chunkState_.chunked || chunkState_.chunkStart <= 0) return Integer.MAX_VALUE;
+        return chunkState_.chunkStart + chunkState_.chunkSize - buf_.getPosition();
+    }
+
     public void checkChunk() {
         if (!chunkState_.chunked) {
             return;
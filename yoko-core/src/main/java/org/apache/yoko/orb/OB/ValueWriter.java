@@ -37,8 +37,6 @@ import org.omg.CORBA.portable.ValueBase;
 
 import javax.rmi.CORBA.ValueHandler;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.Hashtable;
 import java.util.IdentityHashMap;
 
 import static java.security.AccessController.doPrivileged;
@@ -87,39 +85,27 @@ public final class ValueWriter {
     /** Record valuetype positions in stream */
     private final IdentityHashMap<Serializable, Integer> instanceTable_;
 
-    /** Record repository ID positions in stream */
-    private final Hashtable<String, Integer> idTable_;
+    /** Record repository ID positions in stream (created on first use) */
+    private PositionIndex<String> idTable_;
 
-    /** Record repository ID list positions in stream */
-    private final Hashtable<StringSeqHasher, Integer> idListTable_;
+    /** Record repository ID list positions in stream (created on first use) */
+    private PositionIndex<String[]> idListTable_;
 
-    private final Hashtable<String, Integer> codebaseTable_;
+    /** Record codebase positions in stream (created on first use) */
+    private PositionIndex<String> codebaseTable_;
 
     private ValueHandler valueHandler;
 
-    /** Helper class for using a String array as the key in a Hashtable */
-    private final static class StringSeqHasher {
-        final String[] seq_;
-
-        final int hashCode_;
-
-        StringSeqHasher(String[] seq) {
-            seq_ = seq;
-            hashCode_ = Arrays.hashCode(seq);
-        }
-
-        public int hashCode() {
-            return hashCode_;
-        }
-
-        public boolean equals(Object o) {
-            if (!!! (o instanceof StringSeqHasher))
-                return false;
+    private PositionIndex<String> idTable() {
+        return null == idTable_ ? (idTable_ = PositionIndex.forStrings()) : idTable_;
+    }
 
-            StringSeqHasher h = (StringSeqHasher) o;
+    private PositionIndex<String[]> idListTable() {
+        return null == idListTable_ ? (idListTable_ = PositionIndex.forStringArrays()) : idListTable_;
+    }
 
-            return Arrays.equals(this.seq_, h.seq_);
-        }
+    private PositionIndex<String> codebaseTable() {
+        return null == codebaseTable_ ? (codebaseTable_ = PositionIndex.forStrings()) : codebaseTable_;
     }
 
     private boolean checkIndirection(Serializable value) {
@@ -239,10 +225,7 @@ public final class ValueWriter {
         this.needChunk_ = false;
         this.chunkSizePos_ = 0;
         this.lastEndTagPos_ = 0;
-        this.instanceTable_ = new IdentityHashMap<>(131);
-        this.idTable_ = new Hashtable<>(131);
-        this.idListTable_ = new Hashtable<>(131);
-        this.codebaseTable_ = new Hashtable<>(3);
+        this.instanceTable_ = new IdentityHashMap<>();
     }
 
     public void writeValue(Serializable value, String id) {
@@ -562,13 +545,13 @@ public final class ValueWriter {
         if ((tag & 0x00000001) == 1) {
 
             // check for indirection of codebase
-            Integer pos = codebaseTable_.get(codebase);
-            if (pos != null) {
+            int pos = codebaseTable().get(codebase);
+            if (pos != PositionIndex.ABSENT) {
                 out_.write_long(-1);
                 int off = pos - writeBuffer.getPosition();
                 out_.write_long(off);
             } else {
-                codebaseTable_.put(codebase, writeBuffer.getPosition());
+                codebaseTable_.putIfAbsent(codebase, writeBuffer.getPosition());
                 out_.write_string(codebase);
             }
         }
@@ -577,9 +560,8 @@ public final class ValueWriter {
             //
             // Check for possible indirection of repository IDs
             //
-            StringSeqHasher key = new StringSeqHasher(ids);
-            Integer pos = idListTable_.get(key);
-            if (pos != null) {
+            int pos = idListTable().get(ids);
+            if (pos != PositionIndex.ABSENT) {
                 //
                 // Write indirection
                 //
@@ -587,14 +569,13 @@ public final class ValueWriter {
                 int off = pos - writeBuffer.getPosition();
                 out_.write_long(off);
             } else {
-                idListTable_.put(key, writeBuffer.getPosition());
+                idListTable_.putIfAbsent(ids, writeBuffer.getPosition());
                 out_.write_long(ids.length);
                 for (String id : ids) {
                     //
                     // Add this ID to the history list, if necessary
                     //
-                    if (!idTable_.containsKey(id))
-                        idTable_.put(id, writeBuffer.getPosition());
+                    idTable().putIfAbsent(id, writeBuffer.getPosition());
                     out_.write_string(id);
                 }
             }
@@ -605,8 +586,8 @@ public final class ValueWriter {
             // Check to see if we've already marshalled this repository ID,
             // and if so, we write an indirection marker
             //
-            Integer pos = idTable_.get(ids[0]);
-            if (pos != null) {
+            int pos = idTable().get(ids[0]);
+            if (pos != PositionIndex.ABSENT) {
                 //
                 // Write indirection
                 //
@@ -617,7 +598,7 @@ public final class ValueWriter {
                 //
                 // Remember ID in history at current position
                 //
-                idTable_.put(ids[0], writeBuffer.getPosition());
+                idTable_.putIfAbsent(ids[0], writeBuffer.getPosition());
                 out_.write_string(ids[0]);
             }
         }
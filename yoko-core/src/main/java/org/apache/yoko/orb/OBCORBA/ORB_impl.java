@@ -17,6 +17,7 @@
  */
 package org.apache.yoko.orb.OBCORBA;
 
+import org.apache.yoko.io.BufferPool;
 import org.apache.yoko.orb.CORBA.Context;
 import org.apache.yoko.orb.CORBA.ContextList;
 import org.apache.yoko.orb.CORBA.Delegate;
@@ -919,6 +920,18 @@ public class ORB_impl extends ORBSingleton {
                 // Used by GIOPServerWorker
             } else if (key.equals("yoko.orb.client_timeout") || key.equals("yoko.orb.client_shutdown_timeout")) {
                 // Used by GIOPClientWorker
+            } else if (key.equals("yoko.orb.client_pool.min_size") || key.equals("yoko.orb.client_pool.max_size") || key.equals("yoko.orb.client_pool.threshold")) {
+                try {
+                    if (Integer.parseInt(value) < 1) throw new NumberFormatException("too small: " + value);
+                } catch (NumberFormatException ex) {
+                    INIT_LOG.log(SEVERE, ex, () -> "ORB.init: invalid value for " + key + ": " + value);
+                    throw new INITIALIZE("ORB.init: invalid value for " + key + ": " + value);
+                }
+            } else if (key.equals("yoko.orb.client_pool.selection")) {
+                if (!value.equals("least_outstanding") && !value.equals("round_robin")) {
+                    INIT_LOG.severe(() -> "ORB.init: unknown value for yoko.orb.client_pool.selection: " + value);
+                    throw new INITIALIZE("ORB.init: unknown value for yoko.orb.client_pool.selection: " + value);
+                }
             } else if (key.startsWith("yoko.orb.service.")) {
                 // Ignore
             } else if (key.startsWith("yoko.orb.oa.")) {
@@ -932,6 +945,30 @@ public class ORB_impl extends ORBSingleton {
                     INIT_LOG.severe(() -> "ORB.init: unknown value for yoko.orb.use_type_code_cache: " + value);
                     throw new INITIALIZE("ORB.init: unknown value for yoko.orb.use_type_code_cache: " + value);
                 }
+            } else if (key.equals("yoko.orb.type_code_cache.max_size")) {
+                try {
+                    if (Integer.parseInt(value) < 1) throw new NumberFormatException("too small: " + value);
+                } catch (NumberFormatException ex) {
+                    INIT_LOG.log(SEVERE, ex, () -> "ORB.init: invalid value for yoko.orb.type_code_cache.max_size: " + value);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.type_code_cache.max_size: " + value);
+                }
+            } else if (key.equals("yoko.orb.virtual_threads")) {
+                if (!value.equals("true") && !value.equals("false")) {
+                    INIT_LOG.severe(() -> "ORB.init: unknown value for yoko.orb.virtual_threads: " + value);
+                    throw new INITIALIZE("ORB.init: unknown value for yoko.orb.virtual_threads: " + value);
+                }
+            } else if (key.equals("yoko.orb.buffer_pool")) {
+                if (!value.equals("true") && !value.equals("false")) {
+                    INIT_LOG.severe(() -> "ORB.init: unknown value for yoko.orb.buffer_pool: " + value);
+                    throw new INITIALIZE("ORB.init: unknown value for yoko.orb.buffer_pool: " + value);
+                }
+            } else if (key.equals("yoko.orb.buffer_pool.max_size")) {
+                try {
+                    if (Integer.parseInt(value) < BufferPool.MIN_SIZE) throw new NumberFormatException("too small: " + value);
+                } catch (NumberFormatException ex) {
+                    INIT_LOG.log(SEVERE, ex, () -> "ORB.init: invalid value for yoko.orb.buffer_pool.max_size: " + value);
+                    throw new INITIALIZE("ORB.init: invalid value for yoko.orb.buffer_pool.max_size: " + value);
+                }
             } else if (key.equals("yoko.orb.giop.max_message_size")) {
                 try {
                     int max = Integer.parseInt(value);
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The active object map of a RETAIN POA: a concurrent map from object id to {@link TableEntry}.
+ * <p>
+ *     Object ids are compared by content, and are used directly as keys, so a lookup allocates nothing.
+ *     Lookups take no locks. Updates lock only one of a fixed set of segments, chosen by the hash of the id.
+ * </p>
+ * <p>
+ *     Each segment is a hash table whose chains are immutable once published:
+ *     a new entry is prepended to its chain, and a removal copies the part of the chain before the removed node.
+ *     A lookup that races an update therefore sees the chain either before or after the update, never in between.
+ * </p>
+ */
+final class ActiveObjectMap {
+    private static final int SEGMENT_SHIFT = 6;
+    private static final int SEGMENTS = 1 << SEGMENT_SHIFT;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private static final class Node {
+        final byte[] oid;
+        final int hash;
+        final TableEntry entry;
+        final Node next;
+
+        Node(byte[] oid, int hash, TableEntry entry, Node next) {
+            this.oid = oid;
+            this.hash = hash;
+            this.entry = entry;
+            this.next = next;
+        }
+
+        boolean matches(byte[] oid, int hash) { return this.hash == hash && Arrays.equals(this.oid, oid); }
+    }
+
+    private static final class Segment {
+        // written only while synchronized on the segment, and always re-written
+        // after changing an element, so that readers see the change
+        volatile Node[] table = new Node[INITIAL_SEGMENT_CAPACITY];
+        private int count;
+
+        TableEntry get(byte[] oid, int hash) {
+            final Node[] tab = table;
+            for (Node n = tab[hash & (tab.length - 1)]; n != null; n = n.next) {
+                if (n.matches(oid, hash)) return n.entry;
+            }
+            return null;
+        }
+
+        synchronized TableEntry putIfAbsent(byte[] oid, int hash, TableEntry entry) {
+            Node[] tab = table;
+            final int index = hash & (tab.length - 1);
+            for (Node n = tab[index]; n != null; n = n.next) {
+                if (n.matches(oid, hash)) return n.entry;
+            }
+            if (++count > tab.length - (tab.length >>> 2)) {
+                tab = resize(tab);
+                final int i = hash & (tab.length - 1);
+                tab[i] = new Node(oid, hash, entry, tab[i]);
+            } else {
+                tab[index] = new Node(oid, hash, entry, tab[index]);
+            }
+            table = tab;
+            return null;
+        }
+
+        synchronized boolean remove(byte[] oid, int hash, TableEntry entry) {
+            final Node[] tab = table;
+            final int index = hash & (tab.length - 1);
+            final Node first = tab[index];
+            Node target = first;
+            while (target != null && !(target.matches(oid, hash) && target.entry == entry)) target = target.next;
+            if (target == null) return false;
+            Node chain = target.next;
+            for (Node n = first; n != target; n = n.next) chain = new Node(n.oid, n.hash, n.entry, chain);
+            tab[index] = chain;
+            count--;
+            table = tab;
+            return true;
+        }
+
+        synchronized void clear() {
+            table = new Node[INITIAL_SEGMENT_CAPACITY];
+            count = 0;
+        }
+
+        void collect(List<byte[]> oids, List<TableEntry> entries) {
+            for (Node head : table) {
+                for (Node n = head; n != null; n = n.next) {
+                    if (oids != null) oids.add(n.oid);
+                    if (entries != null) entries.add(n.entry);
+                }
+            }
+        }
+
+        private static Node[] resize(Node[] tab) {
+            final Node[] result = new Node[tab.length << 1];
+            final int mask = result.length - 1;
+            // the old table may still be in use by readers, so its nodes are copied rather than relinked
+            for (Node head : tab) {
+                for (Node n = head; n != null; n = n.next) {
+                    final int i = n.hash & mask;
+                    result[i] = new Node(n.oid, n.hash, n.entry, result[i]);
+                }
+            }
+            return result;
+        }
+    }
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    ActiveObjectMap() {
+        for (int i = 0; i < SEGMENTS; i++) segments[i] = new Segment();
+    }
+
+    private static int hash(byte[] oid) {
+        final int h = Arrays.hashCode(oid);
+        return h ^ (h >>> 16);
+    }
+
+    // use the high bits for the segment, as the low bits index the segment's table
+    private Segment segmentFor(int hash) { return segments[hash >>> (32 - SEGMENT_SHIFT)]; }
+
+    TableEntry get(byte[] oid) {
+        final int hash = hash(oid);
+        return segmentFor(hash).get(oid, hash);
+    }
+
+    /**
+     * Add an entry unless there is already one for the id.
+     * The id is retained by the map, so the caller must not modify it afterwards.
+     * @return the existing entry, or <code>null</code> if the new entry was added
+     */
+    TableEntry putIfAbsent(byte[] oid, TableEntry entry) {
+        final int hash = hash(oid);
+        return segmentFor(hash).putIfAbsent(oid, hash, entry);
+    }
+
+    /** Remove the entry for the id, but only if it is the given entry */
+    boolean remove(byte[] oid, TableEntry entry) {
+        final int hash = hash(oid);
+        return segmentFor(hash).remove(oid, hash, entry);
+    }
+
+    void clear() {
+        for (Segment s : segments) s.clear();
+    }
+
+    /** @return a snapshot of the ids in the map */
+    List<byte[]> ids() {
+        final List<byte[]> result = new ArrayList<>();
+        for (Segment s : segments) s.collect(result, null);
+        return result;
+    }
+
+    /** @return a snapshot of the entries in the map */
+    List<TableEntry> entries() {
+        final List<TableEntry> result = new ArrayList<>();
+        for (Segment s : segments) s.collect(null, result);
+        return result;
+    }
+}
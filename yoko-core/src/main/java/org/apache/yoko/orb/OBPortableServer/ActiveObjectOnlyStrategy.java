@@ -37,7 +37,9 @@ import org.omg.PortableServer.ServantLocatorPackage.CookieHolder;
 import org.omg.PortableServer.ServantManagerOperations;
 
 import java.util.Hashtable;
+import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.yoko.orb.OB.Util.printOctets;
 import static org.apache.yoko.orb.OBPortableServer.TableEntry.ACTIVATE_PENDING;
@@ -103,12 +105,12 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     //
     // The AOM
     //
-    protected Hashtable activeObjectTable_;
+    protected final ActiveObjectMap activeObjectTable_;
 
     //
     // Reverse map from servant to id
     //
-    protected Hashtable servantIdTable_;
+    protected final Map<Servant, byte[]> servantIdTable_;
 
     //
     // Mapping for ObjectId's to DirectStubImpl
@@ -124,8 +126,11 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     // This method is synchronized on the TableEntry
     //
     protected void completeActivation(
-            ObjectIdHasher oid,
+            byte[] rawoid,
             Servant servant, TableEntry entry) {
+        ObjectIdHasher oid = new ObjectIdHasher(
+                rawoid);
+
         //
         // If there is a DirectStubImpl that refers to a default servant
         // under this oid then deactivate each
@@ -143,9 +148,8 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         // If using UNIQUE_ID add the servant to the servantIdTable
         //
         if (servantIdTable_ != null) {
-            Assert.ensure(!servantIdTable_
-                    .containsKey(servant));
-            servantIdTable_.put(servant, oid.getObjectId());
+            Assert.ensure(servantIdTable_
+                    .putIfAbsent(servant, rawoid) == null);
         }
 
         //
@@ -161,7 +165,10 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     }
 
     protected void completeDeactivate(org.omg.PortableServer.POA poa,
-            ObjectIdHasher oid, TableEntry entry) {
+            byte[] rawoid, TableEntry entry) {
+        ObjectIdHasher oid = new ObjectIdHasher(
+                rawoid);
+
         //
         // Mark each DirectServant associated with this oid as
         // deactivated
@@ -181,8 +188,7 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         if (servantIdTable_ != null) {
             Servant servant = entry.getServant();
             Assert.ensure(servantIdTable_
-                    .containsKey(servant));
-            servantIdTable_.remove(servant);
+                    .remove(servant) != null);
         }
 
         //
@@ -252,20 +258,18 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
     ActiveObjectOnlyStrategy(
             POAPolicies policies,
             ORBInstance orbInstance) {
-        activeObjectTable_ = new Hashtable(1023);
+        activeObjectTable_ = new ActiveObjectMap();
         directSeqTable_ = new Hashtable(1023);
         orbInstance_ = orbInstance;
 
         if (policies.idUniquenessPolicy() == UNIQUE_ID)
-            servantIdTable_ = new Hashtable(1023);
+            servantIdTable_ = new ConcurrentHashMap<>(1024);
         else
             servantIdTable_ = null;
     }
 
     public void destroy(org.omg.PortableServer.POA poa, boolean etherealize) {
-        synchronized (activeObjectTable_) {
-            activeObjectTable_.clear();
-        }
+        activeObjectTable_.clear();
 
         synchronized (directSeqTable_) {
             directSeqTable_.clear();
@@ -283,79 +287,64 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
             throws ServantAlreadyActive,
             WrongPolicy,
             ObjectAlreadyActive {
-        ObjectIdHasher oid = new ObjectIdHasher(
-                rawoid);
-
         while (true) {
-            boolean incarnate = false;
-            TableEntry entry;
-
             //
             // Find out whether a servant is already bound under this id
             // if not add an entry into the AOM
             //
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
-                if (entry == null) {
-                    //
-                    // If using UNIQUE_ID, then verify that the
-                    // servant isn't already activated.
-                    //
-                    if (servantIdTable_ != null
-                            && servantIdTable_.containsKey(servant)) {
-                        throw new ServantAlreadyActive();
-                    }
-
-                    //
-                    // Insert the servant in the active object table
-                    // with the provided id.
-                    //
-                    entry = new TableEntry();
-                    activeObjectTable_.put(oid, entry);
+            TableEntry entry = activeObjectTable_.get(rawoid);
+            if (entry == null) {
+                //
+                // If using UNIQUE_ID, then verify that the
+                // servant isn't already activated.
+                //
+                if (servantIdTable_ != null
+                        && servantIdTable_.containsKey(servant)) {
+                    throw new ServantAlreadyActive();
                 }
+
+                //
+                // Insert the servant in the active object table
+                // with the provided id.
+                //
+                TableEntry newEntry = new TableEntry();
+                entry = activeObjectTable_.putIfAbsent(rawoid, newEntry);
+                if (entry == null)
+                    entry = newEntry;
             }
 
+            int waitFor;
             synchronized (entry) {
                 switch (entry.state()) {
                 case DEACTIVATE_PENDING:
-                    entry.waitForStateChange();
-                    continue;
+                    waitFor = DEACTIVATE_PENDING;
+                    break;
 
                 case ACTIVATE_PENDING:
-                    incarnate = true;
-                    break;
+                    completeActivation(rawoid, servant, entry);
+                    return;
 
                 case ACTIVE:
                     throw new ObjectAlreadyActive();
 
-                case DEACTIVATED:
-                    break;
-                }
-
-                if (incarnate) {
-                    completeActivation(oid, servant, entry);
-                    return;
+                default: // DEACTIVATED
+                    continue;
                 }
             }
+            entry.waitForStateChange(waitFor);
         }
     }
 
     public void deactivate(org.omg.PortableServer.POA poa, byte[] rawoid)
             throws ObjectNotActive,
             WrongPolicy {
-        ObjectIdHasher oid = new ObjectIdHasher(
-                rawoid);
-
         //
         // If no object in the active object table associated with
         // this key then raise an ObjectNotActive exception.
         //
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
-            if (entry == null)
-                throw new ObjectNotActive();
-        }
+        TableEntry entry = activeObjectTable_.get(rawoid);
+        if (entry == null)
+            throw new ObjectNotActive();
 
         boolean deactivate = false;
         synchronized (entry) {
@@ -374,14 +363,12 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
             }
 
             if (deactivate) {
-                completeDeactivate(poa, oid, entry);
+                completeDeactivate(poa, rawoid, entry);
 
                 //
                 // Remove the entry from the active object map
                 //
-                synchronized (activeObjectTable_) {
-                    activeObjectTable_.remove(oid);
-                }
+                activeObjectTable_.remove(rawoid, entry);
             }
         }
     }
@@ -390,35 +377,40 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
                               PoaCurrentImpl poaCurrent) {
         byte[] id = null;
         if (servantIdTable_ != null)
-            id = (byte[]) servantIdTable_.get(servant);
+            id = servantIdTable_.get(servant);
         return id;
     }
 
+    //
+    // This is the path taken by every request, so it does not lock
+    // unless it has to wait for a pending state change
+    //
     public Servant idToServant(byte[] rawoid,
             boolean useDefaultServant) {
-        ObjectIdHasher oid = new ObjectIdHasher(
-                rawoid);
         while (true) {
-            TableEntry entry;
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
-                if (entry == null)
-                    return null;
-            }
+            TableEntry entry = activeObjectTable_.get(rawoid);
+            if (entry == null)
+                return null;
 
-            synchronized (entry) {
-                switch (entry.state()) {
-                case DEACTIVATE_PENDING:
-                case ACTIVATE_PENDING:
-                    entry.waitForStateChange();
-                    continue;
+            int state = entry.state();
+            switch (state) {
+            case DEACTIVATE_PENDING:
+            case ACTIVATE_PENDING:
+                entry.waitForStateChange(state);
+                continue;
 
-                case ACTIVE:
-                    return entry.getServant();
+            case ACTIVE:
+                //
+                // The servant is only null if the entry has since been
+                // deactivated, so look again
+                //
+                Servant servant = entry.peekServant();
+                if (servant != null)
+                    return servant;
+                continue;
 
-                case DEACTIVATED:
-                    return null;
-                }
+            default: // DEACTIVATED
+                return null;
             }
         }
     }
@@ -441,53 +433,60 @@ class ActiveObjectOnlyStrategy implements ServantLocationStrategy {
         return servant;
     }
 
-    public void preinvoke(byte[] rawoid) {
-        ObjectIdHasher oid = new ObjectIdHasher(
-                rawoid);
-
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
+    //
+    // Returns the entry the request was counted against, so that
+    // postinvoke() uncounts it from the same entry, even if the object
+    // has been deactivated and reactivated in the meantime
+    //
+    public Object preinvoke(byte[] rawoid) {
+        while (true) {
+            TableEntry entry = activeObjectTable_.get(rawoid);
             if (entry == null)
-                return;
-        }
+                return null;
 
-        synchronized (entry) {
-            entry.incOutstandingRequest();
+            //
+            // Count the request while holding the entry's monitor, so it
+            // cannot slip in between deactivate() finding no outstanding
+            // requests and completing the deactivation. If the deactivation
+            // completed first, the entry has been removed from the map, so
+            // count the request against whatever has replaced it.
+            //
+            synchronized (entry) {
+                if (entry.state() != DEACTIVATED) {
+                    entry.incOutstandingRequest();
+                    return entry;
+                }
+            }
         }
     }
 
     public void postinvoke(byte[] rawoid, org.omg.PortableServer.POA poa,
             String op, Object cookie,
-            Servant servant) {
-        ObjectIdHasher oid = new ObjectIdHasher(
-                rawoid);
-
-        TableEntry entry;
-        synchronized (activeObjectTable_) {
-            entry = (TableEntry) activeObjectTable_.get(oid);
-            if (entry == null)
-                return;
-        }
+            Servant servant, Object token) {
+        TableEntry entry = (TableEntry) token;
+        if (entry == null)
+            return;
 
         //
         // If the number of outstanding requests is now 0 and the
         // entry has been deactivated then complete the deactivation
         //
-        boolean deactivate = false;
-        synchronized (entry) {
-            if (entry.decOutstandingRequest() == 0)
-                deactivate = entry.state() == DEACTIVATE_PENDING;
+        if (entry.decOutstandingRequest() != 0 || entry.state() != DEACTIVATE_PENDING)
+            return;
 
-            if (deactivate) {
-                completeDeactivate(poa, oid, entry);
+        synchronized (entry) {
+            //
+            // Check again, since deactivate() may have completed the
+            // deactivation in the meantime
+            //
+            if (entry.state() == DEACTIVATE_PENDING
+                    && entry.getOutstandingRequests() == 0) {
+                completeDeactivate(poa, rawoid, entry);
 
                 //
                 // Remove the entry for the active object map
                 //
-                synchronized (activeObjectTable_) {
-                    activeObjectTable_.remove(oid);
-                }
+                activeObjectTable_.remove(rawoid, entry);
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -105,12 +105,13 @@ class NonRetainStrategy implements ServantLocationStrategy {
         return servantManager_.preinvoke(oid, poa, op, cookie);
     }
 
-    public void preinvoke(byte[] oid) {
+    public java.lang.Object preinvoke(byte[] oid) {
+        return null;
     }
 
     public void postinvoke(byte[] oid, org.omg.PortableServer.POA poa,
             String op, java.lang.Object cookie,
-            org.omg.PortableServer.Servant servant) {
+            org.omg.PortableServer.Servant servant, java.lang.Object token) {
         if (servantManager_ != null)
             servantManager_.postinvoke(oid, poa, op, cookie, servant);
     }
@@ -17,7 +17,12 @@
  */
 package org.apache.yoko.orb.OBPortableServer;
 
+import static java.util.Arrays.copyOfRange;
 import static org.apache.yoko.orb.OB.ObjectKey.ParseObjectKey;
+import static org.apache.yoko.orb.OB.ObjectKey.findObjectIdStart;
+import static org.apache.yoko.orb.OB.ObjectKey.findPoaPathStart;
+import static org.apache.yoko.orb.OB.ObjectKey.getCreateTime;
+import static org.apache.yoko.orb.OB.ObjectKey.isPersistent;
 import static org.apache.yoko.orb.OB.Server.Blocking;
 import static org.apache.yoko.orb.OB.Server.Threaded;
 import static org.apache.yoko.util.Assert.ensure;
@@ -71,6 +76,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     static final Logger logger = Logger.getLogger(POAManager_impl.class.getName());
     private final ORBInstance orbInstance;
     private final Hashtable<POANameHasher, org.omg.PortableServer.POA> poas;
+    private final POAPathIndex<POA_impl> poaPaths = new POAPathIndex<>();
     private volatile State state;
     private Acceptor[] acceptors;
     private final ServerManager serverManager;
@@ -366,7 +372,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
     }
 
     private static void validateProp(String rootKey, String key) {
-        if (key.equals("yoko.orb.oa.thread_pool")) return;
+        if (key.equals("yoko.orb.oa.thread_pool") || key.startsWith("yoko.orb.oa.thread_pool.")) return;
         // Remove the property prefix
         final String prop;
         if (key.startsWith(rootKey)) prop = key.substring(rootKey.length());
@@ -390,6 +396,7 @@ final public class POAManager_impl extends LocalObject implements POAManager {
         logger.fine(() -> "Adding new poa with id " + idKey);
         ensure(!poas.containsKey(idKey));
         poas.put(idKey, poa);
+        poaPaths.add(POAPathIndex.encode(serverId, id), (POA_impl) poa);
 
         poaLocator.add(poa, id);
     }
@@ -400,11 +407,17 @@ final public class POAManager_impl extends LocalObject implements POAManager {
         logger.fine(() -> "Removing poa with id " + idKey);
         ensure(poas.containsKey(idKey));
         poas.remove(idKey);
+        poaPaths.remove(POAPathIndex.encode(serverId, id));
         poaLocator.remove(id);
     }
 
     DirectServant _OB_getDirectServant(byte[] key, RefCountPolicyList policies) throws LocationForward, AdapterInactive {
         if (state.value() == State._INACTIVE) throw new AdapterInactive();
+        int oidStart = _OB_findObjectIdStart(key);
+        if (oidStart >= 0) {
+            POA_impl poa = _OB_findPOA(key, oidStart);
+            if (poa != null) return poa._OB_getDirectServant(copyOfRange(key, oidStart, key.length), policies);
+        }
         ObjectKeyData data = new ObjectKeyData();
         
         if (ParseObjectKey(key, data)) {
@@ -421,6 +434,24 @@ final public class POAManager_impl extends LocalObject implements POAManager {
         throw new OBJECT_NOT_EXIST("No POA for local servant");
     }
 
+    // Find the start of the object id in a key, or return -1 if the key is not in Yoko format
+    static int _OB_findObjectIdStart(byte[] key) {
+        int poaPathStart = findPoaPathStart(key);
+        return poaPathStart < 0 ? -1 : findObjectIdStart(key, poaPathStart);
+    }
+
+    // Find a POA registered with this POAManager directly from the bytes of an object key.
+    // This is the fast path for incoming requests: it neither allocates nor locks.
+    // If it returns null, the caller should fall back to _OB_locatePOA().
+    POA_impl _OB_findPOA(byte[] key, int oidStart) {
+        // If the GIOP engine sends a request while the POAManager is in INACTIVE state, then something is wrong.
+        ensure(get_state() != State.INACTIVE);
+        POA_impl poa = poaPaths.find(key, findPoaPathStart(key), oidStart);
+        if (poa == null) return null;
+        boolean persistent = isPersistent(key);
+        return poa._OB_lifespanMatches(persistent, persistent ? 0 : getCreateTime(key)) ? poa : null;
+    }
+
     org.omg.PortableServer.POA _OB_locatePOA(ObjectKeyData data) throws LocationForward {
         // If the GIOP engine sends a request while the POAManager is in INACTIVE state, then something is wrong.
         ensure(get_state() != State.INACTIVE);
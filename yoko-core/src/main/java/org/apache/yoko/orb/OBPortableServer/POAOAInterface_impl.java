@@ -48,6 +48,7 @@ import java.util.Vector;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static java.util.Arrays.copyOfRange;
 import static java.util.logging.Level.FINE;
 import static org.apache.yoko.orb.OB.ObjectKey.ParseObjectKey;
 import static org.apache.yoko.util.Assert.ensure;
@@ -118,41 +119,20 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
                         COMPLETED_NO);
             }
 
-            ObjectKeyData data = new ObjectKeyData();
-            if (ParseObjectKey(profileInfo.key, data)) {
-                while (true) {
-                    //
-                    // Locate the POA. This may also throw a TRANSIENT
-                    // exception if the POA manager is discarding.
-                    //
-                    POA poa = poaManager_._OB_locatePOA(data);
-                    if (poa == null) {
-                        logger.fine(() -> "Unable to locate POA " + data + " using POAManager " + poaManager_.get_id());
-                    } else {
-                        POA_impl poaImpl = (POA_impl) poa;
-                        upcall = poaImpl._OB_createUpcall(data.oid, upcallReturn, profileInfo, transportInfo, requestId, op, in, requestContexts);
-                        //
-                        // If _OB_createUpcall returns a nil Upcall object
-                        // then we should retry since that means that the
-                        // POA is being destroyed
-                        //
-                        if (upcall == null) {
-                            continue;
-                        }
-                    }
-                    break;
-                }
-            } else if (upcallReturn != null) {
-                logger.fine(() -> "Error parsing object key data");
-                //
-                // Check to see if the BootManager knows of a reference
-                // for the ObjectKey. If so, forward the request.
-                //
-                IOR ior = bootManagerImpl_._OB_locate(profileInfo.key);
-                if (ior != null) {
-                    throw new LocationForward(ior, false);
-                }
+            //
+            // Find the POA directly from the object key if possible,
+            // and otherwise parse the key and search for the POA
+            //
+            final byte[] key = profileInfo.key;
+            final int oidStart = POAManager_impl._OB_findObjectIdStart(key);
+            if (oidStart >= 0) {
+                POA_impl poa = poaManager_._OB_findPOA(key, oidStart);
+                if (poa != null)
+                    upcall = poa._OB_createUpcall(copyOfRange(key, oidStart, key.length), upcallReturn, profileInfo, transportInfo, requestId, op, in, requestContexts);
             }
+            if (upcall == null)
+                upcall = createUpcallFromParsedKey(upcallReturn, profileInfo, transportInfo, requestId, op, in, requestContexts);
+
             //
             // If no upcall has been created then the object simply
             // doesn't exist
@@ -187,7 +167,69 @@ final class POAOAInterface_impl extends LocalObject implements OAInterface {
         return upcall;
     }
 
+    private Upcall createUpcallFromParsedKey(
+            UpcallReturn upcallReturn,
+            ProfileInfo profileInfo,
+            TransportInfo transportInfo, int requestId,
+            String op, YokoInputStream in,
+            ServiceContexts requestContexts) throws LocationForward {
+        Upcall upcall = null;
+        ObjectKeyData data = new ObjectKeyData();
+        if (ParseObjectKey(profileInfo.key, data)) {
+            while (true) {
+                //
+                // Locate the POA. This may also throw a TRANSIENT
+                // exception if the POA manager is discarding.
+                //
+                POA poa = poaManager_._OB_locatePOA(data);
+                if (poa == null) {
+                    logger.fine(() -> "Unable to locate POA " + data + " using POAManager " + poaManager_.get_id());
+                } else {
+                    POA_impl poaImpl = (POA_impl) poa;
+                    upcall = poaImpl._OB_createUpcall(data.oid, upcallReturn, profileInfo, transportInfo, requestId, op, in, requestContexts);
+                    //
+                    // If _OB_createUpcall returns a nil Upcall object
+                    // then we should retry since that means that the
+                    // POA is being destroyed
+                    //
+                    if (upcall == null) {
+                        continue;
+                    }
+                }
+                break;
+            }
+        } else if (upcallReturn != null) {
+            logger.fine(() -> "Error parsing object key data");
+            //
+            // Check to see if the BootManager knows of a reference
+            // for the ObjectKey. If so, forward the request.
+            //
+            IOR ior = bootManagerImpl_._OB_locate(profileInfo.key);
+            if (ior != null) {
+                throw new LocationForward(ior, false);
+            }
+        }
+        return upcall;
+    }
+
     public int findByKey(byte[] key, IORHolder ior) {
+        final int oidStart = POAManager_impl._OB_findObjectIdStart(key);
+        if (oidStart >= 0) {
+            POA_impl poa = poaManager_._OB_findPOA(key, oidStart);
+            if (poa != null) {
+                try {
+                    poa._OB_locateServant(copyOfRange(key, oidStart, key.length));
+                    return OBJECT_HERE;
+                } catch (SystemException ex) {
+                    return OAInterface.UNKNOWN_OBJECT;
+                } catch (LocationForward fwd) {
+                    ior.value = fwd.ior;
+                    return (fwd.perm) ? OAInterface.OBJECT_FORWARD_PERM
+                            : OAInterface.OBJECT_FORWARD;
+                }
+            }
+        }
+
         ObjectKeyData data = new ObjectKeyData();
         if (ObjectKey.ParseObjectKey(key, data)) {
             try {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * An index of POAs by their path, as it appears in an object key:
+ * the server id and each POA name, each followed by a <code>'\0'</code>, and then a final <code>'\0'</code>.
+ * <p>
+ *     This allows the POA for an incoming request to be found directly from the bytes of the object key,
+ *     without decoding the names or taking any locks.
+ *     The index is an open-addressed hash table that is copied on every change,
+ *     since POAs are created and destroyed rarely, but looked up on every request.
+ * </p>
+ */
+final class POAPathIndex<P> {
+    private static final class Entry<P> {
+        final byte[] path;
+        final int hash;
+        final P poa;
+
+        Entry(byte[] path, int hash, P poa) {
+            this.path = path;
+            this.hash = hash;
+            this.poa = poa;
+        }
+
+        boolean matches(byte[] key, int start, int end, int hash) {
+            if (this.hash != hash || path.length != end - start) return false;
+            for (int i = 0; i < path.length; i++) if (path[i] != key[start + i]) return false;
+            return true;
+        }
+    }
+
+    private volatile Entry<P>[] table = newTable(16);
+    private int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <P> Entry<P>[] newTable(int capacity) { return new Entry[capacity]; }
+
+    private static int hash(byte[] key, int start, int end) {
+        int h = 1;
+        for (int i = start; i < end; i++) h = 31 * h + key[i];
+        return h ^ (h >>> 16);
+    }
+
+    /** Encode a POA path the same way as {@link org.apache.yoko.orb.OB.ObjectKey#CreateObjectKey} */
+    static byte[] encode(String serverId, String[] poaId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeName(out, serverId);
+        for (String name : poaId) writeName(out, name);
+        out.write(0);
+        return out.toByteArray();
+    }
+
+    private static void writeName(ByteArrayOutputStream out, String name) {
+        for (int i = 0; i < name.length(); i++) out.write((byte) name.charAt(i));
+        out.write(0);
+    }
+
+    /** Find the POA whose path occupies the specified range of the object key */
+    P find(byte[] key, int start, int end) {
+        final Entry<P>[] tab = table;
+        final int hash = hash(key, start, end);
+        final int mask = tab.length - 1;
+        for (int i = hash & mask; tab[i] != null; i = (i + 1) & mask) {
+            if (tab[i].matches(key, start, end, hash)) return tab[i].poa;
+        }
+        return null;
+    }
+
+    /** Add a POA, replacing any POA with the same path */
+    synchronized void add(byte[] path, P poa) {
+        final int hash = hash(path, 0, path.length);
+        final Entry<P>[] old = table;
+        // keep the load factor at or below one half
+        final Entry<P>[] tab = newTable((size + 1) * 2 > old.length ? old.length * 2 : old.length);
+        for (Entry<P> e : old) if (e != null && !e.matches(path, 0, path.length, hash)) insert(tab, e);
+        insert(tab, new Entry<>(path, hash, poa));
+        size = count(tab);
+        table = tab;
+    }
+
+    synchronized void remove(byte[] path) {
+        final int hash = hash(path, 0, path.length);
+        final Entry<P>[] old = table;
+        final Entry<P>[] tab = newTable(old.length);
+        for (Entry<P> e : old) if (e != null && !e.matches(path, 0, path.length, hash)) insert(tab, e);
+        size = count(tab);
+        table = tab;
+    }
+
+    private static <P> void insert(Entry<P>[] tab, Entry<P> e) {
+        final int mask = tab.length - 1;
+        int i = e.hash & mask;
+        while (tab[i] != null) i = (i + 1) & mask;
+        tab[i] = e;
+    }
+
+    private static int count(Entry<?>[] tab) {
+        int n = 0;
+        for (Entry<?> e : tab) if (e != null) n++;
+        return n;
+    }
+}
@@ -958,13 +958,13 @@ final public class POA_impl extends LocalObject implements POA {
 
     public void _OB_preinvoke(String op, byte[] oid, Servant servant, Object cookie, TransportInfo info) {
         // preinvoke the servant location strategy
-        servantLocationStrategy_.preinvoke(oid);
+        Object token = servantLocationStrategy_.preinvoke(oid);
 
         // Setup the OCI::Current context
         ociCurrent_._OB_preinvoke(info);
 
         // Setup the PortableServer::Current context
-        poaCurrent_._OB_preinvoke(this, servant, op, oid, cookie);
+        poaCurrent_._OB_preinvoke(this, servant, op, oid, cookie, token);
 
         // Depending on the synchronization policy we have to lock a variety of mutexes.
         getLock();
@@ -989,6 +989,7 @@ final public class POA_impl extends LocalObject implements POA {
         String op;
         Servant servant;
         Object cookie;
+        Object token;
 
         // use a try-finally to ensure unlocking happens even if these getters throw
         try {
@@ -996,6 +997,7 @@ final public class POA_impl extends LocalObject implements POA {
             op = poaCurrent_._OB_getOp();
             servant = poaCurrent_._OB_getServant();
             cookie = poaCurrent_._OB_getCookie();
+            token = poaCurrent_._OB_getToken();
         } finally {
             releaseLock();
         }
@@ -1006,7 +1008,7 @@ final public class POA_impl extends LocalObject implements POA {
         ociCurrent_._OB_postinvoke();
 
         // postinvoke the servant location strategy
-        servantLocationStrategy_.postinvoke(oid, this, op, cookie, servant);
+        servantLocationStrategy_.postinvoke(oid, this, op, cookie, servant, token);
     }
 
     private void releaseLock() {
@@ -1034,8 +1036,8 @@ final public class POA_impl extends LocalObject implements POA {
         if (servant == null)
             throw new OBJECT_NOT_EXIST(describeObjectNotExist(MinorCannotDispatch), MinorCannotDispatch, COMPLETED_NO);
 
-        servantLocationStrategy_.preinvoke(oid);
-        servantLocationStrategy_.postinvoke(oid, this, op, cookieHolder.value, servant);
+        Object token = servantLocationStrategy_.preinvoke(oid);
+        servantLocationStrategy_.postinvoke(oid, this, op, cookieHolder.value, servant, token);
     }
 
     // Create the upcall object for a method invocation
@@ -1188,13 +1190,17 @@ final public class POA_impl extends LocalObject implements POA {
                     return false;
         }
 
-        // Is the POA persistent? If so then the ObjectKeyData must be persistent.
-        if (policies_.lifespanPolicy() == LifespanPolicyValue.PERSISTENT) return data.persistent;
+        return _OB_lifespanMatches(data.persistent, data.createTime);
+    }
+
+    boolean _OB_lifespanMatches(boolean persistent, int createTime) {
+        // Is the POA persistent? If so then the object key must be persistent.
+        if (policies_.lifespanPolicy() == LifespanPolicyValue.PERSISTENT) return persistent;
 
-        // Otherwise this POA is transient. The ObjectKeyData must be
+        // Otherwise this POA is transient. The object key must be
         // transient, and the POA create times must be the same.
-        if (data.persistent) return false;
-        return data.createTime == poaCreateTime_;
+        if (persistent) return false;
+        return createTime == poaCreateTime_;
     }
 
     // Increment the outstanding number of requests
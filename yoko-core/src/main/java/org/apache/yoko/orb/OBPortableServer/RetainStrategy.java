@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,7 +28,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
 
     private DefaultServantHolder defaultServant_;
 
-    private void etherealize(org.apache.yoko.orb.OB.ObjectIdHasher oid,
+    private void etherealize(byte[] oid,
             org.omg.PortableServer.POA poa,
             org.omg.PortableServer.Servant servant, boolean cleanup) {
         //
@@ -52,17 +52,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                     // active object map, then we still have remaining
                     // activations.
                     //
-                    java.util.Enumeration keys = activeObjectTable_.keys();
-                    while (keys.hasMoreElements()) {
-                        TableEntry entry;
-                        synchronized (activeObjectTable_) {
-                            entry = (TableEntry) activeObjectTable_.get(keys
-                                    .nextElement());
-                        }
-
-                        if (entry == null)
-                            continue;
-
+                    for (TableEntry entry : activeObjectTable_.entries()) {
                         synchronized (entry) {
                             if (entry.state() != TableEntry.DEACTIVATED
                                     && entry.state() != TableEntry.ACTIVATE_PENDING) {
@@ -76,20 +66,18 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                 }
             }
 
-            servantManager_.etherealize(oid.getObjectId(), poa, servant,
+            servantManager_.etherealize(oid, poa, servant,
                     cleanup, remaining);
         }
     }
 
-    protected void cleanupEntry(org.apache.yoko.orb.OB.ObjectIdHasher oid,
+    protected void cleanupEntry(byte[] oid,
             TableEntry entry) {
         //
         // Cleanup the active object map and mark the
         // entry as deactivated.
         //
-        synchronized (activeObjectTable_) {
-            activeObjectTable_.remove(oid);
-        }
+        activeObjectTable_.remove(oid, entry);
 
         synchronized (entry) {
             entry.setDeactivated();
@@ -97,7 +85,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
     }
 
     protected void completeDeactivate(org.omg.PortableServer.POA poa,
-            org.apache.yoko.orb.OB.ObjectIdHasher oid, TableEntry entry) {
+            byte[] oid, TableEntry entry) {
         org.omg.PortableServer.Servant servant = entry.getServant();
 
         super.completeDeactivate(poa, oid, entry);
@@ -116,26 +104,18 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
 
     public void destroy(org.omg.PortableServer.POA poa, boolean e) {
         if (servantManager_ != null && e) {
-            java.util.Enumeration keys = activeObjectTable_.keys();
-            while (keys.hasMoreElements()) {
-                org.omg.PortableServer.Servant servant = null;
-                TableEntry entry = null;
-                org.apache.yoko.orb.OB.ObjectIdHasher key = (org.apache.yoko.orb.OB.ObjectIdHasher) keys
-                        .nextElement();
-
+            for (byte[] key : activeObjectTable_.ids()) {
                 while (true) {
-                    synchronized (activeObjectTable_) {
-                        entry = (TableEntry) activeObjectTable_.get(key);
-                    }
-
+                    TableEntry entry = activeObjectTable_.get(key);
                     if (entry == null)
                         break;
 
+                    int waitFor = -1;
                     synchronized (entry) {
                         switch (entry.state()) {
                         case TableEntry.ACTIVE:
                             entry.setDeactivatePending();
-                            servant = entry.getServant();
+                            org.omg.PortableServer.Servant servant = entry.getServant();
 
                             if (servant != null) {
                                 super.completeDeactivate(poa, key, entry);
@@ -148,16 +128,14 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                                 //
                                 // Remove the entry from the active object map
                                 //
-                                synchronized (activeObjectTable_) {
-                                    activeObjectTable_.remove(key);
-                                }
+                                activeObjectTable_.remove(key, entry);
                             }
                             break;
 
                         case TableEntry.DEACTIVATE_PENDING:
                         case TableEntry.ACTIVATE_PENDING:
-                            entry.waitForStateChange();
-                            continue;
+                            waitFor = entry.state();
+                            break;
 
                         case TableEntry.DEACTIVATED:
                             // Nothing to do
@@ -165,7 +143,9 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                         }
                     }
 
-                    break;
+                    if (waitFor < 0)
+                        break;
+                    entry.waitForStateChange(waitFor);
                 }
             }
         }
@@ -203,35 +183,42 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
             org.omg.PortableServer.POA poa, String op,
             org.omg.PortableServer.ServantLocatorPackage.CookieHolder cookie)
             throws org.apache.yoko.orb.OB.LocationForward {
-        org.apache.yoko.orb.OB.ObjectIdHasher oid = new org.apache.yoko.orb.OB.ObjectIdHasher(
-                rawoid);
         while (true) {
             boolean incarnate = false;
-            TableEntry entry;
+            TableEntry entry = activeObjectTable_.get(rawoid);
 
-            synchronized (activeObjectTable_) {
-                entry = (TableEntry) activeObjectTable_.get(oid);
-                if (entry == null) {
-                    if (defaultServant_ != null) {
-                        org.omg.PortableServer.Servant servant = defaultServant_
-                                .getDefaultServant();
+            //
+            // Fast path for an active object
+            //
+            if (entry != null && entry.state() == TableEntry.ACTIVE) {
+                org.omg.PortableServer.Servant servant = entry.peekServant();
+                if (servant != null)
+                    return servant;
+            }
 
-                        if (servant == null) {
-                            throw new org.omg.CORBA.OBJ_ADAPTER(
-                                    MinorCodes
-                                            .describeObjAdapter(MinorCodes.MinorNoDefaultServant),
-                                    MinorCodes.MinorNoDefaultServant,
-                                    org.omg.CORBA.CompletionStatus.COMPLETED_NO);
-                        }
-                        return servant;
+            if (entry == null) {
+                if (defaultServant_ != null) {
+                    org.omg.PortableServer.Servant servant = defaultServant_
+                            .getDefaultServant();
+
+                    if (servant == null) {
+                        throw new org.omg.CORBA.OBJ_ADAPTER(
+                                MinorCodes
+                                        .describeObjAdapter(MinorCodes.MinorNoDefaultServant),
+                                MinorCodes.MinorNoDefaultServant,
+                                org.omg.CORBA.CompletionStatus.COMPLETED_NO);
                     }
+                    return servant;
+                }
 
-                    //
-                    // Insert the servant entry in the active object table
-                    // with the provided id.
-                    //
-                    entry = new TableEntry();
-                    activeObjectTable_.put(oid, entry);
+                //
+                // Insert the servant entry in the active object table
+                // with the provided id.
+                //
+                TableEntry newEntry = new TableEntry();
+                entry = activeObjectTable_.putIfAbsent(rawoid, newEntry);
+                if (entry == null) {
+                    entry = newEntry;
                     incarnate = true;
                 }
             }
@@ -239,7 +226,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
             org.omg.PortableServer.Servant servant = null;
             if (incarnate) {
                 try {
-                    servant = servantManager_.incarnate(oid.getObjectId(), poa);
+                    servant = servantManager_.incarnate(rawoid, poa);
 
                     //
                     // 11-25:
@@ -258,7 +245,7 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                     //
                     if (servantIdTable_ != null && // TODO: initialize anyway?
                             servantIdTable_.containsKey(servant)) {
-                        byte[] oid2 = (byte[]) servantIdTable_.get(servant);
+                        byte[] oid2 = servantIdTable_.get(servant);
                         if (!org.apache.yoko.orb.OB.ObjectIdHasher.comp(rawoid,
                                 oid2))
                             throw new org.omg.CORBA.OBJ_ADAPTER(
@@ -266,29 +253,28 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                                             + "is already active for a different object ID");
                     }
                 } catch (org.apache.yoko.orb.OB.LocationForward l) {
-                    cleanupEntry(oid, entry);
+                    cleanupEntry(rawoid, entry);
                     throw l;
                 } catch (org.omg.CORBA.SystemException e) {
-                    cleanupEntry(oid, entry);
+                    cleanupEntry(rawoid, entry);
                     throw e;
                 }
             }
 
+            int waitFor;
             synchronized (entry) {
                 switch (entry.state()) {
                 case TableEntry.ACTIVATE_PENDING:
                     if (incarnate) {
-                        completeActivation(oid, servant, entry);
+                        completeActivation(rawoid, servant, entry);
                         return servant;
-                    } else {
-                        entry.waitForStateChange();
-                        continue;
                     }
+                    waitFor = TableEntry.ACTIVATE_PENDING;
+                    break;
 
-                case TableEntry.DEACTIVATE_PENDING: {
-                    entry.waitForStateChange();
-                    continue;
-                }
+                case TableEntry.DEACTIVATE_PENDING:
+                    waitFor = TableEntry.DEACTIVATE_PENDING;
+                    break;
 
                 case TableEntry.ACTIVE: {
                     //
@@ -308,11 +294,12 @@ class RetainStrategy extends ActiveObjectOnlyStrategy {
                     return s;
                 }
 
-                case TableEntry.DEACTIVATED:
-                    break;
+                default: // DEACTIVATED
+                    continue;
                 }
             }
 
+            entry.waitForStateChange(waitFor);
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,15 +66,17 @@ interface ServantLocationStrategy {
             throws org.apache.yoko.orb.OB.LocationForward;
 
     //
-    // About to call a method on the Servant
+    // About to call a method on the Servant. The returned token must be
+    // passed to postinvoke() when the call completes.
     //
-    void preinvoke(byte[] oid);
+    java.lang.Object preinvoke(byte[] oid);
 
     //
     // Completed calling a method on the Servant
     //
     void postinvoke(byte[] oid, org.omg.PortableServer.POA poa, String op,
-            java.lang.Object cookie, org.omg.PortableServer.Servant servant);
+            java.lang.Object cookie, org.omg.PortableServer.Servant servant,
+            java.lang.Object token);
 
     //
     // Create a DirectStubImpl for the ObjectId
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,11 +19,21 @@ package org.apache.yoko.orb.OBPortableServer;
 
 import org.apache.yoko.util.Assert;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//
+// An entry in the active object map.
+//
+// The state and servant can be read without locking. State changes
+// must be made while synchronized on the entry, but waiting for a
+// state change must be done without holding the entry's monitor.
+//
 class TableEntry {
     //
     // The servant
     //
-    private org.omg.PortableServer.Servant servant_;
+    private volatile org.omg.PortableServer.Servant servant_;
 
     //
     // The state of the TableEntry
@@ -36,17 +46,17 @@ class TableEntry {
 
     final static int DEACTIVATED = 3; // Entry has been deactivated
 
-    private int state_;
+    private volatile int state_ = ACTIVATE_PENDING;
 
     //
-    // The number of outstanding requests
+    // Released, and replaced, on every state change
     //
-    private int outstandingRequests_;
+    private volatile CountDownLatch stateChanged_ = new CountDownLatch(1);
 
-    TableEntry() {
-        state_ = ACTIVATE_PENDING;
-        outstandingRequests_ = 0;
-    }
+    //
+    // The number of outstanding requests
+    //
+    private final AtomicInteger outstandingRequests_ = new AtomicInteger();
 
     void setServant(org.omg.PortableServer.Servant s) {
         Assert.ensure(servant_ == null && s != null
@@ -56,7 +66,7 @@ class TableEntry {
     }
 
     void clearServant() {
-        Assert.ensure(state_ == DEACTIVATED && outstandingRequests_ == 0);
+        Assert.ensure(state_ == DEACTIVATED && outstandingRequests_.get() == 0);
         servant_ = null;
     }
 
@@ -65,6 +75,14 @@ class TableEntry {
         return servant_;
     }
 
+    //
+    // Get the servant without checking the state. This may return
+    // null if the entry is concurrently deactivated.
+    //
+    org.omg.PortableServer.Servant peekServant() {
+        return servant_;
+    }
+
     //
     // Is the table entry active?
     //
@@ -76,48 +94,63 @@ class TableEntry {
     // Mark the table entry as activation in progress
     //
     void setActive() {
-        state_ = ACTIVE;
-        notifyAll();
+        changeState(ACTIVE);
     }
 
     //
     // Mark the table entry as deactivate pending
     //
     void setDeactivatePending() {
-        state_ = DEACTIVATE_PENDING;
-        notifyAll();
+        changeState(DEACTIVATE_PENDING);
     }
 
     //
     // Mark the deactivation of the table entry as complete
     //
     void setDeactivated() {
-        state_ = DEACTIVATED;
-        notifyAll();
+        changeState(DEACTIVATED);
+    }
+
+    private void changeState(int state) {
+        Assert.ensure(Thread.holdsLock(this));
+        state_ = state;
+        CountDownLatch old = stateChanged_;
+        stateChanged_ = new CountDownLatch(1);
+        old.countDown();
     }
 
     //
-    // Wait for the deactivation of the table entry to complete
+    // Wait until the entry is no longer in the given state
     //
-    void waitForStateChange() {
-        int state = state_;
-        do {
+    void waitForStateChange(int state) {
+        Assert.ensure(!Thread.holdsLock(this));
+        boolean interrupted = false;
+        while (true) {
+            // read the latch before the state, so a change in between releases it
+            CountDownLatch latch = stateChanged_;
+            if (state_ != state)
+                break;
             try {
-                wait();
+                latch.await();
             } catch (InterruptedException ex) {
+                interrupted = true;
             }
-        } while (state_ == state);
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
     }
 
     int getOutstandingRequests() {
-        return outstandingRequests_;
+        return outstandingRequests_.get();
     }
 
     void incOutstandingRequest() {
-        outstandingRequests_++;
+        outstandingRequests_.incrementAndGet();
     }
 
     int decOutstandingRequest() {
-        return --outstandingRequests_;
+        int n = outstandingRequests_.decrementAndGet();
+        Assert.ensure(n >= 0);
+        return n;
     }
 }
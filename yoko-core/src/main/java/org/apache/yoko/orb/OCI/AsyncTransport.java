@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI;
+
+import org.apache.yoko.io.Buffer;
+import org.apache.yoko.io.ReadBuffer;
+import org.apache.yoko.io.WriteBuffer;
+import org.omg.CORBA.SystemException;
+
+/**
+ * A {@link Transport} that can deliver incoming messages by callback
+ * instead of requiring a thread to block in {@link Transport#receive}.
+ * Messages are delivered in order, one at a time, on a thread owned by the transport.
+ * Callbacks must not block.
+ */
+public interface AsyncTransport {
+    /** The number of bytes in a message header, i.e. the amount read before {@link MessageHandler#headerReceived} is called. */
+    int HEADER_SIZE = 12;
+
+    interface MessageHandler {
+        /** Called to supply the buffer for the next message, which must have room for at least the header. */
+        default WriteBuffer newMessageBuffer() { return Buffer.createWriteBuffer(HEADER_SIZE); }
+
+        /**
+         * Called when a complete message header has been read.
+         * @return the number of bytes following the header, or a negative number to stop receiving
+         */
+        int headerReceived(ReadBuffer header);
+
+        /**
+         * Called when a complete message (header and body) has been read.
+         * @return <code>true</code> to continue receiving, <code>false</code> to stop
+         */
+        boolean messageReceived(WriteBuffer message);
+
+        /** Called at most once, when the transport can no longer receive messages. */
+        void receiveFailed(SystemException ex);
+    }
+
+    /**
+     * Start or resume delivery of incoming messages to the handler.
+     * Once this method has been called, the blocking <code>receive</code> operations must not be used.
+     */
+    void startReceiving(MessageHandler handler);
+
+    /** Stop reading from the transport until {@link #startReceiving} is called again. */
+    void suspendReceiving();
+}
@@ -62,6 +62,7 @@ final class AccFactory_impl extends LocalObject implements AccFactory {
     private final ORB orb_;
     private final UnifiedConnectionHelper connectionHelper;
     private final ListenerMap listenMap_;
+    private final TransportFactory transportFactory;
 
     // ------------------------------------------------------------------
     // Standard IDL to Java Mapping
@@ -193,7 +194,7 @@ final class AccFactory_impl extends LocalObject implements AccFactory {
         }
 
         // this constructor modifies the provided ListenerMap
-        return new Acceptor_impl(bind, hosts, numProfiles, port, backlog, keepAlive, connectionHelper, listenMap_, params, codec);
+        return new Acceptor_impl(bind, hosts, numProfiles, port, backlog, keepAlive, connectionHelper, transportFactory, listenMap_, params, codec);
     }
 
     public void change_key(IORHolder ior, byte[] key) {
@@ -243,10 +244,15 @@ final class AccFactory_impl extends LocalObject implements AccFactory {
     // ------------------------------------------------------------------
 
     public AccFactory_impl(ORB orb, ListenerMap lm, UnifiedConnectionHelper helper) {
+        this(orb, lm, helper, TransportFactory.BLOCKING);
+    }
+
+    AccFactory_impl(ORB orb, ListenerMap lm, UnifiedConnectionHelper helper, TransportFactory transportFactory) {
         connectionHelper = requireNonNull(helper);
         orb_ = orb;
         info_ = new AccFactoryInfo_impl();
         listenMap_ = lm;
+        this.transportFactory = requireNonNull(transportFactory);
     }
 
 }
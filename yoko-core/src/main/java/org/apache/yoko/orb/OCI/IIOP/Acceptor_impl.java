@@ -82,6 +82,7 @@ final class Acceptor_impl extends LocalObject implements Acceptor {
     private final AcceptorInfo_impl info_;
     private final ListenerMap listenMap_;
     private final UnifiedConnectionHelper connectionHelper;
+    private final TransportFactory transportFactory;
     private final Codec codec_;
 
     // ------------------------------------------------------------------
@@ -140,7 +141,7 @@ final class Acceptor_impl extends LocalObject implements Acceptor {
         }
 
         try {
-            Transport tr = new Transport_impl(this, socket, listenMap_);
+            Transport tr = transportFactory.createTransport(this, socket, listenMap_);
             CONN_IN_LOG.fine(() -> "Inbound connection received from " + socket.getInetAddress());
             return tr;
         } catch (SystemException ex) {
@@ -179,7 +180,7 @@ final class Acceptor_impl extends LocalObject implements Acceptor {
 
         // Create and return new transport
         try {
-            return new Transport_impl(this, socket, listenMap_);
+            return transportFactory.createTransport(this, socket, listenMap_);
         } catch (SystemException ex) {
             try {
                 socket.close();
@@ -272,11 +273,12 @@ final class Acceptor_impl extends LocalObject implements Acceptor {
     // ------------------------------------------------------------------
 
     public Acceptor_impl(String address, String[] hosts, ProfileCardinality profileCardinality,
-            int port, int backlog, boolean keepAlive, UnifiedConnectionHelper helper, ListenerMap lm, String[] params, Codec codec) {
+            int port, int backlog, boolean keepAlive, UnifiedConnectionHelper helper, TransportFactory transportFactory, ListenerMap lm, String[] params, Codec codec) {
         this.hosts_ = hosts;
         this.profileCardinality = profileCardinality;
         this.keepAlive_ = keepAlive;
         this.connectionHelper = requireNonNull(helper);
+        this.transportFactory = requireNonNull(transportFactory);
         this.codec_ = codec;
         this.info_ = new AcceptorInfo_impl(this);
         this.listenMap_ = lm;
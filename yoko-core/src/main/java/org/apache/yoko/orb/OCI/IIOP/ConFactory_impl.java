@@ -71,6 +71,8 @@ final class ConFactory_impl extends LocalObject implements ConFactory {
 
     private final UnifiedConnectionHelper connectionHelper;
 
+    private final TransportFactory transportFactory;
+
     private final Set<Integer> helperComponentTags;
 
     // ------------------------------------------------------------------
@@ -235,7 +237,7 @@ final class ConFactory_impl extends LocalObject implements ConFactory {
     }
 
     private Connector createConnector(IOR ior, Policy[] policies, String host, int port, ConnectCB[] cbs, Codec codec) {
-        return new Connector_impl(ior, policies, host, port, keepAlive_, cbs, listenMap_, connectionHelper, codec);
+        return new Connector_impl(ior, policies, host, port, keepAlive_, cbs, listenMap_, connectionHelper, transportFactory, codec);
     }
 
     public boolean equivalent(IOR ior1, IOR ior2) {
@@ -256,11 +258,16 @@ final class ConFactory_impl extends LocalObject implements ConFactory {
     // ------------------------------------------------------------------
 
     public ConFactory_impl(ORB orb, boolean keepAlive, ListenerMap lm, UnifiedConnectionHelper helper) {
+        this(orb, keepAlive, lm, helper, TransportFactory.BLOCKING);
+    }
+
+    ConFactory_impl(ORB orb, boolean keepAlive, ListenerMap lm, UnifiedConnectionHelper helper, TransportFactory transportFactory) {
         orb_ = orb;
         keepAlive_ = keepAlive;
         info_ = new ConFactoryInfo_impl();
         listenMap_ = lm;
         connectionHelper = helper;
         helperComponentTags = helper.tags();
+        this.transportFactory = transportFactory;
     }
 }
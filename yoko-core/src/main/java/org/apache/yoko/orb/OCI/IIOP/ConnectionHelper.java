@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,9 +41,13 @@ public interface ConnectionHelper extends UnifiedConnectionHelperProvider
 {
     void init(ORB orb, String params);
     Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port) throws IOException;
+    /** Create a socket, giving up after the specified timeout in milliseconds, where zero means no timeout */
+    default Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port, int timeout) throws IOException { return createSocket(ior, policies, address, port); }
     Socket createSelfConnection(InetAddress address, int port) throws IOException;
     ServerSocket createServerSocket(int port, int backlog)  throws IOException;
     ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException;
+    /** Whether the sockets are plain sockets connected to the specified address, with nothing that depends on the host name */
+    default boolean connectsByAddress() { return false; }
     default UnifiedConnectionHelper getUnifiedConnectionHelper() {
         return new UnifiedConnectionHelper() {
             @Override
@@ -56,6 +60,11 @@ public interface ConnectionHelper extends UnifiedConnectionHelperProvider
                 return ConnectionHelper.this.createSocket(ior, policies, Util.getInetAddress(host), port);
             }
 
+            @Override
+            public Socket createSocket(String host, int port, int timeout, IOR ior, Policy... policies) throws IOException {
+                return ConnectionHelper.this.createSocket(ior, policies, Util.getInetAddress(host), port, timeout);
+            }
+
             @Override
             public Socket createSelfConnection(InetAddress address, int port) throws IOException {
                 return ConnectionHelper.this.createSelfConnection(address, port);
@@ -70,6 +79,9 @@ public interface ConnectionHelper extends UnifiedConnectionHelperProvider
             public ServerSocket createServerSocket(int port, int backlog, InetAddress address, String... ignored) throws IOException {
                 return ConnectionHelper.this.createServerSocket(port, backlog, address);
             }
+
+            @Override
+            public boolean connectsByAddress() { return ConnectionHelper.this.connectsByAddress(); }
         };
     }
 }
@@ -36,22 +36,23 @@ import org.omg.IOP.TaggedComponent;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.net.InetAddress;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
 import java.util.Arrays;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeoutException;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.logging.Level.FINE;
 import static java.util.logging.Logger.getLogger;
+import static java.util.stream.Collectors.toList;
 import static org.apache.yoko.util.Arrays.EMPTY_BYTES;
 import static org.apache.yoko.util.Arrays.emptyArray;
 import static org.apache.yoko.logging.VerboseLogging.CONN_LOG;
-import static org.apache.yoko.logging.VerboseLogging.CONN_OUT_LOG;
 import static org.apache.yoko.logging.VerboseLogging.logged;
 import static org.apache.yoko.logging.VerboseLogging.wrapped;
 import static org.apache.yoko.orb.OB.Net.CompareHosts;
@@ -78,6 +79,8 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
 
     private final UnifiedConnectionHelper connectionHelper;
 
+    private final TransportFactory transportFactory;
+
     private final byte[] transportInfo;
 
     private final Codec codec_;
@@ -114,13 +117,25 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
     }
 
     public Transport connect() {
+        return connect(-1);
+    }
+
+    public Transport connect_timeout(int t) {
+        return connect(t);
+    }
+
+    private Transport connect(int timeout) {
         if (socket_ != null)
             close();
 
         final String targetDesc = ("host=" + info_.getHost() + ", port=" + info_.getPort());
         try {
             logger.fine(() -> "Connecting to " + targetDesc);
-            socket_ = connectionHelper.createSocket(info_.getHost(), info_.getPort(), ior_, policies_);
+            socket_ = createSocket(timeout);
+            if (socket_ == null) {
+                logger.fine(() -> "Timed out connecting to " + targetDesc);
+                return null;
+            }
             logger.fine(() -> "Connection created with socket " + socket_);
         } catch (ConnectException ex) {
             throw wrapped(CONN_LOG, ex, "Error connecting to " + targetDesc, CONNECT_FAILED);
@@ -150,7 +165,7 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
         //
         Transport tr;
         try {
-            tr = new Transport_impl(socket_, listenMap_);
+            tr = transportFactory.createTransport(socket_, listenMap_);
             socket_ = null;
         } catch (SystemException ex) {
             logger.log(FINE, ex, () -> "Transport creation error");
@@ -179,106 +194,45 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
         return tr;
     }
 
-    //
-    // Helper class for connect_timeout()
-    //
-    private class ConnectTimeout extends Thread {
-        private final CompletableFuture<Socket> socketFuture = new CompletableFuture<>();
-
-        public void run() {
-            final Socket so_;
-            try {
-                so_ = connectionHelper.createSocket(info_.getHost(), info_.getPort(), ior_, policies_);
-                if (socketFuture.complete(so_)) return;
+    /**
+     * Connect a socket to the target, racing the addresses of the target host if it has more than one.
+     * A single host is connected on the calling thread, unless there is a timeout the helper cannot apply itself.
+     * @return the socket, or <code>null</code> on timeout
+     */
+    private Socket createSocket(int timeout) throws IOException {
+        final List<String> hosts = candidateHosts();
+        final int port = info_.getPort();
+        if (hosts.size() == 1) {
+            if (timeout < 0) return connectionHelper.createSocket(hosts.get(0), port, ior_, policies_);
+            if (timeout > 0 && connectionHelper.connectsByAddress()) {
                 try {
-                    so_.close();
-                } catch (IOException ignored) {}
-            } catch (IOException e) {
-                socketFuture.completeExceptionally(e);
-            }
-        }
-
-        synchronized Socket waitForConnect(int t) throws IOException {
-            for (;;) {
-                try {
-                    return socketFuture.get(t, MILLISECONDS);
-                } catch (InterruptedException ignored) {
-                } catch (TimeoutException e) {
-                    if (socketFuture.cancel(false)) return null;
-                } catch (ExecutionException e) {
-                    throw (IOException) e.getCause();
+                    return connectionHelper.createSocket(hosts.get(0), port, timeout, ior_, policies_);
+                } catch (SocketTimeoutException e) {
+                    return null;
                 }
             }
         }
+        return ParallelConnect.connect(hosts, (h, t) -> connectionHelper.createSocket(h, port, t, ior_, policies_), timeout);
     }
 
-    public Transport connect_timeout(int t) {
-        if (null != socket_) close();
-
-        // Create socket and connect
-        try {
-            final ConnectTimeout connectTimeout = new ConnectTimeout();
-            connectTimeout.start();
-
-            socket_ = connectTimeout.waitForConnect(t);
-
-            if (null == socket_) return null;
-        } catch (ConnectException ex) {
-            throw wrapped(CONN_OUT_LOG, ex, "Socket connection error", CONNECT_FAILED);
-        } catch (IOException ex) {
-            logger.log(FINE, ex, () -> "Socket I/O error");
-            throw asCommFailure(ex, MinorSocket);
-        }
-
-        //
-        // Set TCP_NODELAY and SO_KEEPALIVE options
-        //
-        try {
-            socket_.setTcpNoDelay(true);
-
-            if (keepAlive_)
-                socket_.setKeepAlive(true);
-        } catch (java.net.SocketException ex) {
-            logger.log(FINE, ex, () -> "Socket setup error");
-            try {
-                socket_.close();
-            } catch (IOException ignored) {
-            }
-            throw asCommFailure(ex);
-        }
-
-        //
-        // Create new transport
-        //
-        Transport tr;
+    /**
+     * The addresses to try, as literals, if the host name resolves to more than one address.
+     * Only helpers that connect plain sockets by address are given literals:
+     * any other helper may need the host name itself, e.g. to verify a certificate, so it gets the host unchanged.
+     */
+    private List<String> candidateHosts() {
+        final String host = info_.getHost();
+        if (!connectionHelper.connectsByAddress() || Util.isEncodedHost(host)) return singletonList(host);
         try {
-            tr = new Transport_impl(socket_, listenMap_);
-            socket_ = null;
-        } catch (SystemException ex) {
-            logger.log(FINE, ex, () -> "Transport setup error");
-            try {
-                socket_.close();
-            } catch (IOException ignored) {
-            }
-            throw ex;
+            final InetAddress[] addresses = Util.getAllInetAddresses(host);
+            if (addresses.length < 2) return singletonList(host);
+            return ParallelConnect.interleaveFamilies(addresses).stream()
+                    .map(InetAddress::getHostAddress)
+                    .collect(toList());
+        } catch (UnknownHostException e) {
+            // let the connection attempt report the failure
+            return singletonList(host);
         }
-
-        //
-        // Call callbacks
-        //
-        org.apache.yoko.orb.OCI.TransportInfo trInfo = tr.get_info();
-        try {
-            info_._OB_callConnectCB(trInfo);
-        } catch (SystemException ex) {
-            logger.log(FINE, ex, () -> "Callback setup error");
-            tr.close();
-            throw ex;
-        }
-
-        //
-        // Return new transport
-        //
-        return tr;
     }
 
     public ProfileInfo[] get_usable_profiles(IOR ior, Policy[] policies) {
@@ -352,13 +306,14 @@ final class Connector_impl extends org.omg.CORBA.LocalObject implements Connecto
     // Application programs must not use these functions directly
     // ------------------------------------------------------------------
 
-    Connector_impl(IOR ior, Policy[] policies, String host, int port, boolean keepAlive, ConnectCB[] cb, ListenerMap lm, UnifiedConnectionHelper helper, Codec codec) {
+    Connector_impl(IOR ior, Policy[] policies, String host, int port, boolean keepAlive, ConnectCB[] cb, ListenerMap lm, UnifiedConnectionHelper helper, TransportFactory transportFactory, Codec codec) {
         ior_ = ior;
         policies_ = policies;
         keepAlive_ = keepAlive;
         info_ = new ConnectorInfo_impl(host, port, cb);
         listenMap_ = lm;
         connectionHelper = requireNonNull(helper);
+        this.transportFactory = requireNonNull(transportFactory);
         codec_ = codec;
         transportInfo = extractTransportInfo(ior);
     }
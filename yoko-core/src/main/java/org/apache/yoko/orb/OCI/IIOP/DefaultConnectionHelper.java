@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,18 +34,24 @@ public class DefaultConnectionHelper implements ConnectionHelper {
     }
 
     public Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port) throws IOException {
-        return createSocket(address, port);
+        return createSocket(address, port, 0);
+    }
+
+    public Socket createSocket(IOR ior, Policy[] policies, InetAddress address, int port, int timeout) throws IOException {
+        return createSocket(address, port, timeout);
     }
 
     public Socket createSelfConnection(InetAddress address, int port) throws IOException {
-        return createSocket(address, port);
+        return createSocket(address, port, 0);
     }
 
-    private static Socket createSocket(InetAddress address, int port) throws IOException {
+    public boolean connectsByAddress() { return true; }
+
+    private static Socket createSocket(InetAddress address, int port, int timeout) throws IOException {
         final SocketAddress endpoint = new InetSocketAddress(address, port);
         final Socket socket = new Socket();
         socket.setTcpNoDelay(true);
-        socket.connect(endpoint);
+        socket.connect(endpoint, timeout);
         return socket;
     }
 
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.apache.yoko.orb.OCI.Acceptor;
+import org.apache.yoko.orb.OCI.Transport;
+
+import java.io.Closeable;
+import java.net.Socket;
+
+import static org.apache.yoko.logging.VerboseLogging.CONN_LOG;
+
+/**
+ * Creates selector-based transports for sockets backed by a channel.
+ * Sockets without a channel (e.g. those layered by a custom connection helper)
+ * get a {@linkplain TransportFactory#BLOCKING blocking} transport instead.
+ */
+final class NioTransportFactory implements TransportFactory, Closeable {
+    private final SelectorLoops loops;
+
+    NioTransportFactory(int threads) {
+        this.loops = new SelectorLoops(threads);
+    }
+
+    public Transport createTransport(Socket socket, ListenerMap lm) {
+        if (socket.getChannel() == null) return fallback(socket).createTransport(socket, lm);
+        return new NioTransport_impl(socket, loops.nextLoop(), lm);
+    }
+
+    public Transport createTransport(Acceptor acceptor, Socket socket, ListenerMap lm) {
+        if (socket.getChannel() == null) return fallback(socket).createTransport(acceptor, socket, lm);
+        return new NioTransport_impl(acceptor, socket, loops.nextLoop(), lm);
+    }
+
+    private static TransportFactory fallback(Socket socket) {
+        CONN_LOG.fine(() -> "Socket " + socket + " has no channel: using a blocking transport");
+        return BLOCKING;
+    }
+
+    public void close() { loops.close(); }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.apache.yoko.io.ReadBuffer;
+import org.apache.yoko.io.WriteBuffer;
+import org.apache.yoko.orb.OCI.Acceptor;
+import org.apache.yoko.orb.OCI.AsyncTransport;
+import org.apache.yoko.orb.OCI.SendReceiveMode;
+import org.apache.yoko.orb.OCI.Transport;
+import org.omg.CORBA.COMM_FAILURE;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.SystemException;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.logging.Level.FINE;
+import static org.apache.yoko.giop.MessageType.logOutgoingGiopMessage;
+import static org.apache.yoko.orb.OCI.IIOP.Exceptions.asCommFailure;
+import static org.apache.yoko.orb.OCI.SendReceiveMode.SendReceive;
+import static org.apache.yoko.util.Assert.ensure;
+import static org.apache.yoko.util.MinorCodes.MinorRecv;
+import static org.apache.yoko.util.MinorCodes.MinorRecvZero;
+import static org.apache.yoko.util.MinorCodes.MinorSend;
+import static org.apache.yoko.util.MinorCodes.MinorSocket;
+import static org.apache.yoko.util.MinorCodes.describeCommFailure;
+import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
+
+/**
+ * A transport over a non-blocking {@link SocketChannel}.
+ * Incoming messages are read by a shared {@link SelectorLoops.Loop} and handed over complete,
+ * so an idle connection does not tie up a thread.
+ * Sends are performed on the calling thread, waiting for the channel to become writable when necessary.
+ */
+final class NioTransport_impl extends LocalObject implements Transport, AsyncTransport {
+    private static final Logger logger = Logger.getLogger(Transport.class.getName());
+    /** The maximum number of messages to read from one channel before giving the other channels a turn */
+    private static final int MAX_MESSAGES_PER_WAKEUP = 16;
+
+    // This data member must not be private because the info object must be able to access it
+    final Socket socket_;
+    private final SocketChannel channel;
+    private final SelectorLoops.Loop loop;
+    private final TransportInfo_impl info_;
+    private volatile boolean shutdown_;
+
+    // These fields are only accessed on the loop thread
+    private SelectionKey key;
+    private MessageHandler handler;
+    private WriteBuffer incoming; // created when the next message starts
+    private boolean headerRead;
+
+    // These selectors are only opened if a blocking send or receive has to wait
+    private Selector readSelector;
+    private Selector writeSelector;
+
+    NioTransport_impl(Socket socket, SelectorLoops.Loop loop, ListenerMap lm) {
+        this.socket_ = socket;
+        this.channel = configure(socket);
+        this.loop = loop;
+        this.info_ = new TransportInfo_impl(this, lm);
+    }
+
+    NioTransport_impl(Acceptor acceptor, Socket socket, SelectorLoops.Loop loop, ListenerMap lm) {
+        logger.fine(() -> "Creating new transport for socket " + socket);
+        this.socket_ = socket;
+        this.channel = configure(socket);
+        this.loop = loop;
+        this.info_ = new TransportInfo_impl(this, acceptor, lm);
+    }
+
+    private static SocketChannel configure(Socket socket) {
+        final SocketChannel channel = socket.getChannel();
+        ensure(channel != null, "NIO transport requires a socket created from a SocketChannel");
+        try {
+            channel.configureBlocking(false);
+        } catch (IOException ex) {
+            logger.log(FINE, ex, () -> "Socket setup error");
+            throw asCommFailure(ex, MinorSocket, "unable to configure non-blocking socket channel");
+        }
+        return channel;
+    }
+
+    // ------------------------------------------------------------------
+    // Standard IDL to Java Mapping
+    // ------------------------------------------------------------------
+
+    public SendReceiveMode mode() {
+        return SendReceive;
+    }
+
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        closeQuietly(readSelector);
+        closeQuietly(writeSelector);
+        loop.wakeup(); // let the loop discard the cancelled key promptly
+    }
+
+    public void shutdown() {
+        logger.fine(() -> "shutdown: " + this);
+        shutdown_ = true;
+        try {
+            channel.shutdownInput();
+            channel.shutdownOutput();
+        } catch (IOException ignored) {
+            // the channel might already be closed
+        }
+        close();
+    }
+
+    public void receive(WriteBuffer writeBuffer, boolean block) {
+        logger.fine(() -> "receiving a buffer of " + writeBuffer.available() + " from " + socket_ + " using transport " + this);
+        try {
+            while (!writeBuffer.isComplete()) {
+                final int count = writeBuffer.readFrom(channel);
+                if (count < 0) throw new COMM_FAILURE(describeCommFailure(MinorRecvZero), MinorRecvZero, COMPLETED_NO);
+                if (count > 0) continue;
+                if (!block) return;
+                if (shutdown_) throw new COMM_FAILURE(describeCommFailure(MinorRecvZero), MinorRecvZero, COMPLETED_NO);
+                readSelector = await(readSelector, OP_READ, 0);
+            }
+        } catch (IOException ex) {
+            logger.log(FINE, ex, () -> "Socket read error");
+            throw asCommFailure(ex, MinorRecv, "I/O error during read");
+        }
+    }
+
+    public void send(ReadBuffer readBuffer, boolean block) {
+        logger.fine(() -> "Sending buffer of size " + readBuffer.available() + " to " + socket_);
+        logOutgoingGiopMessage(readBuffer);
+        try {
+            write(readBuffer, block ? 0 : -1);
+        } catch (IOException ex) {
+            logger.log(FINE, ex, () -> "Socket write error");
+            throw asCommFailure(ex, MinorSend, "I/O error during write");
+        }
+    }
+
+    @Override
+    public void send_gather(ReadBuffer[] readBuffers) {
+        for (ReadBuffer readBuffer : readBuffers) {
+            logger.fine(() -> "Sending buffer of size " + readBuffer.available() + " to " + socket_);
+            logOutgoingGiopMessage(readBuffer);
+        }
+        try {
+            for (int first = 0; first < readBuffers.length; ) {
+                if (readBuffers[first].isComplete()) {
+                    first++;
+                    continue;
+                }
+                final ReadBuffer[] remaining = first == 0 ? readBuffers : Arrays.copyOfRange(readBuffers, first, readBuffers.length);
+                if (ReadBuffer.writeTo(channel, remaining) == 0) writeSelector = await(writeSelector, OP_WRITE, 0);
+            }
+        } catch (IOException ex) {
+            logger.log(FINE, ex, () -> "Socket write error");
+            throw asCommFailure(ex, MinorSend, "I/O error during write");
+        }
+    }
+
+    public boolean send_detect(ReadBuffer readBuffer, boolean block) {
+        logOutgoingGiopMessage(readBuffer);
+        try {
+            write(readBuffer, block ? 0 : -1);
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    public void send_timeout(ReadBuffer readBuffer, int t) {
+        if (t < 0) throw new InternalError();
+        if (t == 0) {
+            send(readBuffer, false);
+            return;
+        }
+        logOutgoingGiopMessage(readBuffer);
+        try {
+            write(readBuffer, t);
+        } catch (IOException ex) {
+            logger.log(FINE, ex, () -> "Socket write error");
+            throw asCommFailure(ex, MinorSend, "I/O error during write");
+        }
+    }
+
+    public org.apache.yoko.orb.OCI.TransportInfo get_info() {
+        return info_;
+    }
+
+    // ------------------------------------------------------------------
+    // AsyncTransport
+    // ------------------------------------------------------------------
+
+    public void startReceiving(MessageHandler h) {
+        loop.execute(() -> {
+            handler = h;
+            try {
+                if (key == null) key = loop.register(channel, OP_READ, this::readReady);
+                else if (key.isValid()) key.interestOps(OP_READ);
+            } catch (IOException ex) {
+                fail(asCommFailure(ex, MinorRecv, "unable to register channel for reading"));
+            }
+        });
+    }
+
+    public void suspendReceiving() {
+        loop.execute(this::stopReading);
+    }
+
+    private void stopReading() {
+        if (key != null && key.isValid()) key.interestOps(0);
+    }
+
+    private boolean isReading() {
+        return key != null && key.isValid() && key.interestOps() != 0;
+    }
+
+    /** Called on the loop thread when the channel has data to read */
+    private void readReady() {
+        try {
+            for (int messages = 0; messages < MAX_MESSAGES_PER_WAKEUP && isReading(); ) {
+                if (incoming == null) incoming = handler.newMessageBuffer();
+                if (!incoming.isComplete()) {
+                    if (incoming.readFrom(channel) < 0) {
+                        fail(new COMM_FAILURE(describeCommFailure(MinorRecvZero), MinorRecvZero, COMPLETED_NO));
+                        return;
+                    }
+                    if (!incoming.isComplete()) return; // wait for more data
+                }
+
+                if (!headerRead) {
+                    headerRead = true;
+                    final int bodySize = handler.headerReceived(incoming.readFromStart());
+                    if (bodySize < 0) {
+                        stopReading();
+                        return;
+                    }
+                    incoming.ensureAvailable(bodySize);
+                    if (!incoming.isComplete()) continue;
+                }
+
+                final WriteBuffer message = incoming;
+                incoming = null;
+                headerRead = false;
+                messages++;
+                if (!handler.messageReceived(message)) stopReading();
+            }
+        } catch (IOException ex) {
+            logger.log(FINE, ex, () -> "Socket read error");
+            fail(asCommFailure(ex, MinorRecv, "I/O error during read"));
+        }
+    }
+
+    private void fail(SystemException ex) {
+        if (key != null) key.cancel();
+        final MessageHandler h = handler;
+        handler = null;
+        if (h != null) h.receiveFailed(ex);
+    }
+
+    // ------------------------------------------------------------------
+    // Private helpers
+    // ------------------------------------------------------------------
+
+    /**
+     * Write the buffer to the channel.
+     * @param timeout negative to write without waiting, zero to wait as long as necessary, or the maximum wait in milliseconds
+     */
+    private void write(ReadBuffer readBuffer, long timeout) throws IOException {
+        final long deadline = System.nanoTime() + MILLISECONDS.toNanos(timeout);
+        while (!readBuffer.isComplete()) {
+            if (readBuffer.writeTo(channel) > 0) continue;
+            if (timeout < 0) return;
+            long wait = 0;
+            if (timeout > 0) {
+                wait = NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (wait <= 0) return;
+            }
+            writeSelector = await(writeSelector, OP_WRITE, wait);
+        }
+    }
+
+    /** Wait until the channel is ready for the specified operation, using a private selector. */
+    private Selector await(Selector selector, int op, long timeout) throws IOException {
+        if (selector == null) {
+            selector = Selector.open();
+            channel.register(selector, op);
+        }
+        if (timeout > 0) selector.select(timeout);
+        else selector.select();
+        selector.selectedKeys().clear();
+        return selector;
+    }
+
+    private static void closeQuietly(Selector selector) {
+        if (selector == null) return;
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    public String toString() {
+        return String.format("NIO transport to %s with socket %s", info_, socket_);
+    }
+}
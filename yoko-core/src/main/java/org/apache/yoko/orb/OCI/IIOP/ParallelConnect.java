@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Logger.getLogger;
+
+/**
+ * Races connection attempts to a list of addresses, and returns the first socket to connect.
+ * <p>
+ *     Attempts are started one at a time, in order. The next attempt starts when the previous one fails,
+ *     or when it has been outstanding for {@value #ATTEMPT_DELAY_MILLIS}ms, whichever is sooner (see RFC 8305).
+ *     Sockets that connect after the race has been won, or after it has timed out, are closed.
+ * </p>
+ * <p>
+ *     The attempts run on a shared pool of daemon threads, which grows on demand and reuses idle threads,
+ *     so a slow attempt never holds up another race. Each attempt is given the time remaining for its race.
+ *     The staggering and timeouts for all races are driven by a single shared timer thread.
+ * </p>
+ */
+final class ParallelConnect {
+    private static final Logger logger = getLogger(ParallelConnect.class.getName());
+    /** How long to wait for one attempt before starting the next alongside it */
+    static final long ATTEMPT_DELAY_MILLIS = 250;
+
+    interface Attempt {
+        /**
+         * Connect to a single host.
+         * @param timeout the time left in milliseconds, or zero to wait indefinitely
+         */
+        Socket connect(String host, int timeout) throws IOException;
+    }
+
+    private static final class Shared {
+        static final ThreadPoolExecutor CONNECTORS;
+        static final ScheduledExecutorService TIMER;
+        static {
+            CONNECTORS = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 30, SECONDS,
+                    new SynchronousQueue<>(), daemonThreads("Yoko:Connect:"));
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, daemonThreads("Yoko:ConnectTimer:"));
+            timer.setRemoveOnCancelPolicy(true);
+            TIMER = timer;
+        }
+
+        private static ThreadFactory daemonThreads(String prefix) {
+            final AtomicInteger count = new AtomicInteger();
+            return r -> {
+                Thread t = new Thread(r, prefix + count.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            };
+        }
+    }
+
+    private final List<String> hosts;
+    private final Attempt attempt;
+    /** The {@link System#nanoTime()} by which the race must be won, if it has a timeout */
+    private final long deadline;
+    private final boolean timed;
+    private final CompletableFuture<Socket> result = new CompletableFuture<>();
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private ParallelConnect(List<String> hosts, Attempt attempt, int timeout) {
+        this.hosts = hosts;
+        this.attempt = attempt;
+        this.timed = timeout >= 0;
+        this.deadline = nanoTime() + MILLISECONDS.toNanos(Math.max(timeout, 0));
+    }
+
+    /**
+     * Connect to the first available host.
+     * @param hosts the hosts to try, in order of preference
+     * @param attempt the action that connects to a single host
+     * @param timeout the timeout in milliseconds, or a negative number to wait indefinitely
+     * @return the connected socket, or <code>null</code> if the timeout expired first
+     * @throws IOException the failure of the last attempt, if every attempt failed other than by timing out
+     */
+    static Socket connect(List<String> hosts, Attempt attempt, int timeout) throws IOException {
+        if (hosts.isEmpty()) throw new IllegalArgumentException("no hosts to connect to");
+        final ParallelConnect race = new ParallelConnect(hosts, attempt, timeout);
+        if (timeout >= 0) {
+            final Future<?> timer = Shared.TIMER.schedule(() -> race.result.complete(null), timeout, MILLISECONDS);
+            race.result.whenComplete((s, t) -> timer.cancel(false));
+        }
+        race.startNext();
+        return race.await();
+    }
+
+    private void startNext() {
+        if (result.isDone()) return;
+        final int index = started.getAndIncrement();
+        if (index >= hosts.size()) return;
+        final String host = hosts.get(index);
+        Shared.CONNECTORS.execute(() -> run(host));
+        if (index + 1 < hosts.size()) {
+            final Future<?> next = Shared.TIMER.schedule(this::startNext, ATTEMPT_DELAY_MILLIS, MILLISECONDS);
+            result.whenComplete((s, t) -> next.cancel(false));
+        }
+    }
+
+    private void run(String host) {
+        if (result.isDone()) return;
+        final int remaining = timed ? (int) Math.max(1, NANOSECONDS.toMillis(deadline - nanoTime())) : 0;
+        try {
+            final Socket socket = attempt.connect(host, remaining);
+            if (result.complete(socket)) return;
+            logger.fine(() -> "Closing surplus connection " + socket);
+            try {
+                socket.close();
+            } catch (IOException ignored) {}
+        } catch (IOException | RuntimeException e) {
+            logger.log(FINE, e, () -> "Connection attempt to " + host + " failed");
+            attemptFailed(e);
+        }
+    }
+
+    private void attemptFailed(Exception e) {
+        if (failed.incrementAndGet() < hosts.size()) startNext();
+        else if (e instanceof SocketTimeoutException) result.complete(null);
+        else result.completeExceptionally(e);
+    }
+
+    private Socket await() throws IOException {
+        boolean interrupted = false;
+        try {
+            for (;;) {
+                try {
+                    return result.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof IOException) throw (IOException) cause;
+                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                    throw (Error) cause;
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Order addresses for connecting, alternating between address families
+     * and starting with the family of the first address (see RFC 8305).
+     */
+    static List<InetAddress> interleaveFamilies(InetAddress... addresses) {
+        final List<InetAddress> first = new ArrayList<>(), second = new ArrayList<>();
+        for (InetAddress address : addresses) {
+            boolean sameFamily = (address instanceof Inet6Address) == (addresses[0] instanceof Inet6Address);
+            (sameFamily ? first : second).add(address);
+        }
+        final List<InetAddress> result = new ArrayList<>(addresses.length);
+        for (int i = 0; i < addresses.length; i++) {
+            if (i < first.size()) result.add(first.get(i));
+            if (i < second.size()) result.add(second.get(i));
+        }
+        return result;
+    }
+}
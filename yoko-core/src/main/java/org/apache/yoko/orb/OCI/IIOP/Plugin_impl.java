@@ -34,16 +34,21 @@ import org.omg.CORBA.ORB;
 import org.omg.CORBA.ORBPackage.InvalidName;
 import org.omg.IOP.TAG_INTERNET_IOP;
 
+import java.io.Closeable;
+import java.io.IOException;
+
 import static org.apache.yoko.util.Assert.ensure;
 import static org.apache.yoko.util.Exceptions.as;
 
-public final class Plugin_impl extends LocalObject implements Plugin {
+public final class Plugin_impl extends LocalObject implements Plugin, Closeable {
     private final ORB orb_; // The ORB
 
     private final ListenerMap listenMap_; // list of listenPoints
 
     private final UnifiedConnectionHelper connectionHelper;
 
+    private final TransportFactory transportFactory;
+
     // ------------------------------------------------------------------
     // Standard IDL to Java Mapping
     // ------------------------------------------------------------------
@@ -65,7 +70,7 @@ public final class Plugin_impl extends LocalObject implements Plugin {
 
         try {
             ConFactoryRegistry registry = ConFactoryRegistryHelper.narrow(orb_.resolve_initial_references("OCIConFactoryRegistry"));
-            registry.add_factory(new ConFactory_impl(orb_, keepAlive, listenMap_, connectionHelper));
+            registry.add_factory(new ConFactory_impl(orb_, keepAlive, listenMap_, connectionHelper, transportFactory));
         } catch (InvalidName ex) {
             throw Assert.fail(ex);
         } catch (FactoryAlreadyExists ex) {
@@ -87,7 +92,7 @@ public final class Plugin_impl extends LocalObject implements Plugin {
     public void init_server(String[] params) {
         try {
             AccFactoryRegistry registry = AccFactoryRegistryHelper.narrow(orb_.resolve_initial_references("OCIAccFactoryRegistry"));
-            registry.add_factory(new AccFactory_impl(orb_, listenMap_, connectionHelper));
+            registry.add_factory(new AccFactory_impl(orb_, listenMap_, connectionHelper, transportFactory));
         } catch (InvalidName ex) {
             throw Assert.fail(ex);
         } catch (FactoryAlreadyExists ex) {
@@ -101,8 +106,22 @@ public final class Plugin_impl extends LocalObject implements Plugin {
     // ------------------------------------------------------------------
 
     public Plugin_impl(ORB orb, UnifiedConnectionHelper helper) {
+        this(orb, helper, TransportFactory.BLOCKING);
+    }
+
+    private Plugin_impl(ORB orb, UnifiedConnectionHelper helper, TransportFactory factory) {
         orb_ = orb;
         connectionHelper = helper;
+        transportFactory = factory;
         listenMap_ = new ListenerMap();
     }
+
+    /** Create a plug-in whose connections are served by the specified number of selector threads. */
+    public static Plugin_impl createNioPlugin(ORB orb, UnifiedConnectionHelper helper, int selectorThreads) {
+        return new Plugin_impl(orb, helper, new NioTransportFactory(selectorThreads));
+    }
+
+    public void close() throws IOException {
+        if (transportFactory instanceof Closeable) ((Closeable) transportFactory).close();
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+import static org.apache.yoko.logging.VerboseLogging.CONN_LOG;
+import static org.apache.yoko.orb.OCI.IIOP.Exceptions.asCommFailure;
+import static org.apache.yoko.util.MinorCodes.MinorSocket;
+
+/**
+ * A fixed set of event-loop threads, each owning a {@link Selector}.
+ * Channels are spread across the loops in round-robin order.
+ * All interaction with a loop's selector happens on the loop's own thread.
+ */
+final class SelectorLoops implements Closeable {
+    private static final AtomicInteger poolCount = new AtomicInteger();
+    private final Loop[] loops;
+    private final AtomicInteger next = new AtomicInteger();
+
+    SelectorLoops(int count) {
+        final int poolId = poolCount.incrementAndGet();
+        loops = new Loop[Math.max(1, count)];
+        for (int i = 0; i < loops.length; i++) loops[i] = new Loop("yoko-iiop-nio-" + poolId + "-" + i);
+    }
+
+    Loop nextLoop() { return loops[(next.getAndIncrement() & Integer.MAX_VALUE) % loops.length]; }
+
+    public void close() { for (Loop loop : loops) loop.close(); }
+
+    static final class Loop implements Runnable {
+        private final Selector selector;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final Thread thread;
+        private volatile boolean closed;
+
+        private Loop(String name) {
+            try {
+                selector = Selector.open();
+            } catch (IOException e) {
+                throw asCommFailure(e, MinorSocket, "unable to open selector");
+            }
+            thread = new Thread(this, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        boolean inLoop() { return Thread.currentThread() == thread; }
+
+        /** Run the task on the loop thread: immediately if already there, otherwise at the next wakeup. */
+        void execute(Runnable task) {
+            if (inLoop()) {
+                task.run();
+                return;
+            }
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        void wakeup() { selector.wakeup(); }
+
+        /** Must be called on the loop thread. The attachment is run whenever the channel is ready. */
+        SelectionKey register(SelectableChannel channel, int ops, Runnable onReady) throws ClosedChannelException {
+            return channel.register(selector, ops, onReady);
+        }
+
+        public void run() {
+            while (!closed) {
+                try {
+                    selector.select();
+                } catch (IOException e) {
+                    CONN_LOG.log(WARNING, e, () -> "Selector failure in " + thread.getName());
+                    continue;
+                }
+                for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) runSafely(task);
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid()) runSafely((Runnable) key.attachment());
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                CONN_LOG.log(FINE, e, () -> "Error closing selector for " + thread.getName());
+            }
+        }
+
+        private void runSafely(Runnable r) {
+            try {
+                r.run();
+            } catch (RuntimeException e) {
+                CONN_LOG.log(WARNING, e, () -> "Unexpected exception in " + thread.getName());
+            }
+        }
+
+        void close() {
+            closed = true;
+            selector.wakeup();
+        }
+    }
+}
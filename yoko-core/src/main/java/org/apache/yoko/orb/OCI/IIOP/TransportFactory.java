@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.apache.yoko.orb.OCI.Acceptor;
+import org.apache.yoko.orb.OCI.Transport;
+
+import java.net.Socket;
+
+/**
+ * Creates the {@link Transport} for a connected socket.
+ * This lets the blocking and the selector-based plugins share the acceptor and connector logic.
+ */
+interface TransportFactory {
+    TransportFactory BLOCKING = new TransportFactory() {
+        public Transport createTransport(Socket socket, ListenerMap lm) { return new Transport_impl(socket, lm); }
+        public Transport createTransport(Acceptor acceptor, Socket socket, ListenerMap lm) { return new Transport_impl(acceptor, socket, lm); }
+    };
+
+    /** create a client-side transport */
+    Transport createTransport(Socket socket, ListenerMap lm);
+
+    /** create a server-side transport */
+    Transport createTransport(Acceptor acceptor, Socket socket, ListenerMap lm);
+}
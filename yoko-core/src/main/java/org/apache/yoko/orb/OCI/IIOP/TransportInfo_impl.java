@@ -158,6 +158,16 @@ public final class TransportInfo_impl extends LocalObject implements TransportIn
         this(transport.socket_, Origin.SERVER, lm);
     }
 
+    // client-side constructor
+    TransportInfo_impl(NioTransport_impl transport, ListenerMap lm) {
+        this(transport.socket_, Origin.CLIENT, lm);
+    }
+
+    //server-side constructor
+    TransportInfo_impl(NioTransport_impl transport, Acceptor acceptor, ListenerMap lm) {
+        this(transport.socket_, Origin.SERVER, lm);
+    }
+
     @Override
     public String toString() {
         return describe();
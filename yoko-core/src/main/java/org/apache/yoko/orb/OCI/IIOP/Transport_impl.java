@@ -18,6 +18,7 @@
 package org.apache.yoko.orb.OCI.IIOP;
 
 import org.apache.yoko.giop.MessageType;
+import org.apache.yoko.io.Buffer;
 import org.apache.yoko.io.ReadBuffer;
 import org.apache.yoko.io.WriteBuffer;
 import org.apache.yoko.orb.OCI.Acceptor;
@@ -65,6 +66,9 @@ final public class Transport_impl extends LocalObject implements Transport {
     // the real logger backing instance.  We use the interface class as the locator
     private static final Logger logger = Logger.getLogger(Transport.class.getName());
 
+    // the most data to copy into one buffer in send_gather()
+    private static final int MAX_GATHER_COPY = 64 * 1024;
+
     // ------------------------------------------------------------------
     // Private and protected member implementations
     // ------------------------------------------------------------------
@@ -202,6 +206,10 @@ final public class Transport_impl extends LocalObject implements Transport {
 
         logOutgoingGiopMessage(readBuffer);
 
+        write(readBuffer, block);
+    }
+
+    private void write(ReadBuffer readBuffer, boolean block) {
         while (!readBuffer.isComplete()) {
             try {
                 readBuffer.writeTo(out_);
@@ -217,6 +225,28 @@ final public class Transport_impl extends LocalObject implements Transport {
         }
     }
 
+    /**
+     * Socket streams cannot gather, so small buffers are copied together to be sent with a single write.
+     * Larger batches are sent one buffer at a time.
+     */
+    @Override
+    public void send_gather(ReadBuffer[] readBuffers) {
+        long total = 0;
+        for (ReadBuffer readBuffer : readBuffers) total += readBuffer.available();
+        if (readBuffers.length < 2 || total > MAX_GATHER_COPY) {
+            for (ReadBuffer readBuffer : readBuffers) send(readBuffer, true);
+            return;
+        }
+        final WriteBuffer batch = Buffer.createWriteBuffer((int) total);
+        for (ReadBuffer readBuffer : readBuffers) {
+            logOutgoingGiopMessage(readBuffer);
+            readBuffer.readBytes(batch);
+            readBuffer.skipBytes(readBuffer.available());
+        }
+        setBlock(true);
+        write(batch.readFromStart(), true);
+    }
+
     public boolean send_detect(ReadBuffer readBuffer, boolean block) {
         setBlock(block);
 
@@ -35,10 +35,17 @@ import static org.apache.yoko.util.Arrays.emptyArray;
 public interface UnifiedConnectionHelper {
     void init(ORB orb, String params);
     Socket createSocket(String host, int port, IOR ior, Policy... policies) throws IOException;
+    /**
+     * Create a socket, giving up after the specified timeout in milliseconds, where zero means no timeout.
+     * Helpers that cannot limit the time taken to connect ignore the timeout.
+     */
+    default Socket createSocket(String host, int port, int timeout, IOR ior, Policy... policies) throws IOException { return createSocket(host, port, ior, policies); }
     Socket createSelfConnection(InetAddress address, int port) throws IOException;
     ServerSocket createServerSocket(int port, int backlog, String... params)  throws IOException;
     ServerSocket createServerSocket(int port, int backlog, InetAddress address, String... params) throws IOException;
     default Set<Integer> tags() { return Collections.emptySet(); }
     default TransportAddress[] getEndpoints(TaggedComponent taggedComponent, Policy... policies) { return emptyArray(TransportAddress.class); }
     default boolean isExtended() { return false; }
+    /** Whether this helper connects a plain socket to the address a host resolves to, so it can be given address literals instead */
+    default boolean connectsByAddress() { return false; }
 }
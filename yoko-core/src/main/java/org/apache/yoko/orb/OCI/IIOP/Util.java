@@ -441,4 +441,23 @@ final public class Util {
             }
         }
     }
+
+    static InetAddress[] getAllInetAddresses(final String host) throws UnknownHostException {
+        try {
+            return AccessController.doPrivileged(new PrivilegedExceptionAction<InetAddress[]>() {
+                @Override
+                public InetAddress[] run() throws Exception {
+                    return InetAddress.getAllByName(host);
+                }
+            });
+        } catch (PrivilegedActionException e) {
+            try {
+                throw e.getException();
+            } catch (RuntimeException | UnknownHostException e2) {
+                throw e2;
+            } catch (Exception e2) {
+                throw new RuntimeException("Unexpected exception", e2);
+            }
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -89,6 +89,20 @@ public interface TransportOperations {
      **/
     void send(ReadBuffer readBuffer, boolean block);
 
+    /**
+     * Sends the contents of several buffers, in order, blocking until
+     * all of them have been sent. This is equivalent to calling
+     * <code>send(readBuffer, TRUE)</code> for each buffer in turn, but
+     * a transport may send them together, e.g. with a single gathering
+     * write, without first copying them into one buffer.
+     *
+     * @param readBuffers The buffers to send.
+     * @exception COMM_FAILURE In case of an error.
+     **/
+    default void send_gather(ReadBuffer[] readBuffers) {
+        for (ReadBuffer readBuffer : readBuffers) send(readBuffer, true);
+    }
+
     /**
      * Similar to <code>send</code>, but it signals a connection loss
      * by returning <code>FALSE</code> instead of raising
@@ -46,6 +46,10 @@ public class iiop implements PluginInit {
     // default settings for loading the connectionHelper "plugin-to-the-plugin"
     private String connectionHelper = "org.apache.yoko.orb.OCI.IIOP.DefaultConnectionHelper";
     private String helperArgs = "";
+    private boolean customHelper;
+    // which transport implementation to use: "blocking" (the default) or "nio"
+    private String transport = "blocking";
+    private int selectorThreads = Math.min(4, Runtime.getRuntime().availableProcessors());
 
     //
     // Compatibility check. The plug-in should verify that it is
@@ -65,12 +69,21 @@ public class iiop implements PluginInit {
 
         args.value = parse_args(args.value, props);
 
+        final boolean nio;
+        switch (transport) {
+            case "blocking": nio = false; break;
+            case "nio": nio = true; break;
+            default: throw new INITIALIZE("iiop: unknown transport `" + transport + "'");
+        }
+        // channel-backed sockets are needed for NIO, unless a custom helper was requested
+        if (nio && !customHelper) connectionHelper = "org.apache.yoko.orb.OCI.IIOP.NioConnectionHelper";
+
         try {
             // get the appropriate class for the loading.
             Class<? extends UnifiedConnectionHelperProvider> c = ProviderLocator.loadClass(connectionHelper, getClass(), doPrivileged(GET_CONTEXT_CLASS_LOADER));
             UnifiedConnectionHelper connectionHelper = createNoArgsInstance(c).getUnifiedConnectionHelper();
             connectionHelper.init(orb, helperArgs);
-            return new Plugin_impl(orb, connectionHelper);
+            return nio ? Plugin_impl.createNioPlugin(orb, connectionHelper, selectorThreads) : new Plugin_impl(orb, connectionHelper);
         } catch (AssertionFailed|INITIALIZE e) {
             throw e;
         } catch (Exception e) {
@@ -100,6 +113,7 @@ public class iiop implements PluginInit {
         filter.add("host", 1);
         filter.add("numeric", 0);
         filter.add("port", 1);
+        filter.add("transport", 1);
         return filter.filter(args);
     }
 
@@ -111,6 +125,8 @@ public class iiop implements PluginInit {
         private String port;
         private String connHelper;
         private String connHelperArgs;
+        private String transport;
+        private String selectorThreads;
         private boolean noArgs = true;
 
         interface ArgParser { IIOPSetter parse(String[] args); }
@@ -150,6 +166,14 @@ public class iiop implements PluginInit {
                     this.setNumeric();
                     logger.fine(() -> "Using " + key + " value of " + value);
                     break;
+                case "yoko.iiop.transport":
+                    this.setTransport(value);
+                    logger.fine(() -> "Using " + key + " value of " + value);
+                    break;
+                case "yoko.iiop.nio_threads":
+                    this.setSelectorThreads(value);
+                    logger.fine(() -> "Using " + key + " value of " + value);
+                    break;
                 default:
                     if (key.startsWith("yoko.iiop.")) throw new INITIALIZE("iiop: unknown property " + key);
             }
@@ -179,6 +203,7 @@ public class iiop implements PluginInit {
                 case "-OAport": return this::setPort;
                 case "-IIOPconnectionHelper": return this::setConnHelper;
                 case "-IIOPconnectionHelperArgs": return this::setConnHelperArgs;
+                case "-IIOPtransport": return this::setTransport;
                 case "-IIOPnumeric":
                 case "-OAnumeric":
                     this.setNumeric();
@@ -190,8 +215,20 @@ public class iiop implements PluginInit {
         }
 
         private PropertySetter applyConnectionHelperSettings(iiop target) {
-            if (null != connHelper) target.connectionHelper = connHelper;
+            if (null != connHelper) {
+                target.connectionHelper = connHelper;
+                target.customHelper = true;
+            }
             if (null != connHelperArgs) target.helperArgs = connHelperArgs;
+            if (null != transport) target.transport = transport;
+            if (null != selectorThreads) {
+                try {
+                    target.selectorThreads = Integer.parseInt(selectorThreads);
+                } catch (NumberFormatException e) {
+                    throw Exceptions.as(INITIALIZE::new, e, "iiop: invalid value for yoko.iiop.nio_threads: " + selectorThreads);
+                }
+                if (target.selectorThreads < 1) throw new INITIALIZE("iiop: yoko.iiop.nio_threads must be positive");
+            }
             return this::updateProperties;
         }
 
@@ -228,6 +265,8 @@ public class iiop implements PluginInit {
         private void setNumeric() { noArgs = false; numeric = true; }
         private void setConnHelper(String s) { connHelper = s; }
         private void setConnHelperArgs(String s) { connHelperArgs = s; }
+        private void setTransport(String s) { transport = s; }
+        private void setSelectorThreads(String s) { selectorThreads = s; }
     }
 
 
@@ -26,7 +26,6 @@ import org.apache.yoko.orb.OB.Util;
 import org.apache.yoko.orb.OCI.ProfileInfo;
 import org.apache.yoko.io.SimplyCloseable;
 import org.apache.yoko.util.Assert;
-import org.apache.yoko.util.CollectionExtras;
 import org.apache.yoko.util.Exceptions;
 import org.omg.CORBA.Any;
 import org.omg.CORBA.BAD_INV_ORDER;
@@ -55,11 +54,9 @@ import org.omg.PortableInterceptor.SYSTEM_EXCEPTION;
 import org.omg.PortableInterceptor.USER_EXCEPTION;
 
 import java.util.Arrays;
-import java.util.List;
 
 import static java.util.Arrays.copyOf;
 import static org.apache.yoko.logging.VerboseLogging.REQ_OUT_LOG;
-import static org.apache.yoko.util.CollectionExtras.newSynchronizedList;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidComponentId;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidPICall;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidPolicyType;
@@ -70,7 +67,10 @@ import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_YES;
 
 final public class ClientRequestInfo_impl extends RequestInfo_impl implements ClientRequestInfo {
-    private final List<ClientRequestInterceptor> interceptors = newSynchronizedList();
+    /** The ORB's client request interceptors */
+    private ClientRequestInterceptor[] chain;
+    /** The number of interceptors at the start of the chain on the flow stack, i.e. whose send_request completed */
+    private volatile int flowDepth;
     private final IOR effectiveIor;
     private final IOR originalIor;
     private final ProfileInfo profileInfo;
@@ -86,7 +86,7 @@ final public class ClientRequestInfo_impl extends RequestInfo_impl implements Cl
      *     TODO: try fixing this?
      * </strong> (See CORBA 3.0.3 21.4.4.6 paragraph 3)
      */
-    private final Any[] newThreadScopePICurrentSlotData;
+    private final SlotTable newThreadScopePICurrentSlotData;
 
     // Returns the target object on which the current request was invoked.
     //
@@ -259,7 +259,9 @@ final public class ClientRequestInfo_impl extends RequestInfo_impl implements Cl
         this.argStrategy = dc.createArgumentStrategy(orb);
     }
 
-    public void _OB_request(List<ClientRequestInterceptor> interceptors) throws LocationForward {
+    public void _OB_request(ClientRequestInterceptor[] chain) throws LocationForward {
+        this.chain = chain;
+
         // The PICurrent needs a new set of slot data
         requestSlotData = piCurrent._OB_currentSlotData();
         currentNeedsPopping = true;
@@ -272,10 +274,10 @@ final public class ClientRequestInfo_impl extends RequestInfo_impl implements Cl
 
         try (SimplyCloseable ignored = CMSF_THREAD_LOCAL.overrideForInterceptors();
              SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
-            for(ClientRequestInterceptor interceptor: interceptors) {
+            for(ClientRequestInterceptor interceptor: chain) {
                 try {
                     interceptor.send_request(this);
-                    this.interceptors.add(interceptor);
+                    flowDepth++;
                 } catch (SystemException ex) {
                     replyStatus = SYSTEM_EXCEPTION.value;
                     // CORBA spec v3.0.3 - 21.3.6.1: Compliant Interceptors shall properly follow completion_status
@@ -313,7 +315,8 @@ final public class ClientRequestInfo_impl extends RequestInfo_impl implements Cl
 
         try (SimplyCloseable ignored = CMSF_THREAD_LOCAL.overrideForInterceptors();
              SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
-            for (ClientRequestInterceptor i: CollectionExtras.removeInReverse(interceptors)) {
+            while (flowDepth > 0) {
+                final ClientRequestInterceptor i = chain[--flowDepth];
                 try {
                     switch (replyStatus) {
                     case SUCCESSFUL.value:
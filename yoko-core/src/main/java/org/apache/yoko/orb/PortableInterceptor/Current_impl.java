@@ -17,7 +17,6 @@
  */
 package org.apache.yoko.orb.PortableInterceptor;
 
-import org.apache.yoko.orb.CORBA.AnyImpl;
 import org.apache.yoko.util.Assert;
 import org.omg.CORBA.Any;
 import org.omg.CORBA.LocalObject;
@@ -35,10 +34,10 @@ final public class Current_impl extends LocalObject implements Current {
     static final Logger logger = getLogger(Current_impl.class.getName());
     
     private static class SlotData {
-        Any[] slots;
+        SlotTable slots;
         SlotData next;
 
-        SlotData(Any[] s) {
+        SlotData(SlotTable s) {
             slots = s;
         }
     }
@@ -53,6 +52,8 @@ final public class Current_impl extends LocalObject implements Current {
 
     private int maxSlots_;
 
+    private SlotTable unsetSlots_ = SlotTable.EMPTY; // shared by requests from threads that never set a slot
+
     // ------------------------------------------------------------------
     // Private member implementations
     // ------------------------------------------------------------------
@@ -64,8 +65,7 @@ final public class Current_impl extends LocalObject implements Current {
             holder = new SlotDataHolder();
             stateKey.set(holder);
 
-            Any[] slots = new Any[maxSlots_];
-            holder.head = new SlotData(slots);
+            holder.head = new SlotData(new SlotTable(maxSlots_));
             holder.head.next = null;
         }
 
@@ -81,11 +81,11 @@ final public class Current_impl extends LocalObject implements Current {
 
         logger.fine(() -> "getting slot " + id);
 
-        SlotDataHolder holder = establishTSD();
-
-        Any slot = holder.head.slots[id];
+        // reading does not need a slot table for this thread
+        SlotDataHolder holder = stateKey.get();
+        Any slot = holder == null ? null : holder.head.slots.copyOf(id);
         if (slot == null) return orb_.create_any();
-        return new AnyImpl(slot);
+        return slot;
     }
 
     public void set_slot(int id, Any any) throws InvalidSlot {
@@ -95,7 +95,7 @@ final public class Current_impl extends LocalObject implements Current {
 
         SlotDataHolder holder = establishTSD();
 
-        holder.head.slots[id] = new AnyImpl(any);
+        holder.head.slots.set(id, any);
     }
 
     // ------------------------------------------------------------------
@@ -105,17 +105,10 @@ final public class Current_impl extends LocalObject implements Current {
 
     public Current_impl(ORB orb) { orb_ = orb; }
 
-    Any[] _OB_currentSlotData() {
-        SlotDataHolder holder = establishTSD();
-
-        Any[] data = new Any[holder.head.slots.length];
-        for (int i = 0; i < holder.head.slots.length; i++) {
-            Any slot = holder.head.slots[i];
-            if (slot != null) {
-                data[i] = new AnyImpl(slot);
-            }
-        }
-        return data;
+    SlotTable _OB_currentSlotData() {
+        SlotDataHolder holder = stateKey.get();
+        if (holder == null) return unsetSlots_;
+        return holder.head.slots.copy();
     }
 
     //
@@ -126,7 +119,10 @@ final public class Current_impl extends LocalObject implements Current {
     // On the server side the set of slots are shared between the
     // interceptor and the server side PICurrent
     //
-    void _OB_pushSlotData(Any[] slots) {
+    // If no slots have been allocated there is nothing to push or pop.
+    //
+    void _OB_pushSlotData(SlotTable slots) {
+        if (maxSlots_ == 0) return;
         logger.fine(() -> "pushing slot data");
         SlotDataHolder holder = establishTSD();
 
@@ -136,6 +132,7 @@ final public class Current_impl extends LocalObject implements Current {
     }
 
     void _OB_popSlotData() {
+        if (maxSlots_ == 0) return;
         logger.fine(() -> "popping slot data");
         SlotDataHolder holder = establishTSD();
 
@@ -143,11 +140,12 @@ final public class Current_impl extends LocalObject implements Current {
         ensure(holder.head != null);
     }
 
-    Any[] _OB_newSlotTable() {
-        return new Any[maxSlots_];
+    SlotTable _OB_newSlotTable() {
+        return maxSlots_ == 0 ? SlotTable.EMPTY : new SlotTable(maxSlots_);
     }
 
     public void _OB_setMaxSlots(int max) {
         maxSlots_ = max;
+        unsetSlots_ = _OB_newSlotTable();
     }
 }
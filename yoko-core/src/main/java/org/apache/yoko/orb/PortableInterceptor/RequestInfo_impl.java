@@ -63,7 +63,7 @@ public class RequestInfo_impl extends LocalObject implements RequestInfo {
     protected ArgumentStrategy argStrategy;
     protected Exception receivedException; // only when status_ == [SYSTEM|USER]_EXCEPTION)
     protected String receivedId;
-    protected Any[] requestSlotData;
+    protected SlotTable requestSlotData;
     protected boolean currentNeedsPopping;
 
     // The ID uniquely identifies an active request/reply sequence.
@@ -274,15 +274,11 @@ public class RequestInfo_impl extends LocalObject implements RequestInfo {
     // send_reply: yes send_exception: yes send_other: yes
     //
     public Any get_slot(int id) throws InvalidSlot {
-        if (id >= requestSlotData.length || id < 0) throw new InvalidSlot("No slot for id " + id);
+        Any slot = requestSlotData.copyOf(id);
 
         logger.fine(() -> "getting slot " + id + " for operation " + operationName);
 
-        Any result = orb.create_any();
-        if (null != requestSlotData[id]) {
-            result.read_value(requestSlotData[id].create_input_stream(), requestSlotData[id].type());
-        }
-        return result;
+        return slot == null ? orb.create_any() : slot;
     }
 
     //
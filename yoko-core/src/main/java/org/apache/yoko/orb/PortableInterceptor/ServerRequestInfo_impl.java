@@ -17,7 +17,6 @@
  */
 package org.apache.yoko.orb.PortableInterceptor;
 
-import org.apache.yoko.orb.CORBA.AnyImpl;
 import org.apache.yoko.orb.CORBA.Delegate;
 import org.apache.yoko.orb.IOP.ServiceContexts;
 import org.apache.yoko.orb.OB.LocationForward;
@@ -56,11 +55,8 @@ import org.omg.PortableServer.POA;
 import org.omg.PortableServer.Servant;
 
 import java.util.Arrays;
-import java.util.List;
 
 import static org.apache.yoko.logging.VerboseLogging.REQ_IN_LOG;
-import static org.apache.yoko.util.CollectionExtras.newSynchronizedList;
-import static org.apache.yoko.util.CollectionExtras.removeInReverse;
 import static org.apache.yoko.util.MinorCodes.MinorInvalidPICall;
 import static org.apache.yoko.util.MinorCodes.MinorNoPolicyFactory;
 import static org.apache.yoko.util.MinorCodes.MinorUnknownUserException;
@@ -71,7 +67,10 @@ import static org.omg.CORBA.CompletionStatus.COMPLETED_NO;
 import static org.omg.CORBA.CompletionStatus.COMPLETED_YES;
 
 final public class ServerRequestInfo_impl extends RequestInfo_impl implements ServerRequestInfoExt {
-    private final List<ServerRequestInterceptor> interceptors = newSynchronizedList();
+    /** The ORB's server request interceptors */
+    private ServerRequestInterceptor[] chain;
+    /** The number of interceptors at the start of the chain on the flow stack, i.e. whose receive_request_service_contexts completed */
+    private volatile int flowDepth;
     private final byte[] adapterId;
     private final byte[] objectId;
     private final ObjectReferenceTemplate adapterTemplate;
@@ -210,9 +209,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
     // receive_request_service_contexts: yes receive_request: yes
     // send_reply: yes send_exception: yes send_other: yes
     public void set_slot(int id, Any data) throws InvalidSlot {
-        if (id >= requestSlotData.length || id < 0) throw new InvalidSlot("No slot for id " + id);
         logger.fine(() -> "setting slot " + id + " for operation " + operationName);
-        requestSlotData[id] = new AnyImpl(data);
+        requestSlotData.set(id, data);
     }
 
     // Determine if the servant has the given repository id.
@@ -273,7 +271,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
         requestSlotData = piCurrent._OB_newSlotTable();
     }
 
-    public void _OB_requestServiceContext(List<ServerRequestInterceptor> interceptors) throws LocationForward {
+    public void _OB_requestServiceContext(ServerRequestInterceptor[] chain) throws LocationForward {
+        this.chain = chain;
         // Arguments, result and exceptions not available
         argStrategy.setResultAvail(false);
         argStrategy.setArgsAvail(false);
@@ -281,9 +280,9 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
 
         try (SimplyCloseable ignored = CMSF_THREAD_LOCAL.overrideForInterceptors();
              SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
-            for (ServerRequestInterceptor i: interceptors) {
+            for (ServerRequestInterceptor i: chain) {
                 i.receive_request_service_contexts(this);
-                this.interceptors.add(i);
+                flowDepth++;
             }
             currentNeedsPopping = true;
             piCurrent._OB_pushSlotData(requestSlotData);
@@ -303,8 +302,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
 
         try (SimplyCloseable ignored = CMSF_THREAD_LOCAL.overrideForInterceptors();
              SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
-            for (ServerRequestInterceptor sri: interceptors)
-                sri.receive_request(this);
+            for (int n = 0; n < flowDepth; n++)
+                chain[n].receive_request(this);
         } catch (ForwardRequest ex) {
             Delegate p = (Delegate) (((ObjectImpl) ex.forward)._get_delegate());
             throw new LocationForward(p._OB_IOR(), false);
@@ -320,8 +319,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
 
         try (SimplyCloseable ignored = CMSF_THREAD_LOCAL.overrideForInterceptors();
              SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
-            for (ServerRequestInterceptor i: removeInReverse(interceptors)) {
-                i.send_reply(this);
+            while (flowDepth > 0) {
+                chain[--flowDepth].send_reply(this);
             }
             popCurrent();
         }
@@ -338,7 +337,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
              SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
             Assert.ensure(replyStatus == SYSTEM_EXCEPTION.value || replyStatus == USER_EXCEPTION.value);
 
-            for (ServerRequestInterceptor i : removeInReverse(interceptors)) {
+            while (flowDepth > 0) {
+                final ServerRequestInterceptor i = chain[--flowDepth];
                 try {
                     i.send_exception(this);
                 } catch (ForwardRequest fr) {
@@ -360,7 +360,7 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
                 }
             }
         } finally {
-            if (interceptors.isEmpty()) popCurrent();
+            if (flowDepth == 0) popCurrent();
         }
     }
 
@@ -375,7 +375,8 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
              SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
             Assert.ensure(replyStatus == LOCATION_FORWARD.value || replyStatus == TRANSPORT_RETRY.value);
 
-            for (ServerRequestInterceptor i: removeInReverse(interceptors)) {
+            while (flowDepth > 0) {
+                final ServerRequestInterceptor i = chain[--flowDepth];
                 try {
                     i.send_other(this);
                 } catch (ForwardRequest fr) {
@@ -394,7 +395,7 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
             }
 
         } finally {
-            if (interceptors.isEmpty()) popCurrent();
+            if (flowDepth == 0) popCurrent();
         }
     }
 
@@ -417,10 +418,9 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
             // Use override to maintain consistency with other interceptor calls
             try (SimplyCloseable ignored = CMSF_THREAD_LOCAL.overrideForInterceptors();
                  SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
-                interceptors.stream()
-                    .filter(ExtendedServerRequestInterceptor.class::isInstance)
-                    .map(ExtendedServerRequestInterceptor.class::cast)
-                    .forEach(i -> i.pre_unmarshal(this));
+                for (int n = 0; n < flowDepth; n++) {
+                    if (chain[n] instanceof ExtendedServerRequestInterceptor) ((ExtendedServerRequestInterceptor) chain[n]).pre_unmarshal(this);
+                }
             }
         }
     }
@@ -431,10 +431,9 @@ final public class ServerRequestInfo_impl extends RequestInfo_impl implements Se
         // Use override to maintain consistency with other interceptor calls
         try (SimplyCloseable ignored = CMSF_THREAD_LOCAL.overrideForInterceptors();
              SimplyCloseable ignored1 = YASF_THREAD_LOCAL.overrideForInterceptors()) {
-            interceptors.stream()
-                .filter(ExtendedServerRequestInterceptor.class::isInstance)
-                .map(ExtendedServerRequestInterceptor.class::cast)
-                .forEach(i -> i.post_marshal(this));
+            for (int n = 0; n < flowDepth; n++) {
+                if (chain[n] instanceof ExtendedServerRequestInterceptor) ((ExtendedServerRequestInterceptor) chain[n]).post_marshal(this);
+            }
         }
     }
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.PortableInterceptor;
+
+import org.apache.yoko.orb.CORBA.AnyImpl;
+import org.omg.CORBA.Any;
+import org.omg.PortableInterceptor.InvalidSlot;
+
+/**
+ * A table of PortableInterceptor slots.
+ * <p>
+ *     Each slot holds a private copy of the data it was set to, which is never modified or handed out,
+ *     so it is an immutable snapshot.
+ *     The array of slots is copied on write, so a table can be copied in constant time,
+ *     and its snapshots shared between tables and threads.
+ * </p>
+ */
+final class SlotTable {
+    /** The table to use when no slots have been allocated */
+    static final SlotTable EMPTY = new SlotTable(0);
+
+    private volatile AnyImpl[] slots;
+
+    SlotTable(int size) {
+        this.slots = new AnyImpl[size];
+    }
+
+    private SlotTable(AnyImpl[] slots) {
+        this.slots = slots;
+    }
+
+    private void checkSlot(int id, AnyImpl[] slots) throws InvalidSlot {
+        if (id >= slots.length || id < 0) throw new InvalidSlot("No slot for id " + id);
+    }
+
+    /** Get the snapshot in a slot, or null if the slot has not been set. The snapshot must not be modified or handed out. */
+    AnyImpl get(int id) throws InvalidSlot {
+        final AnyImpl[] slots = this.slots;
+        checkSlot(id, slots);
+        return slots[id];
+    }
+
+    /** Set a slot to a snapshot of the given Any */
+    void set(int id, Any any) throws InvalidSlot {
+        checkSlot(id, slots);
+        final AnyImpl snapshot = new AnyImpl(any);
+        synchronized (this) {
+            final AnyImpl[] copy = slots.clone();
+            copy[id] = snapshot;
+            slots = copy;
+        }
+    }
+
+    /** Get an independent copy of this table, which shares its slot snapshots */
+    SlotTable copy() {
+        return slots.length == 0 ? this : new SlotTable(slots);
+    }
+
+    /** Get a copy of the data in a slot for the caller to keep, or null if the slot has not been set */
+    Any copyOf(int id) throws InvalidSlot {
+        final AnyImpl snapshot = get(id);
+        // copying a snapshot of a primitive or a string only copies references
+        return snapshot == null ? null : new AnyImpl(snapshot);
+    }
+}
@@ -26,6 +26,8 @@ final class CurrentState {
 
     java.lang.Object cookie;
 
+    java.lang.Object token;
+
     byte[] oid;
 
     String op;
@@ -90,7 +92,7 @@ final public class PoaCurrentImpl extends org.omg.CORBA.LocalObject implements o
     public void _OB_preinvoke(
             org.apache.yoko.orb.OBPortableServer.POA_impl poa,
             org.omg.PortableServer.Servant servant, String op, byte[] oid,
-            java.lang.Object cookie) {
+            java.lang.Object cookie, java.lang.Object token) {
         Thread t = Thread.currentThread();
 
         CurrentState state = (CurrentState) stateKey_.get(t);
@@ -103,6 +105,7 @@ final public class PoaCurrentImpl extends org.omg.CORBA.LocalObject implements o
         //
         ns.oid = oid;
         ns.cookie = cookie;
+        ns.token = token;
         ns.servant = servant;
         ns.op = op;
 
@@ -154,6 +157,15 @@ final public class PoaCurrentImpl extends org.omg.CORBA.LocalObject implements o
         return state.cookie;
     }
 
+    public java.lang.Object _OB_getToken() {
+        CurrentState state = (CurrentState) stateKey_.get(Thread
+                .currentThread());
+
+        Assert.ensure(state != null);
+
+        return state.token;
+    }
+
     public byte[] _OB_getObjectId() {
         CurrentState state = (CurrentState) stateKey_.get(Thread
                 .currentThread());
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,7 @@ public enum Transients implements Factory<TRANSIENT> {
     ACTIVE_CONNECTION_MANAGEMENT(0x41534_003, "active connection management closed connection"),
     FORCED_SHUTDOWN(0x41534_004, "forced connection shutdown because of timeout", COMPLETED_MAYBE),
     LOCATION_FORWARD_TOO_MANY_HOPS(0x41534_005, "maximum forwarding count (10) exceeded"),
+    THREAD_POOL_FULL(0x41534_006, "thread pool queue is full"),
     ;
     private final static Map<Integer, Transients> MINOR_CODE_MAP;
     static {
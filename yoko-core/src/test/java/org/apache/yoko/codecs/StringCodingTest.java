@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an AS IS BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.codecs;
+
+import org.apache.yoko.io.Buffer;
+import org.apache.yoko.io.ReadBuffer;
+import org.apache.yoko.io.WriteBuffer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.apache.yoko.codecs.Util.readCharByChar;
+import static org.apache.yoko.codecs.Util.writeCharByChar;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the whole-string operations behave exactly like the char-by-char ones.
+ */
+class StringCodingTest {
+    static Stream<Object[]> codecsAndStrings() {
+        return Stream.of("US-ASCII", "ISO-8859-1", "ISO-8859-5", "UTF-8")
+                .flatMap(name -> Stream.of("", "IDL:acme/Echo:1.0", "caf\u00e9", "\u0416\u0443\u043a", "\ud83d\ude00 smile")
+                        .map(s -> new Object[]{name, s}));
+    }
+
+    @ParameterizedTest(name = "{0}: \"{1}\"") @MethodSource("codecsAndStrings")
+    void testWriteString(String codecName, String s) {
+        CharCodec codec = Codex.getCharCodec(codecName);
+        WriteBuffer expected = Buffer.createWriteBuffer(64);
+        writeCharByChar(codec, s, expected);
+        WriteBuffer actual = Buffer.createWriteBuffer(64);
+        codec.writeString(s, actual);
+        assertEquals(expected.trim().asHex(), actual.trim().asHex());
+        int octetCount = codec.octetCount(s);
+        if (octetCount >= 0) assertEquals(actual.length(), octetCount);
+        codec.assertNoBufferedCharData();
+    }
+
+    @ParameterizedTest(name = "{0}: \"{1}\"") @MethodSource("codecsAndStrings")
+    void testReadString(String codecName, String s) {
+        CharCodec codec = Codex.getCharCodec(codecName);
+        WriteBuffer out = Buffer.createWriteBuffer(64);
+        writeCharByChar(codec, s, out);
+        int numOctets = out.trim().length();
+        String expected = readCharByChar(codec, out.readFromStart(), numOctets);
+        ReadBuffer in = out.readFromStart();
+        assertEquals(expected, codec.readString(in, numOctets));
+        assertTrue(in.isComplete());
+        codec.assertNoBufferedCharData();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PositionMapTest {
+    @Test
+    void testPutAndGet() {
+        PositionMap<String> map = new PositionMap<>();
+        assertNull(map.put(8, "a"));
+        assertNull(map.put(0, "b"));
+        assertEquals("a", map.put(8, "c"));
+        assertEquals("c", map.get(8));
+        assertEquals("b", map.get(0));
+        assertNull(map.get(4));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testGrowthKeepsEntries() {
+        PositionMap<Integer> map = new PositionMap<>();
+        for (int pos = 0; pos < 4000; pos += 4) map.put(pos, pos * 2);
+        for (int pos = 0; pos < 4000; pos += 4) assertEquals(pos * 2, map.get(pos));
+        assertNull(map.get(2));
+        assertEquals(1000, map.size());
+    }
+
+    @Test
+    void testIndexLooksUpArraysByContent() {
+        PositionIndex<String[]> index = PositionIndex.forStringArrays();
+        index.putIfAbsent(new String[]{"IDL:A:1.0", "IDL:B:1.0"}, 12);
+        index.putIfAbsent(new String[]{"IDL:A:1.0", "IDL:B:1.0"}, 40);
+        assertEquals(12, index.get(new String[]{"IDL:A:1.0", "IDL:B:1.0"}), "the first position should be kept");
+        assertEquals(PositionIndex.ABSENT, index.get(new String[]{"IDL:A:1.0"}));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testIndexGrowthKeepsEntries() {
+        PositionIndex<String> index = PositionIndex.forStrings();
+        for (int i = 0; i < 500; i++) index.putIfAbsent("IDL:T" + i + ":1.0", i * 8);
+        for (int i = 0; i < 500; i++) assertEquals(i * 8, index.get("IDL:T" + i + ":1.0"));
+        assertEquals(500, index.size());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.LocalObject;
+import org.omg.CORBA.OBJ_ADAPTER;
+import org.omg.CORBA.TRANSIENT;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.yoko.orb.exceptions.Transients.THREAD_POOL_FULL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThreadPoolTest {
+    private ThreadPool pool;
+
+    private static final class Request extends LocalObject implements DispatchRequest {
+        private final Runnable action;
+        Request(Runnable action) { this.action = action; }
+        public void invoke() { action.run(); }
+    }
+
+    @AfterEach
+    void destroyPool() { if (pool != null) pool.destroy(); }
+
+    @Test
+    void testAllRequestsDispatched() throws Exception {
+        pool = new ThreadPool(0, 4);
+        final CountDownLatch done = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) pool.add(new Request(done::countDown));
+        assertTrue(done.await(10, SECONDS));
+        assertEquals(4, pool.threadCount());
+    }
+
+    @Test
+    void testGrowsToMaxAndShrinksToMin() throws Exception {
+        pool = new ThreadPool(0, 1, 3, 50, MILLISECONDS, 0, ThreadPool.RejectionPolicy.TRANSIENT);
+        final CountDownLatch started = new CountDownLatch(3);
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) pool.add(new Request(() -> { started.countDown(); await(release); }));
+        assertTrue(started.await(10, SECONDS), "three requests should run concurrently");
+        assertEquals(3, pool.threadCount());
+        release.countDown();
+        for (int i = 0; i < 200 && pool.threadCount() > 1; i++) Thread.sleep(10);
+        assertEquals(1, pool.threadCount(), "idle threads above the minimum should exit");
+    }
+
+    @Test
+    void testBoundedQueueRejectsWithTransient() throws Exception {
+        pool = new ThreadPool(0, 1, 1, 0, SECONDS, 1, ThreadPool.RejectionPolicy.TRANSIENT);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        pool.add(new Request(() -> { started.countDown(); await(release); }));
+        assertTrue(started.await(10, SECONDS));
+        pool.add(new Request(() -> {})); // fills the queue
+        TRANSIENT e = assertThrows(TRANSIENT.class, () -> pool.add(new Request(() -> {})));
+        assertTrue(THREAD_POOL_FULL.matches(e), "the exception should have the thread pool full minor code");
+        assertEquals(1, pool.queueDepth());
+        assertEquals(1, pool.rejectedCount());
+        release.countDown();
+    }
+
+    @Test
+    void testRequestsAddedWhileLastThreadRetiresAreDispatched() throws Exception {
+        pool = new ThreadPool(0, 0, 1, 1, MILLISECONDS, 0, ThreadPool.RejectionPolicy.TRANSIENT);
+        for (int i = 0; i < 500; i++) {
+            final CountDownLatch done = new CountDownLatch(1);
+            pool.add(new Request(done::countDown));
+            assertTrue(done.await(10, SECONDS), "request " + i + " should not be stranded by a retiring thread");
+            // give the dispatcher time to reach its keep-alive limit, so the next add() can race with it retiring
+            Thread.sleep(i % 3);
+        }
+    }
+
+    @Test
+    void testCallerRunsWhenQueueFull() throws Exception {
+        pool = new ThreadPool(0, 1, 1, 0, SECONDS, 1, ThreadPool.RejectionPolicy.CALLER_RUNS);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        pool.add(new Request(() -> { started.countDown(); await(release); }));
+        assertTrue(started.await(10, SECONDS));
+        pool.add(new Request(() -> {}));
+        final AtomicInteger ranOn = new AtomicInteger();
+        final Thread caller = Thread.currentThread();
+        pool.add(new Request(() -> { if (Thread.currentThread() == caller) ranOn.incrementAndGet(); }));
+        assertEquals(1, ranOn.get());
+        release.countDown();
+    }
+
+    @Test
+    void testWaitTimeRecorded() throws Exception {
+        pool = new ThreadPool(0, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        pool.add(new Request(() -> { await(release); done.countDown(); }));
+        pool.add(new Request(done::countDown));
+        Thread.sleep(50);
+        release.countDown();
+        assertTrue(done.await(10, SECONDS));
+        assertEquals(2, pool.dispatchedCount());
+        assertTrue(pool.maxWaitTime(MILLISECONDS) >= 40, "second request should have waited for the first");
+    }
+
+    @Test
+    void testAddAfterDestroy() {
+        pool = new ThreadPool(0, 2);
+        pool.destroy();
+        assertThrows(OBJ_ADAPTER.class, () -> pool.add(new Request(() -> {})));
+        assertSame(0, pool.queueDepth());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
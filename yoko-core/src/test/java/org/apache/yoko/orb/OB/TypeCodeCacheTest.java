@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import org.apache.yoko.orb.CORBA.TypeCodeImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.omg.CORBA.TCKind._tk_objref;
+import static org.omg.CORBA.TCKind._tk_struct;
+
+class TypeCodeCacheTest {
+    private static final String ID = "IDL:Test/S:1.0";
+
+    @Test
+    void testLookupMatchesKindIdAndLength() {
+        TypeCodeCache cache = new TypeCodeCache();
+        TypeCodeImpl tc = new TypeCodeImpl();
+        cache.put(_tk_struct, ID, 40, tc);
+        assertSame(tc, cache.get(_tk_struct, ID, 40));
+        assertNull(cache.get(_tk_struct, ID, 44), "a different encapsulation length should not match");
+        assertNull(cache.get(_tk_objref, ID, 40), "a different kind should not match");
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void testFirstEntryIsKept() {
+        TypeCodeCache cache = new TypeCodeCache();
+        TypeCodeImpl first = new TypeCodeImpl();
+        cache.put(_tk_struct, ID, 40, first);
+        cache.put(_tk_struct, ID, 40, new TypeCodeImpl());
+        assertSame(first, cache.get(_tk_struct, ID, 40));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvicted() {
+        TypeCodeCache cache = new TypeCodeCache(8);
+        TypeCodeImpl kept = new TypeCodeImpl();
+        cache.put(_tk_struct, "IDL:Test/Kept:1.0", 8, kept);
+        for (int i = 0; i < 100; i++) {
+            cache.put(_tk_struct, "IDL:Test/S" + i + ":1.0", 8, new TypeCodeImpl());
+            assertSame(kept, cache.get(_tk_struct, "IDL:Test/Kept:1.0", 8));
+        }
+        // each overflow evicts a quarter of the entries
+        assertThat(cache.size(), allOf(greaterThanOrEqualTo(6), lessThanOrEqualTo(8)));
+        assertEquals(101 - cache.size(), cache.getEvictions());
+        assertNull(cache.get(_tk_struct, "IDL:Test/S0:1.0", 8));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ActiveObjectMapTest {
+    private static byte[] oid(int i) { return ByteBuffer.allocate(8).putInt(0xCAFE).putInt(i).array(); }
+
+    @Test
+    void testLookupIsByContent() {
+        ActiveObjectMap map = new ActiveObjectMap();
+        TableEntry entry = new TableEntry();
+        assertThat(map.putIfAbsent(oid(1), entry), is(nullValue()));
+        assertThat(map.get(oid(1)), is(sameInstance(entry)));
+        assertThat(map.get(oid(2)), is(nullValue()));
+        assertThat(map.putIfAbsent(oid(1), new TableEntry()), is(sameInstance(entry)));
+    }
+
+    @Test
+    void testRemoveOnlyMatchingEntry() {
+        ActiveObjectMap map = new ActiveObjectMap();
+        TableEntry entry = new TableEntry();
+        map.putIfAbsent(oid(1), entry);
+        assertThat(map.remove(oid(1), new TableEntry()), is(false));
+        assertThat(map.get(oid(1)), is(sameInstance(entry)));
+        assertThat(map.remove(oid(1), entry), is(true));
+        assertThat(map.get(oid(1)), is(nullValue()));
+    }
+
+    @Test
+    void testManyEntries() {
+        final int count = 100_000;
+        ActiveObjectMap map = new ActiveObjectMap();
+        TableEntry[] entries = new TableEntry[count];
+        for (int i = 0; i < count; i++) map.putIfAbsent(oid(i), entries[i] = new TableEntry());
+        assertThat(map.ids().size(), is(count));
+        for (int i = 0; i < count; i += 2) assertThat(map.remove(oid(i), entries[i]), is(true));
+        for (int i = 0; i < count; i++) assertThat(map.get(oid(i)), is(i % 2 == 0 ? null : entries[i]));
+        assertThat(map.entries().size(), is(count / 2));
+        map.clear();
+        assertThat(map.ids().size(), is(0));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OBPortableServer;
+
+import org.apache.yoko.orb.OB.ObjectKeyData;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.yoko.orb.OB.ObjectKey.CreateObjectKey;
+import static org.apache.yoko.orb.OB.ObjectKey.findObjectIdStart;
+import static org.apache.yoko.orb.OB.ObjectKey.findPoaPathStart;
+import static org.apache.yoko.orb.OB.ObjectKey.getCreateTime;
+import static org.apache.yoko.orb.OB.ObjectKey.isPersistent;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class POAPathIndexTest {
+    private static final byte[] OID = {1, 2, 3};
+
+    private static byte[] key(boolean persistent, int createTime, String... poaId) {
+        return CreateObjectKey(new ObjectKeyData("server", poaId, OID, persistent, createTime));
+    }
+
+    @Test
+    void testKeyOffsets() {
+        byte[] key = key(false, -12345, "a", "bc");
+        int pathStart = findPoaPathStart(key);
+        assertThat(new String(key, pathStart, "server".length()), is("server"));
+        assertThat(findObjectIdStart(key, pathStart), is(key.length - OID.length));
+        assertThat(isPersistent(key), is(false));
+        assertThat(getCreateTime(key), is(-12345));
+
+        byte[] rootKey = key(true, 0);
+        assertThat(isPersistent(rootKey), is(true));
+        assertThat(findObjectIdStart(rootKey, findPoaPathStart(rootKey)), is(rootKey.length - OID.length));
+    }
+
+    @Test
+    void testMalformedKeys() {
+        assertThat(findPoaPathStart(new byte[]{1, 2, 3, 4, 5}), is(-1));
+        assertThat(findPoaPathStart(new byte[]{(byte) 0xab, (byte) 0xac, (byte) 0xab, '1', 'x', 0, 0}), is(-1));
+        byte[] noOid = {(byte) 0xab, (byte) 0xac, (byte) 0xab, '0', 's', 0, 0};
+        assertThat(findObjectIdStart(noOid, findPoaPathStart(noOid)), is(-1));
+    }
+
+    @Test
+    void testFind() {
+        POAPathIndex<String> index = new POAPathIndex<>();
+        for (int i = 0; i < 100; i++) index.add(POAPathIndex.encode("server", new String[]{"poa" + i}), "poa" + i);
+        index.add(POAPathIndex.encode("server", new String[0]), "root");
+        for (int i = 0; i < 100; i++) {
+            byte[] key = key(true, 0, "poa" + i);
+            int start = findPoaPathStart(key);
+            assertThat(index.find(key, start, findObjectIdStart(key, start)), is("poa" + i));
+        }
+        byte[] rootKey = key(true, 0);
+        int start = findPoaPathStart(rootKey);
+        assertThat(index.find(rootKey, start, findObjectIdStart(rootKey, start)), is("root"));
+
+        index.remove(POAPathIndex.encode("server", new String[]{"poa7"}));
+        byte[] key = key(true, 0, "poa7");
+        start = findPoaPathStart(key);
+        assertThat(index.find(key, start, findObjectIdStart(key, start)), is(nullValue()));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelConnectTest {
+    private ServerSocket server;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void openServer() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    }
+
+    @AfterEach
+    void closeServer() throws IOException {
+        release.countDown();
+        server.close();
+    }
+
+    private Socket attempt(String host, int timeout) throws IOException {
+        switch (host) {
+        case "good": return new Socket(server.getInetAddress(), server.getLocalPort());
+        case "bad": throw new ConnectException("refused");
+        case "timeout": throw new SocketTimeoutException("connect timed out after " + timeout + "ms");
+        default:
+            try {
+                release.await(10, SECONDS);
+            } catch (InterruptedException ignored) {}
+            throw new ConnectException("timed out");
+        }
+    }
+
+    @Test
+    void testFailoverToNextHost() throws Exception {
+        try (Socket s = ParallelConnect.connect(List.of("bad", "good"), this::attempt, -1)) {
+            assertThat(s, is(notNullValue()));
+            assertThat(s.isConnected(), is(true));
+        }
+    }
+
+    @Test
+    void testSlowHostIsOvertaken() throws Exception {
+        try (Socket s = ParallelConnect.connect(List.of("slow", "good"), this::attempt, 5000)) {
+            assertThat(s.isConnected(), is(true));
+        }
+    }
+
+    @Test
+    void testAllHostsFail() {
+        assertThrows(ConnectException.class, () -> ParallelConnect.connect(List.of("bad", "bad"), this::attempt, -1));
+    }
+
+    @Test
+    void testTimeout() throws Exception {
+        assertThat(ParallelConnect.connect(List.of("slow"), this::attempt, 100), is(nullValue()));
+    }
+
+    @Test
+    void testAttemptTimeoutsCountAsTimeout() throws Exception {
+        assertThat(ParallelConnect.connect(List.of("timeout", "timeout"), this::attempt, 1000), is(nullValue()));
+    }
+
+    @Test
+    void testStalledAttemptsDoNotHoldUpOtherRaces() throws Exception {
+        ExecutorService callers = Executors.newCachedThreadPool();
+        try {
+            for (int i = 0; i < 100; i++) callers.submit(() -> ParallelConnect.connect(List.of("slow"), this::attempt, -1));
+            try (Socket s = ParallelConnect.connect(List.of("bad", "good"), this::attempt, 2000)) {
+                assertThat(s, is(notNullValue()));
+            }
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    void testInterleaveFamilies() throws Exception {
+        InetAddress v4a = InetAddress.getByName("10.0.0.1"), v4b = InetAddress.getByName("10.0.0.2");
+        InetAddress v6a = InetAddress.getByName("::1"), v6b = InetAddress.getByName("::2");
+        assertThat(ParallelConnect.interleaveFamilies(v6a, v6b, v4a, v4b), is(List.of(v6a, v4a, v6b, v4b)));
+        assertThat(ParallelConnect.interleaveFamilies(v4a, v6a, v4b), is(List.of(v4a, v6a, v4b)));
+    }
+}
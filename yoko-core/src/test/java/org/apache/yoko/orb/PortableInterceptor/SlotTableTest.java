@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.PortableInterceptor;
+
+import org.apache.yoko.orb.CORBA.AnyImpl;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.Any;
+import org.omg.PortableInterceptor.InvalidSlot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlotTableTest {
+    private static Any longAny(int value) {
+        Any any = new AnyImpl();
+        any.insert_long(value);
+        return any;
+    }
+
+    @Test
+    void testSetTakesASnapshot() throws Exception {
+        SlotTable table = new SlotTable(2);
+        Any any = longAny(10);
+        table.set(0, any);
+        any.insert_long(20);
+        assertEquals(10, table.get(0).extract_long());
+        assertNull(table.get(1));
+    }
+
+    @Test
+    void testCopySharesSnapshotsButNotWrites() throws Exception {
+        SlotTable table = new SlotTable(2);
+        table.set(0, longAny(10));
+        SlotTable copy = table.copy();
+        assertSame(table.get(0), copy.get(0));
+        table.set(0, longAny(20));
+        table.set(1, longAny(30));
+        assertEquals(10, copy.get(0).extract_long());
+        assertNull(copy.get(1));
+    }
+
+    @Test
+    void testCopyOfCanBeModified() throws Exception {
+        SlotTable table = new SlotTable(1);
+        table.set(0, longAny(10));
+        Any result = table.copyOf(0);
+        assertNotSame(table.get(0), result);
+        result.insert_long(20);
+        assertEquals(10, table.get(0).extract_long());
+    }
+
+    @Test
+    void testInvalidSlots() {
+        SlotTable table = new SlotTable(1);
+        assertThrows(InvalidSlot.class, () -> table.get(1));
+        assertThrows(InvalidSlot.class, () -> table.set(-1, longAny(1)));
+        assertThrows(InvalidSlot.class, () -> SlotTable.EMPTY.set(0, longAny(1)));
+    }
+}
@@ -72,7 +72,7 @@ class AnyFieldDescriptor extends FieldDescriptor {
         try {
             setFieldContents(copy, state.copy(getFieldContents(orig)));
         } catch (CopyRecursionException e) {
-            state.registerRecursion(new CopyRecursionResolver(orig) {
+            state.registerRecursion(new CopyRecursionResolver(e.original) {
                 public void resolve(Object value) {
                     try {
                         setFieldContents(copy, value);
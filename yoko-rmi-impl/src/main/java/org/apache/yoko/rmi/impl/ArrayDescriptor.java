@@ -40,6 +40,7 @@ import java.util.logging.Logger;
 
 import static java.util.Collections.singletonList;
 import static java.util.stream.IntStream.range;
+import static org.apache.yoko.rmi.impl.ImmutableTypes.isImmutableType;
 import static javax.rmi.CORBA.Util.writeAny;
 
 abstract class ArrayDescriptor<ARR extends Serializable> extends ValueDescriptor {
@@ -407,6 +408,12 @@ class ValueArrayDescriptor extends ArrayDescriptor<Object[]> {
     @Override
     Object copyObject(Object value, CopyState state) {
         Object[] orig = (Object[]) value;
+        if (isImmutableType(elementType)) {
+            // the elements can be shared, so only the array itself needs copying
+            Object[] result = orig.clone();
+            state.put(value, result);
+            return result;
+        }
         final Object[] result = (Object[]) Array.newInstance(value.getClass()
                 .getComponentType(), orig.length);
 
@@ -533,9 +540,7 @@ class BooleanArrayDescriptor extends ArrayDescriptor<boolean[]> {
             InputStream in, Map<Integer, Serializable> offsetMap,
             Integer key) {
         boolean[] arr = createArray(in, offsetMap, key);
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] = in.read_boolean();
-        }
+        in.read_boolean_array(arr, 0, arr.length);
         return arr;
     }
 
@@ -544,9 +549,7 @@ class BooleanArrayDescriptor extends ArrayDescriptor<boolean[]> {
             Serializable value) {
         boolean[] arr = (boolean[]) value;
         out.write_long(arr.length);
-        for (int i = 0; i < arr.length; i++) {
-            out.write_boolean(arr[i]);
-        }
+        out.write_boolean_array(arr, 0, arr.length);
     }
 
     @Override
@@ -583,9 +586,7 @@ class ByteArrayDescriptor extends ArrayDescriptor<byte[]> {
             InputStream in, Map<Integer, Serializable> offsetMap,
             Integer key) {
         byte[] arr = createArray(in, offsetMap, key);
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] = in.read_octet();
-        }
+        in.read_octet_array(arr, 0, arr.length);
         return arr;
     }
 
@@ -594,7 +595,6 @@ class ByteArrayDescriptor extends ArrayDescriptor<byte[]> {
             Serializable value) {
         byte[] arr = (byte[]) value;
         out.write_long(arr.length);
-
         out.write_octet_array(arr, 0, arr.length);
     }
 
@@ -676,9 +676,7 @@ class ShortArrayDescriptor extends ArrayDescriptor<short[]> {
             InputStream in, Map<Integer, Serializable> offsetMap,
             Integer key) {
         short[] arr = createArray(in, offsetMap, key);
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] = in.read_short();
-        }
+        in.read_short_array(arr, 0, arr.length);
         return arr;
     }
 
@@ -687,9 +685,7 @@ class ShortArrayDescriptor extends ArrayDescriptor<short[]> {
             Serializable value) {
         short[] arr = (short[]) value;
         out.write_long(arr.length);
-        for (int i = 0; i < arr.length; i++) {
-            out.write_short(arr[i]);
-        }
+        out.write_short_array(arr, 0, arr.length);
     }
 
     @Override
@@ -725,9 +721,7 @@ class IntArrayDescriptor extends ArrayDescriptor<int[]> {
             InputStream in, Map<Integer, Serializable> offsetMap,
             Integer key) {
         int[] arr = createArray(in, offsetMap, key);
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] = in.read_long();
-        }
+        in.read_long_array(arr, 0, arr.length);
         return arr;
     }
 
@@ -736,9 +730,7 @@ class IntArrayDescriptor extends ArrayDescriptor<int[]> {
             Serializable value) {
         int[] arr = (int[]) value;
         out.write_long(arr.length);
-        for (int i = 0; i < arr.length; i++) {
-            out.write_long(arr[i]);
-        }
+        out.write_long_array(arr, 0, arr.length);
     }
 
     @Override
@@ -774,9 +766,7 @@ class LongArrayDescriptor extends ArrayDescriptor<long[]> {
             InputStream in, Map<Integer, Serializable> offsetMap,
             Integer key) {
         long[] arr = createArray(in, offsetMap, key);
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] = in.read_longlong();
-        }
+        in.read_longlong_array(arr, 0, arr.length);
         return arr;
     }
 
@@ -785,9 +775,7 @@ class LongArrayDescriptor extends ArrayDescriptor<long[]> {
             Serializable value) {
         long[] arr = (long[]) value;
         out.write_long(arr.length);
-        for (int i = 0; i < arr.length; i++) {
-            out.write_longlong(arr[i]);
-        }
+        out.write_longlong_array(arr, 0, arr.length);
     }
 
     @Override
@@ -824,9 +812,7 @@ class FloatArrayDescriptor extends ArrayDescriptor<float[]> {
             InputStream in, Map<Integer, Serializable> offsetMap,
             Integer key) {
         float[] arr = createArray(in, offsetMap, key);
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] = in.read_float();
-        }
+        in.read_float_array(arr, 0, arr.length);
         return arr;
     }
 
@@ -835,9 +821,7 @@ class FloatArrayDescriptor extends ArrayDescriptor<float[]> {
             Serializable value) {
         float[] arr = (float[]) value;
         out.write_long(arr.length);
-        for (int i = 0; i < arr.length; i++) {
-            out.write_float(arr[i]);
-        }
+        out.write_float_array(arr, 0, arr.length);
     }
 
     @Override
@@ -873,9 +857,7 @@ class DoubleArrayDescriptor extends ArrayDescriptor<double[]> {
             InputStream in, Map<Integer, Serializable> offsetMap,
             Integer key) {
         double[] arr = createArray(in, offsetMap, key);
-        for (int i = 0; i < arr.length; i++) {
-            arr[i] = in.read_double();
-        }
+        in.read_double_array(arr, 0, arr.length);
         return arr;
     }
 
@@ -884,9 +866,7 @@ class DoubleArrayDescriptor extends ArrayDescriptor<double[]> {
             Serializable value) {
         double[] arr = (double[]) value;
         out.write_long(arr.length);
-        for (int i = 0; i < arr.length; i++) {
-            out.write_double(arr[i]);
-        }
+        out.write_double_array(arr, 0, arr.length);
     }
 
     @Override
@@ -70,6 +70,13 @@ class FVDValueDescriptor extends ValueDescriptor {
     @Override
     ValueDescriptor genSuperDescriptor() { return superDesc; }
 
+    // the remote description may differ from the local class, so do not use the repository ID cache
+    @Override
+    long genClassHash() { return computeClassHash(); }
+
+    @Override
+    long genSerialVersionUid() { return computeSerialVersionUid(); }
+
     @Override
     protected List<FieldDescriptor> genFields() {
         MARSHAL_LOG.finer(() -> "Computing field descriptors for " + fvd.name + " version " + fvd.version);
@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
 
+import static java.lang.invoke.MethodType.methodType;
 import static java.lang.reflect.Modifier.isPublic;
 import static java.security.AccessController.doPrivileged;
 import static java.util.Collections.unmodifiableMap;
@@ -156,6 +157,27 @@ abstract class FieldDescriptor extends ModelElement implements Comparable<FieldD
         }
     }
 
+    /**
+     * @return the getter with the exact type <code>(Object)T</code>, where T is the field type,
+     * or <code>null</code> if there is no local field of that type
+     */
+    final MethodHandle typedGetter() {
+        if (null == getter || getter.type().returnType() != type) return null;
+        return getter.asType(methodType(type, Object.class));
+    }
+
+    /**
+     * @return the setter with the exact type <code>(Object, T)void</code>, where T is the field type,
+     * or <code>null</code> if there is no local field of that type
+     */
+    final MethodHandle typedSetter() {
+        if (null == setter || setter.type().parameterType(1) != type) return null;
+        return setter.asType(methodType(void.class, Object.class, type));
+    }
+
+    /** @return whether the field exists locally, with the expected type */
+    final boolean hasLocalField() { return null != typedGetter() && null != typedSetter(); }
+
     @Override
     final String genIDLName() { return java_name; }
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.OutputStream;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.invoke.MethodHandles.collectArguments;
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodHandles.filterArguments;
+import static java.lang.invoke.MethodHandles.foldArguments;
+import static java.lang.invoke.MethodHandles.permuteArguments;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Collections.unmodifiableMap;
+import static org.apache.yoko.logging.VerboseLogging.MARSHAL_IN_LOG;
+import static org.apache.yoko.logging.VerboseLogging.MARSHAL_OUT_LOG;
+import static org.apache.yoko.util.Exceptions.as;
+
+/**
+ * Reads, writes, and copies the fields of one class slice of a value type
+ * with method handles specialized for that class.
+ * <p>
+ *     Primitive fields are accessed with exactly typed field handles and go straight to
+ *     the underlying CDR stream or to the copy, so they are never boxed. Other fields are
+ *     delegated to their {@link FieldDescriptor}. The handles are composed once, when the
+ *     marshaller is created, and the JVM compiles the composition like any other code.
+ * </p>
+ * <p>
+ *     Each field is logged as it is read or written, just as on the per-field path,
+ *     so enabling the marshalling loggers does not change which path is taken.
+ * </p>
+ */
+final class FieldMarshaller {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType WRITE_TYPE = methodType(void.class, CorbaObjectWriter.class, OutputStream.class, Object.class);
+    private static final MethodType READ_TYPE = methodType(void.class, CorbaObjectReader.class, InputStream.class, Object.class);
+    private static final MethodType COPY_TYPE = methodType(void.class, Object.class, Object.class, CopyState.class);
+    static final Map<Class<?>, String> CDR_TYPE_NAMES = genCdrTypeNames();
+
+    private final MethodHandle writer;
+    private final MethodHandle reader;
+    private final MethodHandle copier;
+
+    private static Map<Class<?>, String> genCdrTypeNames() {
+        Map<Class<?>, String> map = new HashMap<>();
+        map.put(boolean.class, "boolean");
+        map.put(byte.class, "octet");
+        map.put(short.class, "short");
+        map.put(char.class, "wchar");
+        map.put(int.class, "long");
+        map.put(long.class, "longlong");
+        map.put(float.class, "float");
+        map.put(double.class, "double");
+        return unmodifiableMap(map);
+    }
+
+    FieldMarshaller(List<FieldDescriptor> fields) {
+        MethodHandle w = noop(WRITE_TYPE), r = noop(READ_TYPE), c = noop(COPY_TYPE);
+        try {
+            // compose in reverse so that the fields are processed in order
+            for (int i = fields.size() - 1; i >= 0; i--) {
+                FieldDescriptor field = fields.get(i);
+                w = foldArguments(foldArguments(w, writeStep(field)), logStep("logWrite", field, WRITE_TYPE));
+                r = foldArguments(foldArguments(r, readStep(field)), logStep("logRead", field, READ_TYPE));
+                c = foldArguments(c, copyStep(field));
+            }
+        } catch (ReflectiveOperationException e) {
+            throw as(InternalError::new, e, e.getMessage());
+        }
+        this.writer = w;
+        this.reader = r;
+        this.copier = c;
+    }
+
+    void write(CorbaObjectWriter writer, Object obj) throws IOException {
+        // the primitive fields bypass the writer, so let it do any pending work first
+        writer.beforeWriteData();
+        try {
+            this.writer.invokeExact(writer, (OutputStream) writer.out, obj);
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw as(IOException::new, t, t.getMessage());
+        }
+    }
+
+    void read(CorbaObjectReader reader, Object obj) throws IOException {
+        try {
+            this.reader.invokeExact(reader, (InputStream) reader.in, obj);
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw as(IOException::new, t, t.getMessage());
+        }
+    }
+
+    void copy(Object orig, Object copy, CopyState state) {
+        try {
+            this.copier.invokeExact(orig, copy, state);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw as(InternalError::new, t, t.getMessage());
+        }
+    }
+
+    private static MethodHandle writeStep(FieldDescriptor field) throws ReflectiveOperationException {
+        MethodHandle getter = field.typedGetter();
+        if (null != getter && field.isPrimitive()) {
+            // (OutputStream, T)void filtered by (Object)T gives (OutputStream, Object)void
+            MethodHandle write = LOOKUP.findVirtual(OutputStream.class, "write_" + CDR_TYPE_NAMES.get(field.type), methodType(void.class, field.type));
+            return permuteArguments(filterArguments(write, 1, getter), WRITE_TYPE, 1, 2);
+        }
+        MethodHandle write = LOOKUP.findVirtual(FieldDescriptor.class, "write", methodType(void.class, ObjectWriter.class, Object.class))
+                .bindTo(field)
+                .asType(methodType(void.class, CorbaObjectWriter.class, Object.class));
+        return permuteArguments(write, WRITE_TYPE, 0, 2);
+    }
+
+    private static MethodHandle readStep(FieldDescriptor field) throws ReflectiveOperationException {
+        MethodHandle setter = field.typedSetter();
+        if (null != setter && field.isPrimitive()) {
+            // (Object, T)void collecting (InputStream)T gives (Object, InputStream)void
+            MethodHandle read = LOOKUP.findVirtual(InputStream.class, "read_" + CDR_TYPE_NAMES.get(field.type), methodType(field.type));
+            return permuteArguments(collectArguments(setter, 1, read), READ_TYPE, 2, 1);
+        }
+        MethodHandle read = LOOKUP.findVirtual(FieldDescriptor.class, "read", methodType(void.class, ObjectReader.class, Object.class))
+                .bindTo(field)
+                .asType(methodType(void.class, CorbaObjectReader.class, Object.class));
+        return permuteArguments(read, READ_TYPE, 0, 2);
+    }
+
+    private static MethodHandle copyStep(FieldDescriptor field) throws ReflectiveOperationException {
+        MethodHandle getter = field.typedGetter(), setter = field.typedSetter();
+        if (null != getter && null != setter && field.isPrimitive()) {
+            // (Object, T)void filtered by (Object)T gives (Object copy, Object orig)void
+            return permuteArguments(filterArguments(setter, 1, getter), COPY_TYPE, 1, 0);
+        }
+        return LOOKUP.findVirtual(FieldDescriptor.class, "copyState", COPY_TYPE).bindTo(field);
+    }
+
+    private static MethodHandle logStep(String name, FieldDescriptor field, MethodType type) throws ReflectiveOperationException {
+        MethodHandle log = LOOKUP.findStatic(FieldMarshaller.class, name, methodType(void.class, FieldDescriptor.class)).bindTo(field);
+        return dropArguments(log, 0, type.parameterList());
+    }
+
+    @SuppressWarnings("unused")
+    private static void logWrite(FieldDescriptor field) {
+        MARSHAL_OUT_LOG.finer(() -> "writing field " + field.java_name);
+    }
+
+    @SuppressWarnings("unused")
+    private static void logRead(FieldDescriptor field) {
+        MARSHAL_IN_LOG.fine(() -> "reading field " + field.java_name + " of type " + field.getType().getName() + " using " + field.getClass().getName());
+    }
+
+    private static MethodHandle noop(MethodType type) {
+        try {
+            MethodHandle nothing = LOOKUP.findStatic(FieldMarshaller.class, "nothing", methodType(void.class));
+            return dropArguments(nothing, 0, type.parameterList());
+        } catch (ReflectiveOperationException e) {
+            throw as(InternalError::new, e, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static void nothing() {}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import java.io.Externalizable;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.security.PrivilegedActionException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.lang.reflect.Modifier.isTransient;
+import static java.security.AccessController.doPrivileged;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableSet;
+import static org.apache.yoko.util.PrivilegedActions.getDeclaredField;
+import static org.apache.yoko.util.PrivilegedActions.getDeclaredFields;
+import static org.apache.yoko.util.PrivilegedActions.getDeclaredMethod;
+
+/**
+ * Decides, once per class, whether instances can be shared instead of copied
+ * when a value is passed to a collocated object.
+ * <p>
+ *     A class is immutable if it is a primitive, an enum, a well-known immutable JDK type,
+ *     or a final serializable class (including a record) that uses default serialization and
+ *     whose instance fields, including inherited ones, are all final, non-transient,
+ *     and of immutable types.
+ * </p>
+ */
+final class ImmutableTypes {
+    private static final Set<Class<?>> KNOWN_IMMUTABLE_CLASSES = unmodifiableSet(new HashSet<>(asList(
+            String.class, Boolean.class, Byte.class, Short.class, Character.class,
+            Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, URI.class, Locale.class,
+            Instant.class, Duration.class, Period.class, ZoneOffset.class,
+            LocalDate.class, LocalTime.class, LocalDateTime.class,
+            OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class,
+            Year.class, YearMonth.class, MonthDay.class)));
+
+    private static final ClassValue<Boolean> IMMUTABLE_CLASSES = new ClassValue<Boolean>() {
+        protected Boolean computeValue(Class<?> type) {
+            return classify(type, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    };
+
+    private ImmutableTypes() {}
+
+    /** Whether an instance whose runtime class is exactly the specified class can be shared. */
+    static boolean isImmutableClass(Class<?> type) { return IMMUTABLE_CLASSES.get(type); }
+
+    /** Whether every instance assignable to the specified type can be shared. */
+    static boolean isImmutableType(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || (isFinal(type.getModifiers()) && isImmutableClass(type));
+    }
+
+    private static boolean classify(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive()) return true;
+        if (type.isArray()) return false;
+        if (type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum())) return true;
+        if (KNOWN_IMMUTABLE_CLASSES.contains(type)) return true;
+        if (!Serializable.class.isAssignableFrom(type) || Externalizable.class.isAssignableFrom(type)) return false;
+        if (!isFinal(type.getModifiers())) return false;
+        // a class that refers back to itself is immutable if everything else about it is
+        if (!visiting.add(type)) return true;
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            if (hasSerializationHooks(c)) return false;
+            for (Field f : getInstanceFields(c)) {
+                // fields of a non-serializable superclass would be reset in a copy
+                if (!Serializable.class.isAssignableFrom(c)) return false;
+                final int mod = f.getModifiers();
+                if (!isFinal(mod) || isTransient(mod)) return false;
+                final Class<?> fieldType = f.getType();
+                if (fieldType.isPrimitive() || fieldType.isEnum()) continue;
+                if (!isFinal(fieldType.getModifiers()) || !classify(fieldType, visiting)) return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasSerializationHooks(Class<?> c) {
+        return hasMethod(c, "writeObject", ObjectOutputStream.class)
+                || hasMethod(c, "readObject", ObjectInputStream.class)
+                || hasMethod(c, "readObjectNoData")
+                || hasMethod(c, "writeReplace")
+                || hasMethod(c, "readResolve")
+                || hasField(c, "serialPersistentFields");
+    }
+
+    private static boolean hasMethod(Class<?> c, String name, Class<?>... params) {
+        try {
+            doPrivileged(getDeclaredMethod(c, name, params));
+            return true;
+        } catch (PrivilegedActionException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasField(Class<?> c, String name) {
+        try {
+            doPrivileged(getDeclaredField(c, name));
+            return true;
+        } catch (PrivilegedActionException e) {
+            return false;
+        }
+    }
+
+    private static Field[] getInstanceFields(Class<?> c) {
+        return Stream.of(doPrivileged(getDeclaredFields(c)))
+                .filter(f -> !isStatic(f.getModifiers()))
+                .toArray(Field[]::new);
+    }
+}
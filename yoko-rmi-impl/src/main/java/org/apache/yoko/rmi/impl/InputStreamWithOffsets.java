@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,14 +20,15 @@ package org.apache.yoko.rmi.impl;
 import org.omg.CORBA.portable.ValueInputStream;
 
 import java.io.Serializable;
-import java.util.Hashtable;
+import java.util.HashMap;
 import java.util.Map;
 
 public abstract class InputStreamWithOffsets extends org.omg.CORBA_2_3.portable.InputStream implements ValueInputStream {
-    private final Map<Integer, Serializable> offsetMap = new Hashtable<Integer, Serializable>(131);
+    /** The values read so far, by offset; only accessed by the reading thread, and created on first use */
+    private Map<Integer, Serializable> offsetMap;
 
     public Map<Integer, Serializable> getOffsetMap() {
-        return offsetMap;
+        return null == offsetMap ? (offsetMap = new HashMap<>()) : offsetMap;
     }
 
     /**
@@ -91,7 +91,7 @@ public final class MethodDescriptor extends ModelElement {
         return repo.getDescriptor(returnType);
     }
 
-    private TypeDescriptor getReturnType() {
+    TypeDescriptor getReturnType() {
         return returnTypeRef.get();
     }
 
@@ -102,7 +102,7 @@ public final class MethodDescriptor extends ModelElement {
                 .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
     }
 
-    private List<TypeDescriptor> getParameterTypes() {
+    List<TypeDescriptor> getParameterTypes() {
         return parameterTypesRef.get();
     }
 
@@ -223,7 +223,7 @@ public final class MethodDescriptor extends ModelElement {
                     throw mapSystemException(ex);
                 }
             }
-        } else if (getCopyWithinState()) {
+        } else if (getReturnType().copyWithinState()) {
             CopyState state = new CopyState(repo);
             try {
                 return state.copy(result);
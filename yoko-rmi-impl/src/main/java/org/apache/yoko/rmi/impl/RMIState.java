@@ -244,11 +244,14 @@ public class RMIState implements PortableRemoteObjectState {
     }
 
     private static Class<? extends Stub> genStubClass(Class<?> type, MethodDescriptor[] descriptors, MethodRef[] methods, ClassLoader loader, ClassLoader contextLoader) {
+        final MethodHandle[] invokers = stream(descriptors)
+                .map(StubInvoker::create)
+                .toArray(MethodHandle[]::new);
         try {
-            return StubClass.make(type, descriptors, methods, loader);
+            return StubClass.make(type, descriptors, invokers, methods, loader);
         } catch (NoClassDefFoundError ex) {
             try {
-                return StubClass.make(type, descriptors, methods, contextLoader);
+                return StubClass.make(type, descriptors, invokers, methods, contextLoader);
             } catch (NoClassDefFoundError e) {
                 e.addSuppressed(ex);
                 throw e;
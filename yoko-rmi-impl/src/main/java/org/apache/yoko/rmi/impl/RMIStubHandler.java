@@ -76,32 +76,48 @@ public class RMIStubHandler implements StubHandler, Serializable {
                 method.writeArguments(out, args);
                 in = stub._invoke(out);
                 return method.readResult(in);
-            } catch (RemarshalException retry) { // go round the loop
-            } catch (ApplicationException ex) {
-                try {
-                    method.readException(ex.getInputStream());
-                } catch (Throwable exx) {
-                    logger.log(FINE, exx, () -> "rmi1::" + method_name + " " + exx.getMessage());
-                    throw addLocalTrace(method, exx);
-                }
-            } catch (UnknownException ex) {
-                logger.log(FINER, ex, () -> "rmi2::" + method_name + " " + ex.getMessage());
-                logger.log(FINER, ex.originalEx, () -> "rmi2::" + method_name + " " + ex.originalEx.getMessage());
-
-                throw addLocalTrace(method, ex.originalEx);
-            } catch (SystemException ex) {
-                RemoteException exx = mapSystemException(ex);
-                logger.log(FINER, exx, () -> "rmi3::" + method_name + " " + exx.getMessage());
-                throw exx;
             } catch (Throwable ex) {
-                logger.log(FINER, ex, () -> "rmi4::" + method_name + " " + ex.getMessage());
-                throw ex;
+                final Throwable exx = mapRemoteFailure(method, ex);
+                if (null != exx) throw exx;
+                // otherwise go round the loop
             } finally {
                 stub._releaseReply(in);
             }
         }
     }
 
+    /**
+     * Work out what to throw when a remote invocation fails.
+     *
+     * @return the exception to throw, or <code>null</code> if the invocation should be retried
+     */
+    static Throwable mapRemoteFailure(MethodDescriptor method, Throwable ex) {
+        final String method_name = method.getIDLName();
+        if (ex instanceof RemarshalException) return null;
+        if (ex instanceof ApplicationException) {
+            try {
+                method.readException(((ApplicationException) ex).getInputStream());
+                return null;
+            } catch (Throwable exx) {
+                logger.log(FINE, exx, () -> "rmi1::" + method_name + " " + exx.getMessage());
+                return addLocalTrace(method, exx);
+            }
+        }
+        if (ex instanceof UnknownException) {
+            final Throwable originalEx = ((UnknownException) ex).originalEx;
+            logger.log(FINER, ex, () -> "rmi2::" + method_name + " " + ex.getMessage());
+            logger.log(FINER, originalEx, () -> "rmi2::" + method_name + " " + originalEx.getMessage());
+            return addLocalTrace(method, originalEx);
+        }
+        if (ex instanceof SystemException) {
+            final RemoteException exx = mapSystemException((SystemException) ex);
+            logger.log(FINER, exx, () -> "rmi3::" + method_name + " " + exx.getMessage());
+            return exx;
+        }
+        logger.log(FINER, ex, () -> "rmi4::" + method_name + " " + ex.getMessage());
+        return ex;
+    }
+
     private Object invokeLocal(RMIStub stub, MethodDescriptor method, Object[] args, String method_name) throws Throwable {
         final ServantObject so = stub._servant_preinvoke(method_name, RMIServant.class);
 
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedAction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.security.AccessController.doPrivileged;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+import static org.apache.yoko.util.PrivilegedActions.getSysProp;
+
+/**
+ * A persistent cache of the RMI class hashes and serialVersionUIDs of value types,
+ * from which their repository IDs are formed.
+ * <p>
+ *     Computing these means reflecting over every field and method of a class and its superclasses,
+ *     which adds up when a server starts with many thousands of classes. When the system property
+ *     {@value #FILE_PROPERTY} names a file, the cache is loaded from that file when the type repository
+ *     is created, and any newly computed values are written back to it when the JVM exits.
+ * </p>
+ * <p>
+ *     Entries are keyed by class name and by a digest of the class files of the class and all its superclasses,
+ *     so a changed class is simply recomputed. Classes whose class files cannot be read are never cached.
+ * </p>
+ */
+final class RepIdCache {
+    private static final Logger LOGGER = Logger.getLogger(RepIdCache.class.getName());
+    static final String FILE_PROPERTY = "yoko.rmi.repid.cache";
+    private static final String HEADER = "# Yoko RMI repository ID cache v1";
+    private static final String UNKNOWN = "-";
+    static final RepIdCache DISABLED = new RepIdCache(null);
+
+    private static final class CachedValues {
+        volatile long classHash;
+        volatile boolean hasClassHash;
+        volatile long serialVersionUid;
+        volatile boolean hasSerialVersionUid;
+    }
+
+    /** Digests of the class file of each class and its superclasses, or null if any could not be read */
+    private static final ClassValue<byte[]> FINGERPRINTS = new ClassValue<byte[]>() {
+        protected byte[] computeValue(Class<?> type) { return computeFingerprint(type); }
+    };
+
+    private final Path file;
+    private final ConcurrentMap<String, CachedValues> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    /** Create a cache backed by the specified file, reading any entries it already contains */
+    RepIdCache(Path file) {
+        this.file = file;
+        if (null != file) read();
+    }
+
+    /** Load the cache named by the system property, registering it to be saved when the JVM exits */
+    static RepIdCache load() {
+        final String name = doPrivileged(getSysProp(FILE_PROPERTY));
+        if (null == name || name.isEmpty()) return DISABLED;
+        return doPrivileged((PrivilegedAction<RepIdCache>) () -> {
+            final RepIdCache cache = new RepIdCache(Paths.get(name));
+            Runtime.getRuntime().addShutdownHook(new Thread(cache::save, "Yoko:RepIdCache"));
+            return cache;
+        });
+    }
+
+    long getClassHash(Class<?> type, LongSupplier computer) {
+        final CachedValues e = valuesFor(type);
+        if (null == e) return computer.getAsLong();
+        if (e.hasClassHash) return e.classHash;
+        e.classHash = computer.getAsLong();
+        e.hasClassHash = true;
+        dirty = true;
+        return e.classHash;
+    }
+
+    long getSerialVersionUid(Class<?> type, LongSupplier computer) {
+        final CachedValues e = valuesFor(type);
+        if (null == e) return computer.getAsLong();
+        if (e.hasSerialVersionUid) return e.serialVersionUid;
+        e.serialVersionUid = computer.getAsLong();
+        e.hasSerialVersionUid = true;
+        dirty = true;
+        return e.serialVersionUid;
+    }
+
+    int size() { return entries.size(); }
+
+    private CachedValues valuesFor(Class<?> type) {
+        if (this == DISABLED || type.isArray() || type.isPrimitive()) return null;
+        final byte[] fingerprint = FINGERPRINTS.get(type);
+        if (null == fingerprint) return null;
+        return entries.computeIfAbsent(key(type.getName(), toHex(fingerprint)), k -> new CachedValues());
+    }
+
+    private static String key(String className, String fingerprint) { return className + ' ' + fingerprint; }
+
+    private static byte[] computeFingerprint(Class<?> type) {
+        final byte[] superFingerprint;
+        final Class<?> superclass = type.getSuperclass();
+        if (null == superclass || Object.class == superclass) {
+            superFingerprint = new byte[0];
+        } else {
+            superFingerprint = FINGERPRINTS.get(superclass);
+            if (null == superFingerprint) return null;
+        }
+        final String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream in = doPrivileged((PrivilegedAction<InputStream>) () -> type.getResourceAsStream(resource))) {
+            if (null == in) return null;
+            final MessageDigest digest = MessageDigest.getInstance("SHA");
+            digest.update(superFingerprint);
+            final byte[] buf = new byte[4096];
+            for (int n = in.read(buf); n >= 0; n = in.read(buf)) digest.update(buf, 0, n);
+            return digest.digest();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.log(FINE, e, () -> "Could not read the class file of " + type.getName());
+            return null;
+        }
+    }
+
+    private void read() {
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                if (!parse(line)) LOGGER.fine("Ignoring malformed line in " + file + ": " + line);
+            }
+            LOGGER.fine(() -> "Loaded " + entries.size() + " entries from " + file);
+        } catch (NoSuchFileException e) {
+            LOGGER.fine(() -> "No repository ID cache found at " + file);
+        } catch (IOException e) {
+            LOGGER.log(WARNING, e, () -> "Could not read the repository ID cache " + file);
+        }
+    }
+
+    private boolean parse(String line) {
+        final String[] parts = line.split(" ");
+        if (parts.length != 4) return false;
+        final CachedValues e = new CachedValues();
+        try {
+            if (!UNKNOWN.equals(parts[2])) {
+                e.classHash = Long.parseUnsignedLong(parts[2], 16);
+                e.hasClassHash = true;
+            }
+            if (!UNKNOWN.equals(parts[3])) {
+                e.serialVersionUid = Long.parseUnsignedLong(parts[3], 16);
+                e.hasSerialVersionUid = true;
+            }
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        entries.put(key(parts[0], parts[1]), e);
+        return true;
+    }
+
+    void save() {
+        if (!dirty) return;
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (null != parent) Files.createDirectories(parent);
+            final Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Map.Entry<String, CachedValues> entry : entries.entrySet()) {
+                    final CachedValues e = entry.getValue();
+                    writer.write(entry.getKey());
+                    writer.write(' ');
+                    writer.write(e.hasClassHash ? Long.toHexString(e.classHash) : UNKNOWN);
+                    writer.write(' ');
+                    writer.write(e.hasSerialVersionUid ? Long.toHexString(e.serialVersionUid) : UNKNOWN);
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            LOGGER.log(WARNING, e, () -> "Could not write the repository ID cache " + file);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.apache.yoko.rmi.util.stub.Stub;
+import org.omg.CORBA.portable.ApplicationException;
+import org.omg.CORBA.portable.InputStream;
+import org.omg.CORBA.portable.OutputStream;
+import org.omg.CORBA.portable.RemarshalException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import static java.lang.invoke.MethodHandles.catchException;
+import static java.lang.invoke.MethodHandles.collectArguments;
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodHandles.filterReturnValue;
+import static java.lang.invoke.MethodHandles.foldArguments;
+import static java.lang.invoke.MethodHandles.guardWithTest;
+import static java.lang.invoke.MethodHandles.identity;
+import static java.lang.invoke.MethodHandles.permuteArguments;
+import static java.lang.invoke.MethodHandles.throwException;
+import static java.lang.invoke.MethodType.methodType;
+import static java.security.AccessController.doPrivileged;
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.FINER;
+import static org.apache.yoko.rmi.impl.FieldMarshaller.CDR_TYPE_NAMES;
+import static org.apache.yoko.util.Exceptions.as;
+import static org.apache.yoko.util.PrivilegedActions.action;
+
+/**
+ * Composes, for one remote method, a method handle that performs a remote invocation
+ * straight from the stub method's own typed arguments.
+ * <p>
+ *     Generated stubs call this handle with {@link MethodHandle#invokeExact} rather than
+ *     passing an argument array to {@link StubHandler#invoke}. Primitive arguments and results
+ *     are written and read directly, so a remote call allocates no argument array and boxes nothing.
+ *     Local calls, stubs with some other handler, and retries after a {@link RemarshalException}
+ *     are passed to the stub's handler as before.
+ * </p>
+ */
+final class StubInvoker {
+    private static final Logger logger = Logger.getLogger(StubInvoker.class.getName());
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle USE_INVOKER = findStatic("useInvoker", methodType(boolean.class, RMIStub.class));
+    private static final MethodHandle INVOKE_HANDLER = findStatic("invokeHandler", methodType(Object.class, MethodDescriptor.class, RMIStub.class, Object[].class));
+    private static final MethodHandle REQUEST = findStatic("request", methodType(OutputStream.class, MethodDescriptor.class, RMIStub.class));
+    private static final MethodHandle SEND = findStatic("send", methodType(InputStream.class, RMIStub.class, OutputStream.class));
+    private static final MethodHandle RELEASE = findStatic("release", methodType(void.class, RMIStub.class, InputStream.class));
+    private static final MethodHandle RELEASE_AFTER_FAILURE = findStatic("releaseAfterFailure", methodType(Throwable.class, Throwable.class, RMIStub.class, InputStream.class));
+    private static final MethodHandle FAILURE = findStatic("failure", methodType(Throwable.class, MethodDescriptor.class, Throwable.class));
+    private static final MethodHandle NOTHING = findStatic("nothing", methodType(void.class));
+    private static final MethodHandle IS_NULL;
+
+    static {
+        try {
+            IS_NULL = LOOKUP.findStatic(Objects.class, "isNull", methodType(boolean.class, Object.class))
+                    .asType(methodType(boolean.class, Throwable.class));
+        } catch (ReflectiveOperationException e) {
+            throw as(InternalError::new, e, e.getMessage());
+        }
+    }
+
+    private StubInvoker() {}
+
+    /**
+     * Create the invoker for a remote method <code>R m(P...)</code>.
+     * @return a handle of type <code>(RMIStub, P...)R</code>,
+     *         or <code>null</code> if the stub should call its handler for this method
+     */
+    static MethodHandle create(MethodDescriptor method) {
+        final Method m = method.getReflectedMethod();
+        final Class<?> returnType = doPrivileged(action(m::getReturnType));
+        final Class<?>[] paramTypes = doPrivileged(action(m::getParameterTypes));
+        final MethodType type = methodType(returnType, paramTypes).insertParameterTypes(0, RMIStub.class);
+        try {
+            final MethodHandle viaHandler = INVOKE_HANDLER
+                    .bindTo(method)
+                    .asCollector(Object[].class, paramTypes.length)
+                    .asType(type);
+            return guardWithTest(USE_INVOKER, remote(method, type, viaHandler), viaHandler);
+        } catch (IllegalArgumentException e) {
+            // the composed handles need a few more parameter slots than the method itself
+            logger.log(FINE, e, () -> "using the stub handler for " + method);
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw as(InternalError::new, e, e.getMessage());
+        }
+    }
+
+    private static MethodHandle remote(MethodDescriptor method, MethodType type, MethodHandle viaHandler) throws ReflectiveOperationException {
+        final Class<?> r = type.returnType();
+        final List<Class<?>> params = type.dropParameterTypes(0, 1).parameterList();
+
+        // (RMIStub, InputStream)R reads the result, and releases the reply whether or not that succeeds
+        MethodHandle read = catchException(
+                dropArguments(reader(method.getReturnType(), r), 0, RMIStub.class),
+                Throwable.class,
+                filterReturnValue(RELEASE_AFTER_FAILURE, throwException(r, Throwable.class)));
+        if (void.class == r) {
+            read = foldArguments(RELEASE, read);
+        } else {
+            MethodHandle releaseAndReturn = foldArguments(dropArguments(identity(r), 0, RMIStub.class, InputStream.class), RELEASE);
+            read = foldArguments(permuteArguments(releaseAndReturn, methodType(r, r, RMIStub.class, InputStream.class), 1, 2, 0), read);
+        }
+
+        // (OutputStream, RMIStub, P...)R sends the request and reads the reply
+        MethodHandle send = permuteArguments(collectArguments(read, 1, SEND), methodType(r, RMIStub.class, OutputStream.class), 0, 0, 1);
+        send = dropArguments(permuteArguments(send, methodType(r, OutputStream.class, RMIStub.class), 1, 0), 2, params);
+
+        // (RMIStub, P...)R writes the arguments to a new request first
+        final MethodHandle write = dropArguments(writer(method.getParameterTypes(), params), 1, RMIStub.class);
+        final MethodHandle attempt = foldArguments(foldArguments(send, write), REQUEST.bindTo(method));
+
+        // (Throwable, RMIStub, P...)R throws the mapped exception, or retries through the handler
+        final MethodHandle dispatch = guardWithTest(IS_NULL,
+                dropArguments(viaHandler, 0, Throwable.class, Throwable.class),
+                dropArguments(throwException(r, Throwable.class), 1, type.insertParameterTypes(0, Throwable.class).parameterList()));
+        return catchException(attempt, Throwable.class, foldArguments(dispatch, FAILURE.bindTo(method)));
+    }
+
+    /** Compose <code>(OutputStream, P...)void</code> to write each argument with its declared type */
+    private static MethodHandle writer(List<TypeDescriptor> descriptors, List<Class<?>> params) throws ReflectiveOperationException {
+        final MethodType type = methodType(void.class, params).insertParameterTypes(0, OutputStream.class);
+        MethodHandle w = dropArguments(NOTHING, 0, type.parameterList());
+        // compose in reverse so that the arguments are written in order
+        for (int i = params.size() - 1; i >= 0; i--) {
+            final Class<?> p = params.get(i);
+            final MethodHandle step = p.isPrimitive() ?
+                    LOOKUP.findVirtual(OutputStream.class, "write_" + CDR_TYPE_NAMES.get(p), methodType(void.class, p)) :
+                    LOOKUP.findVirtual(TypeDescriptor.class, "write", methodType(void.class, OutputStream.class, Object.class))
+                            .bindTo(descriptors.get(i))
+                            .asType(methodType(void.class, OutputStream.class, p));
+            w = foldArguments(w, permuteArguments(step, type, 0, i + 1));
+        }
+        return w;
+    }
+
+    /** Create <code>(InputStream)R</code> to read a result of the declared type */
+    private static MethodHandle reader(TypeDescriptor descriptor, Class<?> r) throws ReflectiveOperationException {
+        if (void.class == r) return dropArguments(NOTHING, 0, InputStream.class);
+        if (r.isPrimitive()) return LOOKUP.findVirtual(InputStream.class, "read_" + CDR_TYPE_NAMES.get(r), methodType(r));
+        return LOOKUP.findVirtual(TypeDescriptor.class, "read", methodType(Object.class, InputStream.class))
+                .bindTo(descriptor)
+                .asType(methodType(r, InputStream.class));
+    }
+
+    private static boolean useInvoker(RMIStub stub) {
+        // the handler logs each invocation, so leave it to the handler when that is wanted
+        return stub instanceof Stub
+                && RMIStubHandler.instance == ((Stub) stub).____getTriforkStubHandler()
+                && !RMIStubHandler.logger.isLoggable(FINER)
+                && !stub._is_local();
+    }
+
+    private static Object invokeHandler(MethodDescriptor method, RMIStub stub, Object[] args) throws Throwable {
+        return ((StubHandler) ((Stub) stub).____getTriforkStubHandler()).invoke(stub, method, args);
+    }
+
+    private static OutputStream request(MethodDescriptor method, RMIStub stub) {
+        return stub._request(method.getIDLName(), method.getResponseExpected());
+    }
+
+    private static InputStream send(RMIStub stub, OutputStream out) throws ApplicationException, RemarshalException {
+        return stub._invoke(out);
+    }
+
+    private static void release(RMIStub stub, InputStream in) {
+        stub._releaseReply(in);
+    }
+
+    private static Throwable releaseAfterFailure(Throwable t, RMIStub stub, InputStream in) {
+        stub._releaseReply(in);
+        return t;
+    }
+
+    private static Throwable failure(MethodDescriptor method, Throwable t) {
+        return RMIStubHandler.mapRemoteFailure(method, t);
+    }
+
+    @SuppressWarnings("unused")
+    private static void nothing() {}
+
+    private static MethodHandle findStatic(String name, MethodType type) {
+        try {
+            return LOOKUP.findStatic(StubInvoker.class, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw as(InternalError::new, e, e.getMessage());
+        }
+    }
+}
@@ -225,6 +225,7 @@ public class TypeRepository {
         }
     }
 
+    final RepIdCache repIdCache = RepIdCache.load();
     private final TypeDescriptorCache repIdDescriptors;
     private final LocalDescriptors localDescriptors;
     private final FvdRepIdDescriptorMaps fvdDescMaps = new FvdRepIdDescriptorMaps();
@@ -68,6 +68,7 @@ import static java.security.AccessController.doPrivileged;
 import static java.util.Arrays.stream;
 import static java.util.logging.Level.FINER;
 import static org.apache.yoko.logging.VerboseLogging.CLASS_LOG;
+import static org.apache.yoko.rmi.impl.ImmutableTypes.isImmutableClass;
 import static org.apache.yoko.rmi.impl.PortableRemoteObjectImpl.narrowRMI;
 import static org.apache.yoko.util.Predicates.not;
 import static org.apache.yoko.util.PrivilegedActions.GET_CONTEXT_CLASS_LOADER;
@@ -627,7 +628,7 @@ public class UtilImpl implements UtilDelegate {
         if (orb == null)
             throw new NullPointerException();
 
-        if (obj instanceof String || obj instanceof Number)
+        if (obj instanceof String || obj instanceof Number || isImmutableClass(obj.getClass()))
             return obj;
 
         if (obj instanceof RMIStub) {
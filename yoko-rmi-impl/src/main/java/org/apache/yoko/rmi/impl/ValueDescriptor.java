@@ -58,7 +58,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,10 +70,8 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import static java.security.AccessController.doPrivileged;
-import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Comparator.comparing;
 import static java.util.function.Function.identity;
 import static java.util.logging.Level.WARNING;
@@ -84,6 +81,8 @@ import static org.apache.yoko.logging.VerboseLogging.MARSHAL_IN_LOG;
 import static org.apache.yoko.logging.VerboseLogging.MARSHAL_LOG;
 import static org.apache.yoko.logging.VerboseLogging.MARSHAL_OUT_LOG;
 import static org.apache.yoko.rmi.impl.FieldDescriptor.getForSerialPersistentField;
+import static org.apache.yoko.rmi.impl.ImmutableTypes.isImmutableClass;
+import static org.apache.yoko.rmi.impl.ImmutableTypes.isImmutableType;
 import static org.apache.yoko.rmi.impl.RemoteDescriptor.genMostSpecificRemoteInterface;
 import static org.apache.yoko.rmi.util.StringUtil.convertToValidIDLNames;
 import static org.apache.yoko.util.Exceptions.as;
@@ -124,13 +123,14 @@ class ValueDescriptor extends TypeDescriptor {
 
     protected final LazyReference<List<FieldDescriptor>> fieldsRef = new LazyReference<>(this::genFields);
 
+    private final LazyReference<FieldMarshaller> fieldMarshallerRef = new LazyReference<>(() -> new FieldMarshaller(getFields()));
+
+    private final LazyReference<Boolean> fieldCopyableRef = new LazyReference<>(this::genFieldCopyable);
+
     private final LazyReference<Boolean> immutableValueRef = new LazyReference<>(this::genImmutableValue);
 
     private final LazyReference<String> customRepIdRef = new LazyReference<>(this::genCustomRepId);
 
-    private static final Set<? extends Class<? extends Serializable>> IMMUTABLE_VALUE_CLASSES = unmodifiableSet(new HashSet<>(asList(Integer.class,
-            Character.class, Boolean.class, Byte.class, Long.class, Float.class, Double.class, Short.class)));
-
     ValueDescriptor(Class<?> type, TypeRepository repository) {
         this(type, repository, null, null, null);
     }
@@ -169,7 +169,7 @@ class ValueDescriptor extends TypeDescriptor {
     private boolean isImmutableValue() { return immutableValueRef.get(); }
 
     private boolean genImmutableValue() {
-        return IMMUTABLE_VALUE_CLASSES.contains(getType());
+        return isImmutableClass(getType());
     }
 
     @Override
@@ -199,6 +199,10 @@ class ValueDescriptor extends TypeDescriptor {
     }
 
     long genSerialVersionUid() {
+        return repo.repIdCache.getSerialVersionUid(getType(), this::computeSerialVersionUid);
+    }
+
+    final long computeSerialVersionUid() {
         return Optional.ofNullable(findSerialVersionUIDField())
                 .map(field -> {
                     try {
@@ -629,6 +633,11 @@ class ValueDescriptor extends TypeDescriptor {
 
         if (fields.isEmpty()) return;
 
+        if (writer instanceof CorbaObjectWriter && null != val) {
+            fieldMarshallerRef.get().write((CorbaObjectWriter) writer, val);
+            return;
+        }
+
         for (FieldDescriptor field : fields) {
             MARSHAL_OUT_LOG.finer(() -> "writing field " + field.java_name);
             field.write(writer, val);
@@ -923,6 +932,19 @@ class ValueDescriptor extends TypeDescriptor {
 
         MARSHAL_IN_LOG.fine(() -> "reading fields for " + getType().getName());
 
+        if (reader instanceof CorbaObjectReader && null != value) {
+            try {
+                fieldMarshallerRef.get().read((CorbaObjectReader) reader, value);
+            } catch (MARSHAL ex) {
+                if (ex.getMessage() != null)
+                    throw ex;
+
+                String msg = String.format("%s, while reading %s", ex, java_name);
+                throw as(MARSHAL::new, ex, msg, ex.minor, ex.completed);
+            }
+            return;
+        }
+
         for (FieldDescriptor field : fields) {
             MARSHAL_IN_LOG.fine(() -> "reading field " + field.java_name + " of type " + field.getType().getName() + " using " + field.getClass().getName());
 
@@ -990,6 +1012,10 @@ class ValueDescriptor extends TypeDescriptor {
     }
 
     long genClassHash() {
+        return repo.repIdCache.getClassHash(getType(), this::computeClassHash);
+    }
+
+    final long computeClassHash() {
         return new ClassHashBuilder().build();
     }
 
@@ -1166,7 +1192,27 @@ class ValueDescriptor extends TypeDescriptor {
 
 
     public boolean copyWithinState() {
-        return !(isImmutableValue() | isRmiStub());
+        return !(isImmutableType(getType()) | isRmiStub());
+    }
+
+    /**
+     * A value can be copied field by field, without writing it out and reading it back in,
+     * if no class in its hierarchy customizes its serialized form.
+     */
+    private boolean genFieldCopyable() {
+        if (getClass() != ValueDescriptor.class || isExternalizable()) return false;
+        if (getOptionalWriteObjectHandle().isPresent() || getOptionalReadObjectHandle().isPresent()) return false;
+        if (!getFields().stream().allMatch(FieldDescriptor::hasLocalField)) return false;
+        return Optional.ofNullable(getSuperDescriptor()).map(ValueDescriptor::isFieldCopyable).orElse(true);
+    }
+
+    private boolean isFieldCopyable() { return fieldCopyableRef.get(); }
+
+    private void copyFields(Serializable orig, Serializable copy, CopyState state) {
+        ValueDescriptor superDesc = getSuperDescriptor();
+        if (null != superDesc) superDesc.copyFields(orig, copy, state);
+        if (getFields().isEmpty()) return;
+        fieldMarshallerRef.get().copy(orig, copy, state);
     }
 
     Object copyObject(Object orig, CopyState state) {
@@ -1203,6 +1249,11 @@ class ValueDescriptor extends TypeDescriptor {
         Serializable copy = createBlankInstance();
         state.put(oorig, copy);
 
+        if (isFieldCopyable()) {
+            copyFields(oorig, copy, state);
+            return readResolve(copy);
+        }
+
         // write original object
         ObjectWriter writer = writeObject(oorig, state);
 
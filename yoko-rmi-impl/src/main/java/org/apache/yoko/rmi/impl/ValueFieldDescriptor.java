@@ -71,7 +71,7 @@ class ValueFieldDescriptor extends FieldDescriptor {
         try {
             setFieldContents(copy, state.copy(getFieldContents(orig)));
         } catch (CopyRecursionException e) {
-            state.registerRecursion(new CopyRecursionResolver(orig) {
+            state.registerRecursion(new CopyRecursionResolver(e.original) {
                 public void resolve(Object value) {
                     try {
                         setFieldContents(copy, value);
@@ -49,6 +49,7 @@ import org.omg.CORBA.INITIALIZE;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -58,6 +59,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -98,7 +100,7 @@ import static org.apache.yoko.util.PrivilegedActions.action;
 class BCELClassBuilder {
     private static final Logger logger = Logger.getLogger(BCELClassBuilder.class.getName());
 
-    static <S> Class<S> makeStub(ClassLoader loader, Class<?> type, MethodRef[] methods, Object[] data, MethodRef handlerMethodRef, String className) {
+    static <S> Class<S> makeStub(ClassLoader loader, Class<?> type, MethodRef[] methods, Object[] data, MethodHandle[] invokers, MethodRef handlerMethodRef, String className) {
         String superClassName = RMIStub.class.getName();
         String[] interfaceNames = { type.getName(), Stub.class.getName() };
 
@@ -134,8 +136,18 @@ class BCELClassBuilder {
             newStubClass.addField(dataFieldGens[i].getField());
         });
 
+        // Construct constant invoker fields, for the methods that have invokers, so the JIT can inline the invokers
+        FieldGen[] invokerFieldGens = new FieldGen[methods.length];
+        range(0, null == invokers ? 0 : invokers.length)
+                .filter(i -> null != invokers[i])
+                .forEach(i -> {
+                    invokerFieldGens[i] = new FieldGen(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, INVOKER_TYPE, "__invoker$" + i, cp);
+                    newStubClass.addField(invokerFieldGens[i].getField());
+                });
+        emitInvokerInitializer(newStubClass, invokerFieldGens);
+
         // Construct method stubs
-        range(0, methods.length).forEach(i -> generate(newStubClass, methods[i], dataFieldGens[i], handlerFieldGen, handlerMethodRef));
+        range(0, methods.length).forEach(i -> generate(newStubClass, methods[i], dataFieldGens[i], invokerFieldGens[i], handlerFieldGen, handlerMethodRef));
 
         JavaClass javaClass = newStubClass.getJavaClass();
         byte[] classData = javaClass.getBytes();
@@ -182,6 +194,8 @@ class BCELClassBuilder {
         }));
     }
 
+    private static final ObjectType INVOKER_TYPE = new ObjectType(MethodHandle.class.getName());
+
     private static final Map<Class<?>, Type> KNOWN_TYPE_MAP = unmodifiableMap(new HashMap<Class<?>, Type>() {{
        put(int.class, Type.INT);
        put(boolean.class, Type.BOOLEAN);
@@ -314,6 +328,38 @@ class BCELClassBuilder {
         stubClass.addMethod(mg.getMethod());
     }
 
+    //
+    // Static initializer to fetch the invokers registered for this stub class
+    //
+    private static void emitInvokerInitializer(ClassGen stubClass, FieldGen[] invokerFields) {
+        if (Stream.of(invokerFields).allMatch(Objects::isNull)) return;
+
+        String stubClassName = stubClass.getClassName();
+        ConstantPoolGen cp = stubClass.getConstantPool();
+        InstructionList il = new InstructionList();
+
+        MethodGen mg = new MethodGen(ACC_STATIC, Type.VOID, Type.NO_ARGS, null, "<clinit>", stubClassName, il, cp);
+
+        InstructionFactory fac = new InstructionFactory(stubClass, cp);
+
+        range(0, invokerFields.length)
+                .filter(i -> null != invokerFields[i])
+                .forEach(i -> {
+                    // __invoker$i = StubClass.getInvoker(stubClassName, i)
+                    il.append(new PUSH(cp, stubClassName));
+                    il.append(new PUSH(cp, i));
+                    il.append(fac.createInvoke(StubClass.class.getName(), "getInvoker", INVOKER_TYPE, new Type[]{ Type.STRING, Type.INT }, Constants.INVOKESTATIC));
+                    il.append(fac.createPutStatic(stubClassName, invokerFields[i].getName(), invokerFields[i].getType()));
+                });
+
+        il.append(InstructionConstants.RETURN);
+
+        mg.setMaxStack();
+        mg.setMaxLocals();
+
+        stubClass.addMethod(mg.getMethod());
+    }
+
     private static void generateHandlerGetter(ClassGen clazz, FieldGen handlerField) {
         Method[] stub_methods = Stub.class.getDeclaredMethods();
         if (stub_methods.length != 1) throw new IllegalStateException("" + Stub.class + " has wrong # methods");
@@ -344,7 +390,7 @@ class BCELClassBuilder {
         clazz.addMethod(mg.getMethod());
     }
 
-    private static void generate(ClassGen clazz, MethodRef method, FieldGen dataField, FieldGen handlerField, MethodRef handlerMethodRef) {
+    private static void generate(ClassGen clazz, MethodRef method, FieldGen dataField, FieldGen invokerField, FieldGen handlerField, MethodRef handlerMethodRef) {
         ConstantPoolGen cp;
         InstructionList il;
 
@@ -364,41 +410,9 @@ class BCELClassBuilder {
                 .forEach(mg::addException);
 
         // BODY
-        il.append(InstructionFactory.createThis());
-        il.append(fac.createGetField(clazz.getClassName(), handlerField.getName(), handlerField.getType()));
-
-        // push "this" as invoke's first argument
-        il.append(InstructionFactory.createThis());
-
-        // load data value
-        if (dataField.isStatic()) {
-            il.append(fac.createGetStatic(clazz.getClassName(), dataField.getName(), dataField.getType()));
-        } else {
-            il.append(InstructionFactory.createThis());
-            il.append(fac.createGetField(clazz.getClassName(), dataField.getName(), dataField.getType()));
-        }
-
-        il.append(new PUSH(cp, methodArgTypes.length));
-        il.append(fac.createNewArray(Type.OBJECT, (short) 1));
-
-        for (int i = 0, index = 1; i < methodArgTypes.length; i++) {
-            // dup array ref
-            il.append(InstructionConstants.DUP);
-            // push index
-            il.append(new PUSH(cp, i));
-            // transform parameter
-            il.append(InstructionFactory.createLoad(methodArgTypes[i], index));
-            emitCoerceToObject(il, fac, methodArgTypes[i]);
-            // and store into array
-            il.append(InstructionFactory.createArrayStore(Type.OBJECT));
-            index += methodArgTypes[i].getSize();
-        }
-
-        // invoke handler
-        InstructionHandle tryStart = emitInvoke(il, fac, handlerMethodRef);
-
-        // convert to primitive type
-        emitCoerceFromObject(il, fac, methodReturnType);
+        final InstructionHandle tryStart = null == invokerField ?
+                emitHandlerCall(il, fac, clazz, methodReturnType, methodArgTypes, dataField, handlerField, handlerMethodRef) :
+                emitInvokerCall(il, fac, clazz, methodReturnType, methodArgTypes, invokerField);
 
         // and return
         InstructionHandle tryEnd = emitReturn(il, methodReturnType);
@@ -438,6 +452,70 @@ class BCELClassBuilder {
         clazz.addMethod(mg.getMethod());
     }
 
+    /**
+     * Pass the arguments in an array to the handler, and convert its result to the return type.
+     * @return the handle of the call to the handler
+     */
+    private static InstructionHandle emitHandlerCall(InstructionList il, InstructionFactory fac, ClassGen clazz, Type methodReturnType, Type[] methodArgTypes,
+                                                     FieldGen dataField, FieldGen handlerField, MethodRef handlerMethodRef) {
+        ConstantPoolGen cp = clazz.getConstantPool();
+
+        il.append(InstructionFactory.createThis());
+        il.append(fac.createGetField(clazz.getClassName(), handlerField.getName(), handlerField.getType()));
+
+        // push "this" as invoke's first argument
+        il.append(InstructionFactory.createThis());
+
+        // load data value
+        if (dataField.isStatic()) {
+            il.append(fac.createGetStatic(clazz.getClassName(), dataField.getName(), dataField.getType()));
+        } else {
+            il.append(InstructionFactory.createThis());
+            il.append(fac.createGetField(clazz.getClassName(), dataField.getName(), dataField.getType()));
+        }
+
+        il.append(new PUSH(cp, methodArgTypes.length));
+        il.append(fac.createNewArray(Type.OBJECT, (short) 1));
+
+        for (int i = 0, index = 1; i < methodArgTypes.length; i++) {
+            // dup array ref
+            il.append(InstructionConstants.DUP);
+            // push index
+            il.append(new PUSH(cp, i));
+            // transform parameter
+            il.append(InstructionFactory.createLoad(methodArgTypes[i], index));
+            emitCoerceToObject(il, fac, methodArgTypes[i]);
+            // and store into array
+            il.append(InstructionFactory.createArrayStore(Type.OBJECT));
+            index += methodArgTypes[i].getSize();
+        }
+
+        // invoke handler
+        InstructionHandle invoke = emitInvoke(il, fac, handlerMethodRef);
+
+        // convert to primitive type
+        emitCoerceFromObject(il, fac, methodReturnType);
+        return invoke;
+    }
+
+    /**
+     * Pass "this" and the arguments, unconverted, to the invoker with <code>MethodHandle.invokeExact()</code>.
+     * The invoker's type must exactly match the method's type with {@link RMIStub} inserted as the first parameter.
+     * @return the handle of the call to the invoker
+     */
+    private static InstructionHandle emitInvokerCall(InstructionList il, InstructionFactory fac, ClassGen clazz, Type methodReturnType, Type[] methodArgTypes,
+                                                     FieldGen invokerField) {
+        il.append(fac.createGetStatic(clazz.getClassName(), invokerField.getName(), invokerField.getType()));
+        il.append(InstructionFactory.createThis());
+        for (int i = 0, index = 1; i < methodArgTypes.length; i++) {
+            il.append(InstructionFactory.createLoad(methodArgTypes[i], index));
+            index += methodArgTypes[i].getSize();
+        }
+        Type[] invokerArgTypes = Stream.concat(Stream.of(translate(RMIStub.class)), Stream.of(methodArgTypes)).toArray(Type[]::new);
+        // invokeExact is signature polymorphic, so the descriptor is simply the invoker's type
+        return il.append(fac.createInvoke(INVOKER_TYPE.getClassName(), "invokeExact", methodReturnType, invokerArgTypes, Constants.INVOKEVIRTUAL));
+    }
+
     private static InstructionHandle emitReturn(InstructionList il, Type type) {
         return PrimitiveTypeEmitters.get(type)
                 .map(pte -> pte.emitReturn.apply(il))
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,12 +22,15 @@ import org.apache.yoko.rmi.impl.RMIStub;
 import org.apache.yoko.rmi.impl.StubHandler;
 import org.apache.yoko.util.PrivilegedActions;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.security.PrivilegedActionException;
 import java.security.SecureClassLoader;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
@@ -42,6 +45,8 @@ import static org.apache.yoko.util.PrivilegedActions.getDeclaredMethod;
 public final class StubClass {
     static final Logger LOGGER = Logger.getLogger(StubClass.class.getName());
     static final AtomicInteger counter = new AtomicInteger();
+    /** The invokers for stub classes that are being made, to be fetched by their static initializers */
+    private static final Map<String, MethodHandle[]> pendingInvokers = new ConcurrentHashMap<>();
 
     private static MethodRef[] getMethodRefs(Class<?> type) {
         return doPrivileged(action(() -> BCELClassBuilder.collectMethods(RMIStub.class, type)));
@@ -68,11 +73,44 @@ public final class StubClass {
     }
 
     public static <S extends Stub> Class<S> make(Class<?> type, MethodDescriptor[] descriptors, MethodRef[] methods, ClassLoader loader) {
+        return make(type, descriptors, null, methods, loader);
+    }
+
+    /**
+     * Make a stub class whose methods call the supplied invokers where they are not <code>null</code>,
+     * and otherwise call the stub handler with an array of arguments.
+     * Each invoker must have the type <code>(RMIStub, P...)R</code> for a method <code>R m(P...)</code>.
+     */
+    public static <S extends Stub> Class<S> make(Class<?> type, MethodDescriptor[] descriptors, MethodHandle[] invokers, MethodRef[] methods, ClassLoader loader) {
         loader = chooseLoader(loader, type);
         methods = ofNullable(methods).orElseGet(() -> getMethodRefs(type));
         final MethodRef handler = new MethodRef(STUB_INVOKE_METHOD);
         String className = stubClassName(getPackageName(type));
-        return BCELClassBuilder.makeStub(loader, type, methods, descriptors, handler, className);
+        if (null != invokers) pendingInvokers.put(className, invokers);
+        try {
+            final Class<S> stubClass = BCELClassBuilder.makeStub(loader, type, methods, descriptors, invokers, handler, className);
+            // run the static initializer now, while it can still fetch its invokers
+            if (null != invokers) initialize(stubClass);
+            return stubClass;
+        } finally {
+            pendingInvokers.remove(className);
+        }
+    }
+
+    private static void initialize(Class<?> c) {
+        try {
+            Class.forName(c.getName(), true, getClassLoader(c));
+        } catch (ClassNotFoundException ex) {
+            //noinspection Convert2MethodRef
+            throw wrapped(LOGGER, ex, "cannot initialize stub class " + c.getName(), e -> new Error(e));
+        }
+    }
+
+    /** Called from the static initializer of a generated stub class to fetch one of its invokers. */
+    public static MethodHandle getInvoker(String stubClassName, int index) {
+        final MethodHandle[] invokers = pendingInvokers.get(stubClassName);
+        if (null == invokers) throw new IllegalStateException("no invokers registered for " + stubClassName);
+        return invokers[index];
     }
 
     static String stubClassName(String packageName) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,14 +46,25 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
     public static WriteBuffer createWriteBuffer() { return new WriteBuffer(new Core()); }
     public static WriteBuffer createWriteBuffer(int initialBufferSize) { return new WriteBuffer(new Core(initialBufferSize)); }
 
+    /**
+     * Create a write buffer whose storage is taken from a pool, if one is provided.
+     * The storage is only given back to the pool if {@link #recycle()} is called.
+     */
+    public static WriteBuffer createWriteBuffer(BufferPool pool, int initialBufferSize) {
+        return new WriteBuffer(null == pool ? new Core(initialBufferSize) : new Core(pool, initialBufferSize));
+    }
+
     /**
      * Holds the actual buffer data. Objects of this type are shared between potentially many read or write buffers.
      * This class and its members have package visibility so that the child classes can access them, but note that the
      * constructors are private. Instance objects should always be held in private fields to preserve encapsulation.
      */
     static final class Core {
+        private static final byte[] RECYCLED = {};
         byte[] data; // The octet core
         int length; // The requested size of the core
+        BufferPool pool; // The pool that supplied the data, if any
+        int extent; // The most bytes ever in use, which must be cleared before pooled data is reused
 
         /**
          * Create a Core with initial length zero.
@@ -79,6 +90,15 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
             this.length = len;
         }
 
+        /**
+         * Create a Core with <code>len</code> bytes available for writing, using pooled storage.
+         */
+        private Core(BufferPool pool, int len) {
+            this(pool.take(len), len);
+            this.pool = pool;
+            this.extent = len;
+        }
+
         /**
          * Extend the current core.
          * @param extra the number of additional bytes required beyond the end of the core.
@@ -90,13 +110,35 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
 
             // the existing core might be big enough
             if (length <= data.length) {
+                if (length > extent) extent = length;
                 return false;
             }
             // ok, we need a bigger core
-            data = copyOf(data, computeNewBufferSize(length));
+            if (null == pool) {
+                data = copyOf(data, computeNewBufferSize(length));
+            } else {
+                final byte[] oldData = data;
+                final int oldExtent = extent;
+                data = pool.take(computeNewBufferSize(length));
+                System.arraycopy(oldData, 0, data, 0, length - extra);
+                extent = length;
+                pool.give(oldData, oldExtent);
+            }
             return true;
         }
 
+        /** Give pooled storage back, leaving this core empty so any further access fails. */
+        void recycle() {
+            if (null == pool) return;
+            final BufferPool pool = this.pool;
+            final byte[] oldData = data;
+            final int oldExtent = Math.max(extent, length);
+            this.pool = null;
+            this.data = RECYCLED;
+            this.length = 0;
+            pool.give(oldData, oldExtent);
+        }
+
         private int computeNewBufferSize(int len) {
             // use an allocation threshold of 4 megabytes
             final int MAX_OVERALLOC = 4 * 1024 * 1024;
@@ -135,6 +177,13 @@ public abstract class Buffer<T extends Buffer<T>> implements Cloneable {
     public final int length() { return core.length; }
     final boolean growBy(int numBytes) { return core.growBy(numBytes); }
 
+    /**
+     * Give any pooled storage back to its pool.
+     * This affects every buffer sharing the same data, all of which become empty.
+     * It must only be called when none of them will be used again.
+     */
+    public final void recycle() { core.recycle(); }
+
     /**
      * Aligns the position to the specified boundary.
      */
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.io;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.Integer.numberOfLeadingZeros;
+
+/**
+ * A pool of byte arrays for use as buffer cores.
+ * <p>
+ *     Arrays are pooled in power-of-two size classes from {@value #MIN_SIZE} bytes up to a configurable maximum.
+ *     The arrays of each class are shared by all threads, up to a bounded number of bytes per class,
+ *     so an array given back on one thread can be taken on any other.
+ *     Requests larger than the maximum are simply allocated, and are not kept when given back.
+ * </p>
+ * <p>
+ *     Arrays are cleared when they are given back, so an array taken from the pool is always zeroed,
+ *     just like a newly allocated one.
+ * </p>
+ */
+public final class BufferPool {
+    private static final int MIN_SHIFT = 8;
+    public static final int MIN_SIZE = 1 << MIN_SHIFT;
+    /** The approximate number of bytes of each size class kept in the pool */
+    private static final int BYTES_PER_CLASS = 4 * 1024 * 1024;
+
+    /** The arrays kept for one size class */
+    private static final class SizeClass {
+        final ConcurrentLinkedQueue<byte[]> arrays = new ConcurrentLinkedQueue<>();
+        final AtomicInteger count = new AtomicInteger();
+        final int limit;
+        SizeClass(int limit) { this.limit = limit; }
+    }
+
+    private final int maxSize;
+    private final SizeClass[] classes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder returns = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    /** Create a pool of arrays up to 1 MiB */
+    public BufferPool() { this(1024 * 1024); }
+
+    /**
+     * Create a pool.
+     * @param maxSize the size of the largest pooled arrays, which is rounded up to a power of two
+     */
+    public BufferPool(int maxSize) {
+        if (maxSize < MIN_SIZE) throw new IllegalArgumentException("maximum pooled buffer size must be at least " + MIN_SIZE);
+        final int numClasses = classOf(maxSize) + 1;
+        this.maxSize = sizeOf(numClasses - 1);
+        this.classes = new SizeClass[numClasses];
+        for (int i = 0; i < numClasses; i++) classes[i] = new SizeClass(Math.max(2, BYTES_PER_CLASS / sizeOf(i)));
+    }
+
+    private static int classOf(int size) { return size <= MIN_SIZE ? 0 : 32 - numberOfLeadingZeros(size - 1) - MIN_SHIFT; }
+    private static int sizeOf(int sizeClass) { return MIN_SIZE << sizeClass; }
+
+    /**
+     * Take a zeroed array of at least the specified size.
+     * The array should be given back with {@link #give(byte[], int)} when it is no longer in use.
+     */
+    public byte[] take(int minSize) {
+        if (minSize > maxSize) {
+            misses.increment();
+            return new byte[minSize];
+        }
+        final int sizeClass = classOf(minSize);
+        final SizeClass sc = classes[sizeClass];
+        final byte[] result = sc.arrays.poll();
+        if (result == null) {
+            misses.increment();
+            return new byte[sizeOf(sizeClass)];
+        }
+        sc.count.decrementAndGet();
+        hits.increment();
+        return result;
+    }
+
+    /**
+     * Give back an array that is no longer in use.
+     * Arrays that were not taken from this pool are accepted, but only kept if they are exactly the size of a class.
+     * @param array the array, which must not be used again by the caller
+     * @param used the number of leading bytes that might have been written, and must be cleared
+     */
+    public void give(byte[] array, int used) {
+        final int size = array.length;
+        if (size > maxSize || size < MIN_SIZE || Integer.bitCount(size) != 1) {
+            discards.increment();
+            return;
+        }
+        Arrays.fill(array, 0, Math.min(used, size), (byte) 0);
+        final SizeClass sc = classes[classOf(size)];
+        if (sc.count.incrementAndGet() > sc.limit) {
+            sc.count.decrementAndGet();
+            discards.increment();
+            return;
+        }
+        sc.arrays.offer(array);
+        returns.increment();
+    }
+
+    /** The number of requests satisfied from the pool */
+    public long getHits() { return hits.sum(); }
+    /** The number of requests that needed a new array */
+    public long getMisses() { return misses.sum(); }
+    /** The number of arrays given back and kept */
+    public long getReturns() { return returns.sum(); }
+    /** The number of arrays given back but not kept */
+    public long getDiscards() { return discards.sum(); }
+
+    @Override
+    public String toString() {
+        return String.format("BufferPool{maxSize=%d, hits=%d, misses=%d, returns=%d, discards=%d}",
+                maxSize, getHits(), getMisses(), getReturns(), getDiscards());
+    }
+}
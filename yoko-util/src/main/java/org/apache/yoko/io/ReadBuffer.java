@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,14 @@ package org.apache.yoko.io;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.apache.yoko.util.Hex.formatHexPara;
 import static org.apache.yoko.util.HexConverter.toHex;
 
@@ -48,6 +55,23 @@ public final class ReadBuffer extends Buffer<ReadBuffer> {
 
     public byte[] copyRemainingBytes() { return copyOfRange(checkedBytes(0), position, length()); }
 
+    /**
+     * Read the next <code>length</code> bytes as a string, iff they are all 7-bit ASCII.
+     * @return the string, or <code>null</code> if any byte has the high bit set, in which case nothing is read
+     */
+    public String tryReadAscii(int length) {
+        final byte[] data = checkedBytes(length);
+        for (int i = position, end = position + length; i < end; i++) if (data[i] < 0) return null;
+        return readLatin1(length);
+    }
+
+    /** Read the next <code>length</code> bytes as ISO-8859-1 chars. */
+    public String readLatin1(int length) {
+        final String result = new String(checkedBytes(length), position, length, ISO_8859_1);
+        position += length;
+        return result;
+    }
+
     public char peekChar() {
         final byte[] data = checkedBytes(2);
         return (char)((data[position] << 8) | (data[position + 1] & 0xff));
@@ -122,6 +146,32 @@ public final class ReadBuffer extends Buffer<ReadBuffer> {
     public double readDouble() { return Double.longBitsToDouble(readLong()); }
     public double readDouble_LE() { return Double.longBitsToDouble(readLong_LE()); }
 
+    /*
+     * Bulk reads of primitive arrays.
+     * These decode the whole array in one pass over a typed view of the data,
+     * rather than making a call and a bounds check per element.
+     */
+
+    public ReadBuffer readShorts(short[] dst, int offset, int count) { view(count, 1, BIG_ENDIAN).asShortBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readShorts_LE(short[] dst, int offset, int count) { view(count, 1, LITTLE_ENDIAN).asShortBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readInts(int[] dst, int offset, int count) { view(count, 2, BIG_ENDIAN).asIntBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readInts_LE(int[] dst, int offset, int count) { view(count, 2, LITTLE_ENDIAN).asIntBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readLongs(long[] dst, int offset, int count) { view(count, 3, BIG_ENDIAN).asLongBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readLongs_LE(long[] dst, int offset, int count) { view(count, 3, LITTLE_ENDIAN).asLongBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readFloats(float[] dst, int offset, int count) { view(count, 2, BIG_ENDIAN).asFloatBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readFloats_LE(float[] dst, int offset, int count) { view(count, 2, LITTLE_ENDIAN).asFloatBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readDoubles(double[] dst, int offset, int count) { view(count, 3, BIG_ENDIAN).asDoubleBuffer().get(dst, offset, count); return this; }
+    public ReadBuffer readDoubles_LE(double[] dst, int offset, int count) { view(count, 3, LITTLE_ENDIAN).asDoubleBuffer().get(dst, offset, count); return this; }
+
+    /** Consume the bytes for <code>count</code> elements of size <code>1 &lt;&lt; shift</code>, as a buffer with the specified byte order. */
+    private ByteBuffer view(int count, int shift, ByteOrder order) {
+        if (count < 0 || count > Integer.MAX_VALUE >> shift) throw new IndexOutOfBoundsException();
+        final int size = count << shift;
+        final ByteBuffer result = ByteBuffer.wrap(checkedBytes(size), position, size).slice().order(order);
+        position += size;
+        return result;
+    }
+
     public String toAscii() {
         return toHex(checkedBytes(0), available());
     }
@@ -161,6 +211,34 @@ public final class ReadBuffer extends Buffer<ReadBuffer> {
         }
     }
 
+    /**
+     * Write as much of the remaining data as the channel will accept without blocking
+     * (or as much as a single write accepts, for a blocking channel).
+     * @return the number of bytes written
+     */
+    public int writeTo(WritableByteChannel channel) throws IOException {
+        final int result = channel.write(ByteBuffer.wrap(checkedBytes(0), position, available()));
+        position += result;
+        return result;
+    }
+
+    /**
+     * Write as much of the remaining data in several buffers as the channel will accept without blocking
+     * (or as much as a single write accepts, for a blocking channel), using a single gathering write.
+     * The buffers are written in order, and each buffer's position is advanced past the data written from it.
+     * @return the number of bytes written
+     */
+    public static long writeTo(GatheringByteChannel channel, ReadBuffer... buffers) throws IOException {
+        final ByteBuffer[] views = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            final ReadBuffer buffer = buffers[i];
+            views[i] = ByteBuffer.wrap(buffer.checkedBytes(0), buffer.position, buffer.available());
+        }
+        final long result = channel.write(views);
+        for (int i = 0; i < buffers.length; i++) buffers[i].position = views[i].position();
+        return result;
+    }
+
     public ReadBuffer rewindToStart() {
         position = 0;
         return this;
@@ -20,10 +20,13 @@ package org.apache.yoko.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 
 import static java.lang.Double.doubleToRawLongBits;
 import static java.lang.Float.floatToRawIntBits;
+import static java.nio.ByteOrder.BIG_ENDIAN;
 import static org.apache.yoko.logging.VerboseLogging.MARSHAL_OUT_LOG;
 
 @SuppressWarnings({"PointlessBitwiseExpression", "OctalInteger"})
@@ -54,6 +57,18 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
         }
     }
 
+    /**
+     * Fill as much of the remaining buffer as the channel can supply without blocking
+     * (or as much as a single read supplies, for a blocking channel).
+     * @return the number of bytes read, or <code>-1</code> if the channel has reached end-of-stream
+     */
+    public int readFrom(ReadableByteChannel channel) throws IOException {
+        final int result = channel.read(ByteBuffer.wrap(checkedBytes(0), position, available()));
+        if (result > 0) position += result;
+        assert position <= length();
+        return result;
+    }
+
     public WriteBuffer readFrom(org.omg.CORBA.portable.InputStream source) {
         source.read_octet_array(checkedBytes(0), position, available());
         position = length();
@@ -70,6 +85,18 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
         return this;
     }
 
+    /**
+     * Write the low byte of each char in the string.
+     * The caller must check that no char in the string is greater than 0xFF.
+     */
+    @SuppressWarnings("deprecation")
+    public WriteBuffer writeLatin1(String s) {
+        final int length = s.length();
+        s.getBytes(0, length, checkedBytes(length), position);
+        position += length;
+        return this;
+    }
+
     public WriteBuffer write(int i) { return writeByte(i); }
 
     public WriteBuffer writeByte(int i) {
@@ -122,6 +149,27 @@ public final class WriteBuffer extends Buffer<WriteBuffer> {
 
     public WriteBuffer writeDouble(double value) { return writeLong(doubleToRawLongBits(value)); }
 
+    /*
+     * Bulk writes of primitive arrays, always in big-endian order.
+     * These encode the whole array in one pass over a typed view of the data,
+     * rather than making a call and a bounds check per element.
+     */
+
+    public WriteBuffer writeShorts(short[] src, int offset, int count) { view(count, 1).asShortBuffer().put(src, offset, count); return this; }
+    public WriteBuffer writeInts(int[] src, int offset, int count) { view(count, 2).asIntBuffer().put(src, offset, count); return this; }
+    public WriteBuffer writeLongs(long[] src, int offset, int count) { view(count, 3).asLongBuffer().put(src, offset, count); return this; }
+    public WriteBuffer writeFloats(float[] src, int offset, int count) { view(count, 2).asFloatBuffer().put(src, offset, count); return this; }
+    public WriteBuffer writeDoubles(double[] src, int offset, int count) { view(count, 3).asDoubleBuffer().put(src, offset, count); return this; }
+
+    /** Reserve the bytes for <code>count</code> elements of size <code>1 &lt;&lt; shift</code>, as a big-endian buffer to be filled. */
+    private ByteBuffer view(int count, int shift) {
+        if (count < 0 || count > Integer.MAX_VALUE >> shift) throw new IndexOutOfBoundsException();
+        final int size = count << shift;
+        final ByteBuffer result = ByteBuffer.wrap(checkedBytes(size), position, size).slice().order(BIG_ENDIAN);
+        position += size;
+        return result;
+    }
+
     /**
      * Leaves a 4 byte space to write a length. When {@link SimplyCloseable#close()} is called,
      * the number of intervening bytes is written as a length to the remembered location.
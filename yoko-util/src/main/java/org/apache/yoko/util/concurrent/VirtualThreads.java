@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.util.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * A Java 8-compatible way to create virtual threads when the running JVM supports them (Java 21 or later).
+ *
+ * <p>The virtual thread API is located reflectively once, so the same binaries run on older JVMs,
+ * where every method in this class reports that virtual threads are unavailable.
+ */
+public final class VirtualThreads {
+    private static final Logger logger = Logger.getLogger(VirtualThreads.class.getName());
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null, name = null, factory = null, newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // on some JVMs the API exists as a preview feature, which fails when used
+            factory.invoke(ofVirtual.invoke(null));
+        } catch (Exception | LinkageError e) {
+            logger.log(FINE, "Virtual threads are not supported by this JVM", e);
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {}
+
+    /** @return <code>true</code> if this JVM can create virtual threads */
+    public static boolean isSupported() { return OF_VIRTUAL != null; }
+
+    /**
+     * @param prefix the name prefix for the threads, which are numbered from zero
+     * @return a factory for virtual threads, or nothing if this JVM does not support them
+     */
+    public static Optional<ThreadFactory> newThreadFactory(String prefix) {
+        if (!isSupported()) return Optional.empty();
+        try {
+            return Optional.of((ThreadFactory) FACTORY.invoke(NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L)));
+        } catch (ReflectiveOperationException e) {
+            logger.log(FINE, "Unable to create a virtual thread factory", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @param prefix the name prefix for the threads, which are numbered from zero
+     * @return an executor that starts a new virtual thread for each task, or nothing if this JVM does not support them
+     */
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(String prefix) {
+        return newThreadFactory(prefix).map(f -> {
+            try {
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, f);
+            } catch (ReflectiveOperationException e) {
+                logger.log(FINE, "Unable to create a virtual thread executor", e);
+                return null;
+            }
+        });
+    }
+}
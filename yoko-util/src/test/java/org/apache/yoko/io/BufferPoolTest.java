@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.apache.yoko.io.Buffer.createWriteBuffer;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BufferPoolTest {
+    final BufferPool pool = new BufferPool(4096);
+
+    @Test
+    void testGrowingBufferKeepsData() {
+        WriteBuffer wb = createWriteBuffer(pool, 4);
+        for (int i = 0; i < 1000; i++) {
+            wb.ensureAvailable(4);
+            wb.writeInt(i);
+        }
+        ReadBuffer rb = wb.readFromStart();
+        for (int i = 0; i < 1000; i++) assertThat(rb.readInt(), is(i));
+        // every grow should have given the old array back
+        assertThat(pool.getReturns(), is(pool.getMisses() - 1));
+    }
+
+    @Test
+    void testRecycledArraysAreReusedAndZeroed() {
+        WriteBuffer wb = createWriteBuffer(pool, 100);
+        while (!wb.isComplete()) wb.writeByte(0xFF);
+        wb.recycle();
+        assertThat(pool.getReturns(), is(1L));
+        ReadBuffer rb = createWriteBuffer(pool, 200).readFromStart();
+        assertThat(pool.getHits(), is(1L));
+        while (!rb.isComplete()) assertThat(rb.readByte(), is((byte) 0));
+    }
+
+    @Test
+    void testRecycledBufferCannotBeRead() {
+        WriteBuffer wb = createWriteBuffer(pool, 8).writeLong(42L);
+        ReadBuffer rb = wb.readFromStart();
+        wb.recycle();
+        assertThrows(IndexOutOfBoundsException.class, rb::readLong);
+        // recycling twice is harmless
+        rb.recycle();
+        assertThat(pool.getReturns(), is(1L));
+    }
+
+    @Test
+    void testArraysGivenBackOnAnotherThreadAreReused() throws Exception {
+        Thread t = new Thread(() -> createWriteBuffer(pool, 100).recycle());
+        t.start();
+        t.join();
+        assertThat(pool.getReturns(), is(1L));
+        createWriteBuffer(pool, 100).recycle();
+        assertThat(pool.getHits(), is(1L));
+    }
+
+    @Test
+    void testOversizedArraysAreNotKept() {
+        createWriteBuffer(pool, 5000).recycle();
+        assertThat(pool.getMisses(), is(1L));
+        assertThat(pool.getDiscards(), is(1L));
+    }
+}
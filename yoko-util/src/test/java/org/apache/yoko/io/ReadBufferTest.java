@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,13 +19,19 @@ package org.apache.yoko.io;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.charset.StandardCharsets;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.yoko.io.Buffer.createReadBuffer;
+import static org.apache.yoko.io.Buffer.createWriteBuffer;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ReadBufferTest {
     @Test
@@ -47,4 +53,75 @@ public class ReadBufferTest {
         rb.skipBytes(6);
         assertThat(new String(rb.copyRemainingBytes(), UTF_8), equalTo("hello"));
     }
+
+    @Test
+    void testBulkReadsMatchSingleReads() {
+        var wb = createWriteBuffer(64);
+        wb.writeShorts(new short[]{0, 0x0102, -2}, 1, 2);
+        wb.writeInts(new int[]{0x01020304, -3}, 0, 2);
+        wb.writeLongs(new long[]{0x0102030405060708L}, 0, 1);
+        wb.writeDoubles(new double[]{Math.PI}, 0, 1);
+        var rb = wb.trim().readFromStart();
+        var shorts = new short[3];
+        rb.readShorts(shorts, 1, 2);
+        assertArrayEquals(new short[]{0, 0x0102, -2}, shorts);
+        var ints = new int[2];
+        rb.readInts(ints, 0, 2);
+        assertArrayEquals(new int[]{0x01020304, -3}, ints);
+        assertThat(rb.readLong(), is(0x0102030405060708L));
+        var doubles = new double[1];
+        rb.readDoubles(doubles, 0, 1);
+        assertArrayEquals(new double[]{Math.PI}, doubles);
+        assertThat(rb.isComplete(), is(true));
+    }
+
+    @Test
+    void testBulkLittleEndianReads() {
+        var rb = createReadBuffer(new byte[]{4, 3, 2, 1, 8, 7, 6, 5});
+        var ints = new int[2];
+        rb.readInts_LE(ints, 0, 2);
+        assertArrayEquals(new int[]{0x01020304, 0x05060708}, ints);
+        rb.rewindToStart();
+        var longs = new long[1];
+        rb.readLongs_LE(longs, 0, 1);
+        assertArrayEquals(new long[]{0x0506070801020304L}, longs);
+    }
+
+    @Test
+    void testBulkReadOverflow() {
+        var rb = createReadBuffer(new byte[6]);
+        assertThrows(IndexOutOfBoundsException.class, () -> rb.readInts(new int[2], 0, 2));
+        assertThat(rb.getPosition(), is(0));
+    }
+
+    @Test
+    void testGatheringWrite() throws Exception {
+        var first = createReadBuffer("hello, ".getBytes(UTF_8));
+        var second = createReadBuffer("well, world".getBytes(UTF_8));
+        second.skipBytes(6);
+        var sink = new ByteArrayOutputStream();
+        // a channel that accepts at most 9 bytes per write
+        GatheringByteChannel channel = new GatheringByteChannel() {
+            public long write(ByteBuffer[] srcs, int offset, int length) {
+                int total = 0;
+                for (int i = offset; i < offset + length; i++) {
+                    while (srcs[i].hasRemaining() && total < 9) {
+                        sink.write(srcs[i].get());
+                        total++;
+                    }
+                }
+                return total;
+            }
+            public long write(ByteBuffer[] srcs) { return write(srcs, 0, srcs.length); }
+            public int write(ByteBuffer src) { return (int) write(new ByteBuffer[]{src}); }
+            public boolean isOpen() { return true; }
+            public void close() {}
+        };
+        assertThat(ReadBuffer.writeTo(channel, first, second), is(9L));
+        assertThat(first.isComplete(), is(true));
+        assertThat(second.getPosition(), is(8));
+        assertThat(ReadBuffer.writeTo(channel, first, second), is(3L));
+        assertThat(second.isComplete(), is(true));
+        assertThat(new String(sink.toByteArray(), UTF_8), equalTo("hello, world"));
+    }
 }
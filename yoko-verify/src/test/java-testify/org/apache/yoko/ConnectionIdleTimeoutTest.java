@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko;
+
+import acme.Echo;
+import org.apache.yoko.orb.OB.ORBInstance;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import testify.iiop.annotation.ConfigureOrb;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.util.function.BooleanSupplier;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check that a client connection left idle for longer than <code>yoko.orb.client_timeout</code>
+ * is closed by its ACM timer, and that a later call opens a new one.
+ */
+@ConfigureServer(
+        clientOrb = @ConfigureOrb(props = "yoko.orb.client_timeout=1")
+)
+public class ConnectionIdleTimeoutTest {
+    @RemoteImpl
+    public static final Echo IMPL = s -> s;
+
+    @Test
+    public void testIdleConnectionClosesAndReopens(Echo stub, ORB orb) throws Exception {
+        ORBInstance orbInstance = ((ORB_impl) orb)._OB_ORBInstance();
+        for (int round = 0; round < 2; round++) {
+            assertThat(stub.echo("round " + round), is("round " + round));
+            assertThat(orbInstance.getOutboundConnectionCache().size(), greaterThan(0));
+            assertTrue(waitFor(() -> orbInstance.getOutstandingTimers() > 0), "idle timeout should be scheduled");
+            assertTrue(waitFor(() -> orbInstance.getOutboundConnectionCache().size() == 0), "idle connection should be closed");
+            assertTrue(waitFor(() -> orbInstance.getOutstandingTimers() == 0), "no idle timeout should remain");
+        }
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = nanoTime() + SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (nanoTime() - deadline > 0) return false;
+            Thread.sleep(50);
+        }
+        return true;
+    }
+}
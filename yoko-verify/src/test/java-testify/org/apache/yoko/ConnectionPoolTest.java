@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko;
+
+import acme.RemoteRunnable;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.apache.yoko.util.Cache;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.ORB;
+import testify.iiop.annotation.ConfigureOrb;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.sleep;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@ConfigureServer(
+        clientOrb = @ConfigureOrb(props = {"yoko.orb.client_pool.max_size=3", "yoko.orb.client_pool.threshold=1", "yoko.orb.client_timeout=1"})
+)
+public class ConnectionPoolTest {
+    interface Sleeper extends RemoteRunnable {}
+
+    @RemoteImpl
+    public static final Sleeper IMPL = () -> sleep(200);
+
+    @Test
+    public void testConcurrentCallsSpreadOverConnections(Sleeper stub, ORB orb) throws Exception {
+        callConcurrently(stub);
+        int connections = ((ORB_impl) orb)._OB_ORBInstance().getOutboundConnectionCache().size();
+        assertThat(connections, allOf(greaterThan(1), lessThanOrEqualTo(3)));
+    }
+
+    @Test
+    public void testIdleConnectionsLeaveThePool(Sleeper stub, ORB orb) throws Exception {
+        Cache<?, ?> cache = ((ORB_impl) orb)._OB_ORBInstance().getOutboundConnectionCache();
+        callConcurrently(stub);
+        assertThat(cache.size(), greaterThan(1));
+        // active connection management closes every idle connection, removing it from the cache
+        final long deadline = nanoTime() + SECONDS.toNanos(10);
+        while (cache.size() > 0 && nanoTime() - deadline < 0) sleep(50);
+        assertThat(cache.size(), is(0));
+        // the closed members must be dropped from the pool, so that it can grow again
+        callConcurrently(stub);
+        assertThat(cache.size(), allOf(greaterThan(1), lessThanOrEqualTo(3)));
+    }
+
+    private static void callConcurrently(Sleeper stub) throws Exception {
+        ExecutorService executor = newFixedThreadPool(6);
+        try {
+            List<Callable<Void>> calls = new ArrayList<>();
+            for (int i = 0; i < 6; i++) calls.add(() -> { stub.run(); return null; });
+            for (Future<Void> f : executor.invokeAll(calls)) f.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko;
+
+import acme.RemoteFunction;
+import org.junit.jupiter.api.Test;
+import testify.annotation.Logging;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.io.Serializable;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Round-trip value types whose fields are marshalled by the per-class field marshaller,
+ * with and without the marshalling loggers enabled.
+ */
+@ConfigureServer
+public class FieldMarshallerTest {
+    public static class Base implements Serializable {
+        private static final long serialVersionUID = 1L;
+        int baseInt = 1;
+        String baseName = "base";
+    }
+
+    public static class Leaf extends Base {
+        private static final long serialVersionUID = 1L;
+        boolean z;
+        byte b;
+        short s;
+        char c;
+        int i;
+        long j;
+        float f;
+        double d;
+        final int fin;
+        transient int trans;
+        Leaf other;
+        Object shared;
+        Object sharedAgain;
+
+        Leaf(int fin) { this.fin = fin; }
+    }
+
+    interface Echo extends RemoteFunction<Leaf, Leaf> {}
+
+    @RemoteImpl
+    public static final Echo IMPL = leaf -> leaf;
+
+    private static Leaf createGraph() {
+        Leaf first = new Leaf(11), second = new Leaf(22);
+        first.z = true;
+        first.b = -1;
+        first.s = -2;
+        first.c = '\u00E9';
+        first.i = -3;
+        first.j = Long.MIN_VALUE;
+        first.f = 1.5f;
+        first.d = Math.PI;
+        first.trans = 99;
+        first.baseInt = 70;
+        first.baseName = "first";
+        List<String> shared = new ArrayList<>(Arrays.asList("x", "y"));
+        first.shared = shared;
+        first.sharedAgain = shared;
+        second.shared = shared;
+        first.other = second;
+        second.other = first;
+        return first;
+    }
+
+    private static void assertRoundTrip(Echo stub) throws RemoteException {
+        Leaf sent = createGraph();
+        Leaf received = stub.apply(sent);
+        assertNotSame(sent, received);
+        // primitive fields
+        assertEquals(true, received.z);
+        assertEquals(-1, received.b);
+        assertEquals(-2, received.s);
+        assertEquals('\u00E9', received.c);
+        assertEquals(-3, received.i);
+        assertEquals(Long.MIN_VALUE, received.j);
+        assertEquals(1.5f, received.f);
+        assertEquals(Math.PI, received.d);
+        // final and transient fields
+        assertEquals(11, received.fin);
+        assertEquals(0, received.trans);
+        // inherited fields
+        assertEquals(70, received.baseInt);
+        assertEquals("first", received.baseName);
+        // object fields with shared references
+        assertEquals(22, received.other.fin);
+        assertFalse(received.other.z);
+        assertSame(received, received.other.other);
+        assertSame(received.shared, received.sharedAgain);
+        assertSame(received.shared, received.other.shared);
+        assertEquals(Arrays.asList("x", "y"), received.shared);
+    }
+
+    @Test
+    public void testRoundTrip(Echo stub) throws RemoteException {
+        assertRoundTrip(stub);
+    }
+
+    @Test
+    @Logging("yoko.verbose.marshal")
+    public void testRoundTripWithLogging(Echo stub) throws RemoteException {
+        assertRoundTrip(stub);
+    }
+}
@@ -44,6 +44,7 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.CoreMatchers.theInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -263,6 +264,18 @@ class JavaValueTest {
         NameComponents.assertEquals(expected, actual);
     }
 
+    @Test
+    void unmarshalIntArrayChunkedValueSplitWithinArray() {
+        // the sender may end a chunk between any two elements of the array
+        writeHex("" +
+                "    7fffff0a 00000018 524d493a 5b493a30  \"........RMI:[I:0\"\n" +
+                "    30303030 30303030 30303030 30303000  \"000000000000000.\"\n" +
+                "    0000000c 00000004 00000001 00000002  \"................\"\n" +
+                "    00000008 00000003 00000004 ffffffff  \"................\"");
+        int[] actual = (int[])in.read_value(int[].class);
+        assertArrayEquals(new int[]{1, 2, 3, 4}, actual);
+    }
+
     @Test
     void unmarshalNameComponentArray() {
         writeHex("" +
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko;
+
+import org.apache.yoko.rmi.util.stub.Stub;
+import org.junit.jupiter.api.Test;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.PortableInterceptor.ForwardRequest;
+import org.omg.PortableInterceptor.ServerRequestInfo;
+import testify.iiop.TestServerRequestInterceptor;
+import testify.iiop.annotation.ConfigureOrb.UseWithOrb;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import javax.rmi.CORBA.Util;
+import javax.rmi.PortableRemoteObject;
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static testify.iiop.annotation.ConfigureOrb.UseWithOrb.InitializerScope.SERVER;
+import static testify.iiop.annotation.ConfigureServer.Separation.COLLOCATED;
+
+/**
+ * Calls a remote interface through a generated stub, whose methods use typed invokers
+ * for remote calls and fall back to the stub handler otherwise.
+ */
+@ConfigureServer
+public class StubInvokerTest {
+    /** Re-run the tests collocated, where the stub handler makes local calls */
+    @ConfigureServer(separation = COLLOCATED)
+    static class StubInvokerCollocatedTest extends StubInvokerTest {
+        @Override
+        boolean expectLocal() { return true; }
+    }
+
+    public interface Calculator extends Remote {
+        int add(int a, int b) throws RemoteException;
+        void accumulate(long n) throws RemoteException;
+        long total() throws RemoteException;
+        String describe(String prefix, double d, char c) throws RemoteException;
+        int countRetried() throws RemoteException;
+    }
+
+    public static class CalculatorImpl extends PortableRemoteObject implements Calculator {
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicInteger retried = new AtomicInteger();
+
+        public CalculatorImpl() throws RemoteException {}
+
+        public int add(int a, int b) { return a + b; }
+        public void accumulate(long n) { total.addAndGet(n); }
+        public long total() { return total.get(); }
+        public String describe(String prefix, double d, char c) { return prefix + d + c; }
+        public int countRetried() { return retried.incrementAndGet(); }
+
+        static CalculatorImpl newInstance() {
+            try {
+                return new CalculatorImpl();
+            } catch (RemoteException e) {
+                throw new Error(e);
+            }
+        }
+    }
+
+    @RemoteImpl
+    public static final Calculator IMPL = CalculatorImpl.newInstance();
+
+    /** Forwards the first countRetried() request back to the same object, so that the client must remarshal it */
+    @UseWithOrb(scope = SERVER)
+    public static class ForwardOnce implements TestServerRequestInterceptor {
+        static final AtomicBoolean forwarded = new AtomicBoolean();
+
+        public void receive_request_service_contexts(ServerRequestInfo ri) throws ForwardRequest {
+            if (!"countRetried".equals(ri.operation())) return;
+            if (forwarded.compareAndSet(false, true)) throw new ForwardRequest(Util.getTie(IMPL).thisObject());
+        }
+    }
+
+    boolean expectLocal() { return false; }
+
+    @Test
+    void testStubIsGenerated(Calculator stub) {
+        assertThat(stub, instanceOf(Stub.class));
+        assertEquals(expectLocal(), ((ObjectImpl) stub)._is_local());
+    }
+
+    @Test
+    void testPrimitiveReturn(Calculator stub) throws RemoteException {
+        assertEquals(5, stub.add(2, 3));
+        assertEquals(Integer.MIN_VALUE, stub.add(Integer.MAX_VALUE, 1));
+    }
+
+    @Test
+    void testVoidReturn(Calculator stub) throws RemoteException {
+        final long before = stub.total();
+        stub.accumulate(40L);
+        stub.accumulate(2L);
+        assertEquals(before + 42L, stub.total());
+    }
+
+    @Test
+    void testObjectReturn(Calculator stub) throws RemoteException {
+        assertEquals("pi=3.5\u00E9", stub.describe("pi=", 3.5, '\u00E9'));
+    }
+
+    @Test
+    void testRetryAfterForward(Calculator stub) throws RemoteException {
+        ForwardOnce.forwarded.set(false);
+        final int before = ((CalculatorImpl) IMPL).retried.get();
+        // the forwarded request never reaches the servant, so the retried call is counted once
+        assertEquals(before + 1, stub.countRetried());
+        if (!expectLocal()) assertTrue(ForwardOnce.forwarded.get());
+    }
+}
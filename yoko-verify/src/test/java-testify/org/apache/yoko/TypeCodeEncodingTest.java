@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko;
+
+import org.apache.yoko.orb.CORBA.YokoInputStream;
+import org.apache.yoko.orb.CORBA.YokoOutputStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.omg.CORBA.Any;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.StructMember;
+import org.omg.CORBA.TypeCode;
+import org.omg.CORBA.UnionMember;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.omg.CORBA.TCKind.tk_long;
+import static org.omg.CORBA.TCKind.tk_longlong;
+import static org.omg.CORBA.TCKind.tk_string;
+import static org.omg.CORBA.TCKind.tk_wchar;
+
+/**
+ * Check that TypeCodes written from the per-TypeCode encoding cache
+ * are byte-for-byte the same as TypeCodes marshalled afresh.
+ */
+class TypeCodeEncodingTest {
+    static ORB cachingOrb, plainOrb;
+    static TypeCode[] typeCodes;
+
+    @BeforeAll
+    static void createOrbs() {
+        cachingOrb = ORB.init((String[]) null, null);
+        Properties props = new Properties();
+        props.put("yoko.orb.use_type_code_cache", "false");
+        plainOrb = ORB.init((String[]) null, props);
+        TypeCode l = cachingOrb.get_primitive_tc(tk_long);
+        TypeCode s = cachingOrb.create_struct_tc("IDL:test/S:1.0", "S", new StructMember[]{
+                new StructMember("a", l, null),
+                new StructMember("b", cachingOrb.get_primitive_tc(tk_string), null)});
+        // a recursive struct, which is marshalled with an indirection
+        TypeCode r = cachingOrb.create_struct_tc("IDL:test/R:1.0", "R", new StructMember[]{
+                new StructMember("v", l, null),
+                new StructMember("next", cachingOrb.create_sequence_tc(0, cachingOrb.create_recursive_tc("IDL:test/R:1.0")), null)});
+        // a union with eight-byte labels, whose encoding depends on alignment
+        Any one = cachingOrb.create_any(), two = cachingOrb.create_any();
+        one.insert_longlong(1L);
+        two.insert_longlong(2L);
+        TypeCode u = cachingOrb.create_union_tc("IDL:test/U:1.0", "U", cachingOrb.get_primitive_tc(tk_longlong), new UnionMember[]{
+                new UnionMember("x", one, s, null),
+                new UnionMember("y", two, r, null)});
+        // a union with wchar labels, whose encoding depends on the wchar codec
+        Any a = cachingOrb.create_any(), z = cachingOrb.create_any();
+        a.insert_wchar('a');
+        z.insert_wchar('\u00E9');
+        TypeCode w = cachingOrb.create_union_tc("IDL:test/W:1.0", "W", cachingOrb.get_primitive_tc(tk_wchar), new UnionMember[]{
+                new UnionMember("a", a, l, null),
+                new UnionMember("z", z, s, null)});
+        typeCodes = new TypeCode[]{s, r, u, w};
+    }
+
+    @AfterAll
+    static void destroyOrbs() {
+        cachingOrb.destroy();
+        plainOrb.destroy();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4, 5})
+    void testCachedEncodingMatches(int leadingOctets) {
+        String expected = writeTwice(plainOrb, leadingOctets);
+        assertThat(writeTwice(cachingOrb, leadingOctets), is(expected));
+    }
+
+    private static String writeTwice(ORB orb, int leadingOctets) {
+        YokoOutputStream out = (YokoOutputStream) orb.create_output_stream();
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < leadingOctets; j++) out.write_octet((byte) 0);
+            for (TypeCode tc : typeCodes) out.write_TypeCode(tc);
+        }
+        YokoInputStream in = (YokoInputStream) out.create_input_stream();
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < leadingOctets; j++) in.read_octet();
+            for (TypeCode tc : typeCodes) assertThat(in.read_TypeCode().equal(tc), is(true));
+        }
+        return ((YokoInputStream) out.create_input_stream()).dumpAllData();
+    }
+}
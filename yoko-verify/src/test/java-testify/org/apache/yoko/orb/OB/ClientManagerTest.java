@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import acme.Echo;
+import org.apache.yoko.orb.BiDirPolicy.BidirectionalPolicy_impl;
+import org.apache.yoko.orb.CORBA.Delegate;
+import org.apache.yoko.orb.OBCORBA.ORB_impl;
+import org.junit.jupiter.api.Test;
+import org.omg.BiDirPolicy.BOTH;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA.Policy;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.IOP.IOR;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Check that the client manager finds reusable clients by endpoint.
+ */
+@ConfigureServer
+public class ClientManagerTest {
+    private static final Policy[] NO_POLICIES = {};
+    private static final Policy[] BIDIR = { new BidirectionalPolicy_impl(BOTH.value) };
+
+    @RemoteImpl
+    public static final Echo IMPL = s -> s;
+
+    @Test
+    public void testClientIsReusedForTheSameEndpoint(Echo stub, ORB orb) {
+        ClientManager manager = clientManager(orb);
+        IOR ior = iorOf(stub);
+        Vector<ClientProfilePair> first = manager.getClientProfilePairs(ior, NO_POLICIES);
+        Vector<ClientProfilePair> second = manager.getClientProfilePairs(ior, NO_POLICIES);
+        try {
+            assertThat(clientOf(second), sameInstance(clientOf(first)));
+        } finally {
+            release(manager, first);
+            release(manager, second);
+        }
+    }
+
+    @Test
+    public void testBidirAndNonBidirClientsAreKeptApart(Echo stub, ORB orb) {
+        ClientManager manager = clientManager(orb);
+        IOR ior = iorOf(stub);
+        Vector<ClientProfilePair> plain = manager.getClientProfilePairs(ior, NO_POLICIES);
+        Vector<ClientProfilePair> bidir = manager.getClientProfilePairs(ior, BIDIR);
+        Vector<ClientProfilePair> bidirAgain = manager.getClientProfilePairs(ior, BIDIR);
+        try {
+            assertThat(clientOf(bidir), not(sameInstance(clientOf(plain))));
+            assertThat(clientOf(bidirAgain), sameInstance(clientOf(bidir)));
+        } finally {
+            release(manager, plain);
+            release(manager, bidir);
+            release(manager, bidirAgain);
+        }
+    }
+
+    @Test
+    public void testDestroyedClientsLeaveTheIndex(Echo stub, ORB orb) {
+        ClientManager manager = clientManager(orb);
+        IOR ior = iorOf(stub);
+        // a besmirched client is destroyed while still in use, so only its removal from the index stops it being reused
+        Vector<ClientProfilePair> besmirched = manager.getClientProfilePairs(ior, BIDIR);
+        manager.besmirchClient(clientOf(besmirched));
+        Vector<ClientProfilePair> replacement = manager.getClientProfilePairs(ior, BIDIR);
+        try {
+            assertThat(clientOf(replacement), not(sameInstance(clientOf(besmirched))));
+        } finally {
+            release(manager, besmirched);
+            release(manager, replacement);
+        }
+        // a client released by its last user is destroyed, and must not be found again
+        Vector<ClientProfilePair> next = manager.getClientProfilePairs(ior, BIDIR);
+        try {
+            assertThat(clientOf(next), not(sameInstance(clientOf(replacement))));
+        } finally {
+            release(manager, next);
+        }
+    }
+
+    @Test
+    public void testConcurrentLookupsCreateOneClient(Echo stub, ORB orb) throws Exception {
+        final int threads = 8;
+        ClientManager manager = clientManager(orb);
+        IOR ior = iorOf(stub);
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService executor = newFixedThreadPool(threads);
+        List<Vector<ClientProfilePair>> results = new ArrayList<>();
+        try {
+            List<Callable<Vector<ClientProfilePair>>> lookups = new ArrayList<>();
+            for (int i = 0; i < threads; i++) lookups.add(() -> {
+                barrier.await();
+                return manager.getClientProfilePairs(ior, BIDIR);
+            });
+            for (Future<Vector<ClientProfilePair>> f : executor.invokeAll(lookups)) results.add(f.get());
+            Client client = clientOf(results.get(0));
+            for (Vector<ClientProfilePair> pairs : results) assertThat(clientOf(pairs), sameInstance(client));
+        } finally {
+            executor.shutdown();
+            for (Vector<ClientProfilePair> pairs : results) release(manager, pairs);
+        }
+    }
+
+    private static ClientManager clientManager(ORB orb) {
+        return ((ORB_impl) orb)._OB_ORBInstance().getClientManager();
+    }
+
+    private static IOR iorOf(Object stub) {
+        return ((Delegate) ((ObjectImpl) stub)._get_delegate())._OB_IOR();
+    }
+
+    /** Get the single client that all the pairs share */
+    private static Client clientOf(Vector<ClientProfilePair> pairs) {
+        Client client = pairs.get(0).client;
+        for (ClientProfilePair pair : pairs) assertThat(pair.client, sameInstance(client));
+        return client;
+    }
+
+    private static void release(ClientManager manager, Vector<ClientProfilePair> pairs) {
+        for (ClientProfilePair pair : pairs) manager.releaseClient(pair.client);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OB;
+
+import acme.RemoteFunction;
+import org.apache.yoko.util.concurrent.VirtualThreads;
+import org.junit.jupiter.api.Test;
+import testify.iiop.annotation.ConfigureOrb;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+import testify.iiop.annotation.ConfigureServer.RemoteStub;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// virtual threads are used where supported, otherwise the ORB falls back to platform threads
+@ConfigureServer(
+        serverOrb = @ConfigureOrb(props = "yoko.orb.virtual_threads=true"),
+        clientOrb = @ConfigureOrb(props = "yoko.orb.virtual_threads=true"))
+public class TestVirtualThreads {
+    interface ThreadName extends RemoteFunction<String, String> {}
+
+    @RemoteImpl
+    public static final ThreadName IMPL = s -> s + Thread.currentThread();
+    @RemoteStub
+    public static ThreadName stub;
+
+    @Test
+    void testCallsSucceed() throws Exception {
+        for (int i = 0; i < 10; i++) assertThat(stub.apply("call " + i + " on "), startsWith("call " + i + " on "));
+    }
+
+    @Test
+    void testDispatchOnVirtualThread() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+        assertThat(stub.apply(""), startsWith("VirtualThread["));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.orb.OCI.IIOP;
+
+import acme.Echo;
+import org.junit.jupiter.api.Test;
+import testify.iiop.annotation.ConfigureOrb;
+import testify.iiop.annotation.ConfigureServer;
+import testify.iiop.annotation.ConfigureServer.RemoteImpl;
+import testify.iiop.annotation.ConfigureServer.RemoteStub;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ConfigureServer(
+        serverOrb = @ConfigureOrb(props = "yoko.iiop.transport=nio"),
+        clientOrb = @ConfigureOrb(props = "yoko.iiop.transport=nio"))
+public class NioTransportTest {
+    @RemoteImpl
+    public static final Echo IMPL = s -> s;
+    @RemoteStub
+    public static Echo stub;
+
+    @Test
+    void testSmallMessages() throws Exception {
+        for (int i = 0; i < 100; i++) assertThat(stub.echo("hello " + i), equalTo("hello " + i));
+    }
+
+    @Test
+    void testLargeMessage() throws Exception {
+        // big enough to need several reads from the channel
+        final String payload = IntStream.range(0, 1 << 20).mapToObj(i -> "" + (char)('a' + i % 26)).collect(Collectors.joining());
+        assertThat(stub.echo(payload), equalTo(payload));
+    }
+
+    @Test
+    void testConcurrentRequests() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<String>> calls = IntStream.range(0, 200)
+                    .mapToObj(i -> (Callable<String>) () -> stub.echo("call " + i))
+                    .collect(Collectors.toList());
+            final List<Future<String>> results = executor.invokeAll(calls);
+            for (int i = 0; i < results.size(); i++) assertThat(results.get(i).get(), equalTo("call " + i));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
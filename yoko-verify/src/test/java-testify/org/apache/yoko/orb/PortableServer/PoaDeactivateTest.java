@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 IBM Corporation and others.
+ * Copyright 2026 IBM Corporation and others.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,11 +20,18 @@ package org.apache.yoko.orb.PortableServer;
 import org.junit.jupiter.api.Test;
 import org.omg.CORBA.OBJECT_NOT_EXIST;
 import org.omg.CORBA.ORB;
+import org.omg.CORBA.Request;
 import org.omg.CORBA.SystemException;
 import org.omg.PortableServer.POA;
 import test.poa.TestPOA;
 import testify.iiop.annotation.ConfigureOrb;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -70,6 +77,51 @@ public class PoaDeactivateTest {
         rootPoa.deactivate_object(oid);
     }
 
+    // In this test several threads keep invoking the object through the
+    // request path while it is repeatedly deactivated and reactivated.
+    // Each call should either complete or raise OBJECT_NOT_EXIST, and
+    // every deactivation should complete once its requests have finished.
+    @Test
+    public void testConcurrentDeactivateAndInvoke(ORB orb, POA rootPoa) throws Exception {
+        test.poa.Test_impl impl = new test.poa.Test_impl(orb, "", false);
+        test.poa.Test t = impl._this(orb);
+        byte[] oid = rootPoa.servant_to_id(impl);
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicInteger completed = new AtomicInteger();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread caller = new Thread(() -> {
+                while (!stop.get()) {
+                    try {
+                        Request request = t._request("aMethod");
+                        request.invoke();
+                        Exception ex = request.env().exception();
+                        if (ex == null) completed.incrementAndGet();
+                        else if (!(ex instanceof OBJECT_NOT_EXIST)) failures.add(ex);
+                    } catch (OBJECT_NOT_EXIST ignored) {
+                    } catch (Throwable ex) {
+                        failures.add(ex);
+                    }
+                }
+            });
+            caller.start();
+            callers.add(caller);
+        }
+        try {
+            for (long end = System.currentTimeMillis() + 2000; System.currentTimeMillis() < end; ) {
+                rootPoa.deactivate_object(oid);
+                rootPoa.activate_object_with_id(oid, impl);
+            }
+        } finally {
+            stop.set(true);
+            for (Thread caller : callers) caller.join();
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertTrue(completed.get() > 0);
+        rootPoa.deactivate_object(oid);
+    }
+
     final static class Test_impl1 extends TestPOA {
         private final POA poa;
         private boolean called = false;
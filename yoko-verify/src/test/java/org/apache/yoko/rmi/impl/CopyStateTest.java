@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class CopyStateTest {
+    static final class Money implements Serializable {
+        final long cents;
+        final String currency;
+        final Money change;
+        Money(long cents, String currency, Money change) { this.cents = cents; this.currency = currency; this.change = change; }
+    }
+
+    static final class Holder implements Serializable {
+        final List<String> items = new ArrayList<>();
+    }
+
+    enum Color { RED, GREEN { } }
+
+    static class Node implements Serializable {
+        int value;
+        Node next;
+        Color color = Color.GREEN;
+        int[] numbers = {1, 2};
+        Money money = new Money(5, "EUR", null);
+        transient int scratch;
+    }
+
+    static class SubNode extends Node {
+        long extra = 99;
+    }
+
+    static class Custom implements Serializable {
+        int value = 4;
+        private void writeObject(ObjectOutputStream out) throws IOException { out.defaultWriteObject(); }
+    }
+
+    CopyState state;
+
+    @BeforeEach
+    public void setup() {
+        state = new CopyState(TypeRepository.get());
+    }
+
+    @Test
+    public void testClassification() {
+        assertThat(ImmutableTypes.isImmutableClass(Money.class), is(true));
+        assertThat(ImmutableTypes.isImmutableClass(LocalDate.class), is(true));
+        assertThat(ImmutableTypes.isImmutableClass(Color.GREEN.getClass()), is(true));
+        assertThat(ImmutableTypes.isImmutableType(Color.class), is(true));
+        assertThat(ImmutableTypes.isImmutableClass(Holder.class), is(false));
+        assertThat(ImmutableTypes.isImmutableClass(Node.class), is(false));
+        assertThat(ImmutableTypes.isImmutableClass(String[].class), is(false));
+    }
+
+    @Test
+    public void testImmutablesAreShared() throws Exception {
+        Money money = new Money(1, "USD", new Money(2, "GBP", null));
+        assertThat(state.copy(money), is(sameInstance(money)));
+        assertThat(state.copy(Color.GREEN), is(sameInstance(Color.GREEN)));
+    }
+
+    @Test
+    public void testArrayOfImmutablesIsCopiedShallowly() throws Exception {
+        String[] orig = {"a", "b"};
+        String[] copy = (String[]) state.copy(orig);
+        assertThat(copy, is(not(sameInstance(orig))));
+        assertThat(copy, arrayContaining("a", "b"));
+    }
+
+    @Test
+    public void testFieldsAreCopied() throws Exception {
+        SubNode orig = new SubNode();
+        orig.value = 3;
+        orig.next = orig;
+        orig.scratch = 8;
+        SubNode copy = (SubNode) state.copy(orig);
+        assertThat(copy, is(not(sameInstance(orig))));
+        assertThat(copy.value, is(3));
+        assertThat(copy.extra, is(99L));
+        assertThat(copy.next, is(sameInstance(copy)));
+        assertThat(copy.color, is(Color.GREEN));
+        assertThat(copy.numbers, is(not(sameInstance(orig.numbers))));
+        assertThat(copy.numbers[1], is(2));
+        assertThat(copy.money, is(sameInstance(orig.money)));
+        assertThat(copy.scratch, is(0));
+    }
+
+    @Test
+    public void testCustomSerializationIsStillHonoured() throws Exception {
+        Custom copy = (Custom) state.copy(new Custom());
+        assertThat(copy.value, is(equalTo(4)));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 IBM Corporation and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an \"AS IS\" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.apache.yoko.rmi.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class RepIdCacheTest {
+    static class Base implements Serializable { int x; }
+    static class Derived extends Base { String s; }
+
+    final AtomicInteger computations = new AtomicInteger();
+
+    LongSupplier computing(long value) {
+        return () -> {
+            computations.incrementAndGet();
+            return value;
+        };
+    }
+
+    @Test
+    public void testValuesAreComputedOnce(@TempDir Path dir) {
+        RepIdCache cache = new RepIdCache(dir.resolve("cache"));
+        assertThat(cache.getClassHash(Derived.class, computing(0x8000000000000001L)), is(0x8000000000000001L));
+        assertThat(cache.getClassHash(Derived.class, computing(2)), is(0x8000000000000001L));
+        assertThat(cache.getSerialVersionUid(Derived.class, computing(-5)), is(-5L));
+        assertThat(cache.getSerialVersionUid(Derived.class, computing(6)), is(-5L));
+        assertThat(computations.get(), is(2));
+    }
+
+    @Test
+    public void testValuesSurviveSaveAndLoad(@TempDir Path dir) {
+        Path file = dir.resolve("sub").resolve("cache");
+        RepIdCache cache = new RepIdCache(file);
+        cache.getClassHash(Derived.class, computing(0x8000000000000001L));
+        cache.getSerialVersionUid(Derived.class, computing(-5));
+        cache.getClassHash(Base.class, computing(3));
+        cache.save();
+
+        RepIdCache reloaded = new RepIdCache(file);
+        assertThat(reloaded.size(), is(2));
+        assertThat(reloaded.getClassHash(Derived.class, computing(0)), is(0x8000000000000001L));
+        assertThat(reloaded.getSerialVersionUid(Derived.class, computing(0)), is(-5L));
+        assertThat(reloaded.getClassHash(Base.class, computing(0)), is(3L));
+        assertThat(computations.get(), is(3));
+    }
+
+    @Test
+    public void testClassesWithoutClassFilesAreNotCached(@TempDir Path dir) {
+        Runnable lambda = () -> {};
+        RepIdCache cache = new RepIdCache(dir.resolve("cache"));
+        cache.getClassHash(lambda.getClass(), computing(1));
+        cache.getClassHash(lambda.getClass(), computing(1));
+        assertThat(computations.get(), is(2));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysComputes() {
+        RepIdCache.DISABLED.getClassHash(Derived.class, computing(1));
+        RepIdCache.DISABLED.getClassHash(Derived.class, computing(1));
+        assertThat(computations.get(), is(2));
+    }
+}